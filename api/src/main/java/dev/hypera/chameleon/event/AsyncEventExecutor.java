@@ -0,0 +1,181 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.event;
+
+import dev.hypera.chameleon.event.AsyncEventExecutorImpl.BuilderImpl;
+import dev.hypera.chameleon.event.common.UserEvent;
+import java.util.concurrent.Executor;
+import org.jetbrains.annotations.ApiStatus.NonExtendable;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Asynchronous event executor, a bounded queue in front of an {@link Executor} used to run
+ * asynchronous event dispatches and asynchronous subscribers.
+ */
+@NonExtendable
+public interface AsyncEventExecutor extends Executor {
+
+    /**
+     * Default maximum amount of queued tasks.
+     */
+    int DEFAULT_QUEUE_CAPACITY = 8192;
+
+    /**
+     * Create a new asynchronous event executor builder.
+     *
+     * @return new builder.
+     */
+    static @NotNull Builder builder() {
+        return new BuilderImpl();
+    }
+
+    /**
+     * Execute a task for the given event.
+     * <p>If this executor is ordered, tasks for events with the same order key are run one at a
+     * time, in the order they were submitted, while tasks for different keys run in parallel.
+     * Otherwise, this is equivalent to {@link #execute(Runnable)}.</p>
+     *
+     * @param event Event the task belongs to.
+     * @param task  Task.
+     *
+     * @see Builder#orderedBy(EventKey)
+     */
+    void execute(@NotNull ChameleonEvent event, @NotNull Runnable task);
+
+    /**
+     * Returns the amount of tasks currently waiting in the queue.
+     * <p>This includes the tasks waiting in the mailbox of their order key.</p>
+     *
+     * @return queue size.
+     */
+    int getQueueSize();
+
+    /**
+     * Returns the maximum amount of tasks that can wait in the queue.
+     *
+     * @return queue capacity.
+     */
+    int getQueueCapacity();
+
+    /**
+     * Returns the policy used when the queue is full.
+     *
+     * @return overflow policy.
+     */
+    @NotNull OverflowPolicy getOverflowPolicy();
+
+    /**
+     * Returns the amount of tasks that have been dropped because the queue was full.
+     *
+     * @return dropped task count.
+     */
+    long getDroppedCount();
+
+
+    /**
+     * Asynchronous event executor builder.
+     */
+    @NonExtendable
+    interface Builder {
+
+        /**
+         * Set the executor that queued tasks are run on.
+         * <p>Defaults to {@link java.util.concurrent.ForkJoinPool#commonPool()}.</p>
+         *
+         * @param executor Executor.
+         *
+         * @return {@code this}.
+         */
+        @Contract("_ -> this")
+        @NotNull Builder executor(@NotNull Executor executor);
+
+        /**
+         * Set the maximum amount of tasks that may run at the same time.
+         * <p>Defaults to the amount of available processors.</p>
+         *
+         * @param parallelism Maximum amount of concurrently running tasks.
+         *
+         * @return {@code this}.
+         */
+        @Contract("_ -> this")
+        @NotNull Builder parallelism(int parallelism);
+
+        /**
+         * Set the maximum amount of tasks that can wait in the queue.
+         * <p>Defaults to {@value #DEFAULT_QUEUE_CAPACITY}.</p>
+         *
+         * @param queueCapacity Queue capacity.
+         *
+         * @return {@code this}.
+         */
+        @Contract("_ -> this")
+        @NotNull Builder queueCapacity(int queueCapacity);
+
+        /**
+         * Set the policy used when the queue is full.
+         * <p>Defaults to {@link OverflowPolicy#CALLER_RUNS}.</p>
+         *
+         * @param overflowPolicy Overflow policy.
+         *
+         * @return {@code this}.
+         */
+        @Contract("_ -> this")
+        @NotNull Builder overflowPolicy(@NotNull OverflowPolicy overflowPolicy);
+
+        /**
+         * Run tasks for events with the same order key one at a time, in submission order.
+         * <p>Each key with pending tasks gets a lightweight mailbox that is drained by the shared
+         * workers, and removed as soon as it is empty, so idle keys cost nothing. Events the key
+         * extracts {@code null} from are not ordered.</p>
+         *
+         * @param orderKey Order key.
+         *
+         * @return {@code this}.
+         */
+        @Contract("_ -> this")
+        @NotNull Builder orderedBy(@NotNull EventKey<ChameleonEvent, ?> orderKey);
+
+        /**
+         * Run tasks for the events of the same user one at a time, in submission order.
+         *
+         * @return {@code this}.
+         * @see #orderedBy(EventKey)
+         */
+        @Contract("-> this")
+        default @NotNull Builder orderedByUser() {
+            return orderedBy(event -> event instanceof UserEvent ? UserEvent.USER_ID.extract((UserEvent) event) : null);
+        }
+
+        /**
+         * Build asynchronous event executor.
+         *
+         * @return new asynchronous event executor.
+         */
+        @Contract(value = "-> new", pure = true)
+        @NotNull AsyncEventExecutor build();
+
+    }
+
+}
@@ -0,0 +1,452 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.event;
+
+import dev.hypera.chameleon.util.Preconditions;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import org.jetbrains.annotations.ApiStatus.Internal;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Asynchronous event executor implementation.
+ * <p>Tasks are queued and drained by at most {@code parallelism} workers running on the
+ * underlying executor. Every pending task, including the tasks waiting in a mailbox, counts
+ * against {@code queueCapacity}, so a burst of events can never queue more than
+ * {@code queueCapacity} tasks.</p>
+ * <p>If an order key is set, tasks for the same key are collected in a mailbox which is queued as
+ * a single task, so they run one at a time without holding a worker while the key is idle.</p>
+ */
+@Internal
+final class AsyncEventExecutorImpl implements AsyncEventExecutor {
+
+    private static final int MAILBOX_BATCH_SIZE = 64;
+
+    private final @NotNull Executor executor;
+    private final int parallelism;
+    private final int queueCapacity;
+    private final @NotNull OverflowPolicy overflowPolicy;
+    private final @Nullable EventKey<ChameleonEvent, ?> orderKey;
+
+    // Capacity is enforced by the pending count, so queueing a mailbox never blocks a worker.
+    private final @NotNull Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+    private final @NotNull AtomicInteger pending = new AtomicInteger();
+    private final @NotNull ReentrantLock lock = new ReentrantLock();
+    private final @NotNull Condition notFull = this.lock.newCondition();
+    private final @NotNull Map<Object, Mailbox> mailboxes = new ConcurrentHashMap<>();
+    private final @NotNull AtomicInteger workers = new AtomicInteger();
+    private final @NotNull AtomicLong dropped = new AtomicLong();
+
+    AsyncEventExecutorImpl(@NotNull Executor executor, int parallelism, int queueCapacity, @NotNull OverflowPolicy overflowPolicy, @Nullable EventKey<ChameleonEvent, ?> orderKey) {
+        this.executor = executor;
+        this.parallelism = parallelism;
+        this.queueCapacity = queueCapacity;
+        this.overflowPolicy = overflowPolicy;
+        this.orderKey = orderKey;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void execute(@NotNull Runnable task) {
+        Preconditions.checkNotNull("task", task);
+        if (!reserve(task, false)) {
+            return;
+        }
+
+        this.queue.add(task);
+        startWorker();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void execute(@NotNull ChameleonEvent event, @NotNull Runnable task) {
+        Preconditions.checkNotNull("event", event);
+        Preconditions.checkNotNull("task", task);
+        Object key = this.orderKey == null ? null : this.orderKey.extract(event);
+        if (key == null) {
+            execute(task);
+            return;
+        }
+        if (!reserve(task, true)) {
+            return;
+        }
+
+        Mailbox mailbox = this.mailboxes.compute(key, (k, existing) -> {
+            Mailbox target = existing == null ? new Mailbox(k) : existing;
+            target.tasks.add(task);
+            return target;
+        });
+        // Only the submitter that created the mailbox schedules it, the mailbox reschedules itself
+        // until it is empty.
+        if (mailbox.scheduled.compareAndSet(false, true)) {
+            this.queue.add(mailbox);
+            startWorker();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getQueueSize() {
+        return this.pending.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getQueueCapacity() {
+        return this.queueCapacity;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull OverflowPolicy getOverflowPolicy() {
+        return this.overflowPolicy;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getDroppedCount() {
+        return this.dropped.get();
+    }
+
+    /**
+     * Reserve space for a task, applying the overflow policy if the queue is full.
+     *
+     * @param task  Task to reserve space for.
+     * @param keyed Whether the task will be added to a mailbox.
+     *
+     * @return {@code true} if space was reserved and the task should be queued, otherwise
+     *     {@code false} if the overflow policy has already handled the task.
+     */
+    private boolean reserve(@NotNull Runnable task, boolean keyed) {
+        while (!tryReserve()) {
+            switch (this.overflowPolicy) {
+                case BLOCK:
+                    awaitSpace();
+                    break;
+                case DROP_OLDEST:
+                    if (!dropOldest()) {
+                        // Everything pending belongs to running mailboxes, drop the new task.
+                        drop(task);
+                        return false;
+                    }
+                    break;
+                case CALLER_RUNS:
+                    if (!keyed) {
+                        task.run();
+                        return false;
+                    }
+                    // Running a keyed task here could overtake the tasks queued for its key, so
+                    // help drain the queue instead.
+                    if (!runQueued()) {
+                        this.pending.incrementAndGet();
+                        return true;
+                    }
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown overflow policy: " + this.overflowPolicy);
+            }
+        }
+        return true;
+    }
+
+    private boolean tryReserve() {
+        int current;
+        while ((current = this.pending.get()) < this.queueCapacity) {
+            if (this.pending.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void release() {
+        this.pending.decrementAndGet();
+        if (this.overflowPolicy == OverflowPolicy.BLOCK) {
+            this.lock.lock();
+            try {
+                this.notFull.signal();
+            } finally {
+                this.lock.unlock();
+            }
+        }
+    }
+
+    private void awaitSpace() {
+        this.lock.lock();
+        try {
+            while (this.pending.get() >= this.queueCapacity) {
+                this.notFull.await();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Interrupted while waiting for queue space", ex);
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    private boolean dropOldest() {
+        Runnable oldest = this.queue.poll();
+        if (oldest == null) {
+            return false;
+        }
+
+        if (oldest instanceof Mailbox) {
+            // Only drop the oldest task of the key, the rest of its backlog stays queued.
+            Mailbox mailbox = (Mailbox) oldest;
+            Runnable task = mailbox.poll();
+            if (task != null) {
+                drop(task);
+            }
+            if (this.mailboxes.get(mailbox.key) == mailbox) {
+                this.queue.add(mailbox);
+            }
+            return true;
+        }
+
+        drop(oldest);
+        return true;
+    }
+
+    private boolean runQueued() {
+        Runnable task = this.queue.poll();
+        if (task == null) {
+            return false;
+        }
+
+        if (!(task instanceof Mailbox)) {
+            release();
+        }
+        task.run();
+        return true;
+    }
+
+    private void drop(@NotNull Runnable task) {
+        release();
+        this.dropped.incrementAndGet();
+        if (task instanceof DroppableTask) {
+            ((DroppableTask) task).drop();
+        }
+    }
+
+    private void startWorker() {
+        int current;
+        while ((current = this.workers.get()) < this.parallelism) {
+            if (this.workers.compareAndSet(current, current + 1)) {
+                try {
+                    this.executor.execute(this::drain);
+                } catch (RejectedExecutionException ex) {
+                    this.workers.decrementAndGet();
+                    throw ex;
+                }
+                return;
+            }
+        }
+    }
+
+    private void drain() {
+        try {
+            Runnable task;
+            while ((task = this.queue.poll()) != null) {
+                if (!(task instanceof Mailbox)) {
+                    release();
+                }
+                task.run();
+            }
+        } finally {
+            this.workers.decrementAndGet();
+            // A task may have been queued after our last poll, but before we stopped counting as
+            // a worker, in which case the submitting thread did not start a new worker.
+            if (!this.queue.isEmpty()) {
+                startWorker();
+            }
+        }
+    }
+
+    /**
+     * A task that needs to be notified if it is dropped from the queue.
+     */
+    interface DroppableTask extends Runnable {
+
+        /**
+         * Called when this task has been dropped from the queue, and will never be run.
+         */
+        void drop();
+
+    }
+
+    /**
+     * Mailbox, the pending tasks for a single order key.
+     * <p>Tasks are only accessed inside {@link Map#compute} calls for the mailbox key, which are
+     * mutually exclusive, and the mailbox is removed from the map in the same call that finds it
+     * empty. Mailbox tasks count against the queue capacity until they are polled.</p>
+     */
+    private final class Mailbox implements Runnable {
+
+        private final @NotNull Object key;
+        private final @NotNull Queue<Runnable> tasks = new ArrayDeque<>();
+        private final @NotNull AtomicBoolean scheduled = new AtomicBoolean();
+
+        private Mailbox(@NotNull Object key) {
+            this.key = key;
+        }
+
+        @Override
+        public void run() {
+            for (int i = 0; i < MAILBOX_BATCH_SIZE; i++) {
+                Runnable task = poll();
+                if (task == null) {
+                    return;
+                }
+                release();
+
+                try {
+                    task.run();
+                } catch (RuntimeException | Error ex) {
+                    // Keep draining the remaining tasks, the worker will report the exception.
+                    reschedule();
+                    throw ex;
+                }
+            }
+
+            // Give other keys a chance to run before continuing with this one.
+            reschedule();
+        }
+
+        private @Nullable Runnable poll() {
+            Runnable[] next = new Runnable[1];
+            AsyncEventExecutorImpl.this.mailboxes.computeIfPresent(this.key, (k, mailbox) -> {
+                next[0] = mailbox.tasks.poll();
+                return next[0] == null ? null : mailbox;
+            });
+            return next[0];
+        }
+
+        private void reschedule() {
+            // Never blocks, the mailbox's tasks have already been counted against the capacity.
+            if (AsyncEventExecutorImpl.this.mailboxes.get(this.key) == this) {
+                AsyncEventExecutorImpl.this.queue.add(this);
+                startWorker();
+            }
+        }
+
+    }
+
+    static final class BuilderImpl implements Builder {
+
+        private @NotNull Executor executor = ForkJoinPool.commonPool();
+        private int parallelism = Runtime.getRuntime().availableProcessors();
+        private int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+        private @NotNull OverflowPolicy overflowPolicy = OverflowPolicy.CALLER_RUNS;
+        private @Nullable EventKey<ChameleonEvent, ?> orderKey;
+
+        BuilderImpl() {
+
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public @NotNull Builder executor(@NotNull Executor executor) {
+            Preconditions.checkNotNull("executor", executor);
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public @NotNull Builder parallelism(int parallelism) {
+            Preconditions.checkArgument(parallelism > 0, "parallelism must be greater than 0");
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public @NotNull Builder queueCapacity(int queueCapacity) {
+            Preconditions.checkArgument(queueCapacity > 0, "queueCapacity must be greater than 0");
+            this.queueCapacity = queueCapacity;
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public @NotNull Builder overflowPolicy(@NotNull OverflowPolicy overflowPolicy) {
+            Preconditions.checkNotNull("overflowPolicy", overflowPolicy);
+            this.overflowPolicy = overflowPolicy;
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public @NotNull Builder orderedBy(@NotNull EventKey<ChameleonEvent, ?> orderKey) {
+            Preconditions.checkNotNull("orderKey", orderKey);
+            this.orderKey = orderKey;
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public @NotNull AsyncEventExecutor build() {
+            return new AsyncEventExecutorImpl(this.executor, this.parallelism, this.queueCapacity, this.overflowPolicy, this.orderKey);
+        }
+
+    }
+
+}
@@ -0,0 +1,89 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.event;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.jetbrains.annotations.ApiStatus.Internal;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Blocking subscriber executor, runs {@link EventSubscriber#isBlocking() blocking} subscribers.
+ * <p>On runtimes with virtual threads every invocation gets its own virtual thread, so blocking
+ * calls only hold on to a carrier thread while they are running. Older runtimes fall back to a
+ * bounded pool of daemon platform threads, which rejects invocations once its queue is full.</p>
+ */
+@Internal
+final class BlockingSubscriberExecutor {
+
+    private static final int FALLBACK_THREADS = Math.max(8, Runtime.getRuntime().availableProcessors() * 4);
+    private static final int FALLBACK_QUEUE_CAPACITY = 1024;
+
+    private BlockingSubscriberExecutor() {
+        throw new UnsupportedOperationException("BlockingSubscriberExecutor is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Returns the shared blocking subscriber executor, creating it on first use.
+     *
+     * @return blocking subscriber executor.
+     */
+    static @NotNull Executor get() {
+        return Holder.EXECUTOR;
+    }
+
+    private static @NotNull ExecutorService create() {
+        try {
+            // Looked up reflectively as virtual threads are not available on the runtime we target.
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException ex) {
+            AtomicInteger count = new AtomicInteger();
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                FALLBACK_THREADS, FALLBACK_THREADS, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(FALLBACK_QUEUE_CAPACITY),
+                task -> {
+                    Thread thread = new Thread(task, "Chameleon Blocking Subscriber #" + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            );
+            executor.allowCoreThreadTimeOut(true);
+            return executor;
+        }
+    }
+
+    private static final class Holder {
+
+        private static final @NotNull ExecutorService EXECUTOR = create();
+
+    }
+
+}
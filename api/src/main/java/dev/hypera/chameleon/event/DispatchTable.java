@@ -0,0 +1,264 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.event;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import org.jetbrains.annotations.ApiStatus.Internal;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Dispatch table, an immutable priority-ordered snapshot of the subscribers for a single event
+ * type.
+ * <p>Keyed subscribers are stored in a hash index per event key, so selecting the subscribers for
+ * an event only touches the unkeyed subscribers and the keyed subscribers whose key matches.</p>
+ */
+@Internal
+final class DispatchTable {
+
+    static final @NotNull DispatchTable EMPTY = new DispatchTable(newArray(0), Slice.EMPTY, new KeyIndex[0]);
+
+    private final @NotNull EventSubscriber<? super ChameleonEvent>[] subscribers;
+    private final @NotNull Slice unkeyed;
+    private final @NotNull KeyIndex[] keys;
+
+    private DispatchTable(@NotNull EventSubscriber<? super ChameleonEvent>[] subscribers, @NotNull Slice unkeyed, @NotNull KeyIndex[] keys) {
+        this.subscribers = subscribers;
+        this.unkeyed = unkeyed;
+        this.keys = keys;
+    }
+
+    /**
+     * Create a new dispatch table from the given priority-ordered subscribers.
+     *
+     * @param subscribers Sorted subscribers.
+     *
+     * @return new dispatch table.
+     */
+    static @NotNull DispatchTable of(@NotNull List<EventSubscriber<? super ChameleonEvent>> subscribers) {
+        if (subscribers.isEmpty()) {
+            return EMPTY;
+        }
+
+        SliceBuilder unkeyed = new SliceBuilder();
+        Map<EventKey<?, ?>, Map<Object, SliceBuilder>> keyed = new LinkedHashMap<>();
+        for (int position = 0; position < subscribers.size(); position++) {
+            EventSubscriber<? super ChameleonEvent> subscriber = subscribers.get(position);
+            EventKey<?, ?> key = subscriber.getKey();
+            Object value = subscriber.getKeyValue();
+            if (key == null || value == null) {
+                unkeyed.add(subscriber, position);
+            } else {
+                keyed.computeIfAbsent(key, k -> new HashMap<>())
+                    .computeIfAbsent(value, v -> new SliceBuilder())
+                    .add(subscriber, position);
+            }
+        }
+
+        KeyIndex[] keys = new KeyIndex[keyed.size()];
+        int i = 0;
+        for (Entry<EventKey<?, ?>, Map<Object, SliceBuilder>> entry : keyed.entrySet()) {
+            Map<Object, Slice> index = new HashMap<>(entry.getValue().size() * 2);
+            entry.getValue().forEach((value, builder) -> index.put(value, builder.build()));
+            keys[i++] = new KeyIndex(entry.getKey(), index);
+        }
+
+        return new DispatchTable(subscribers.toArray(newArray(subscribers.size())), unkeyed.build(), keys);
+    }
+
+    /**
+     * Returns the subscribers in this table that should be given the given event, in dispatch
+     * order.
+     *
+     * @param event Event to select subscribers for.
+     *
+     * @return selected subscribers.
+     */
+    @NotNull Slice select(@NotNull ChameleonEvent event) {
+        Slice selected = this.unkeyed;
+        for (KeyIndex key : this.keys) {
+            Slice matched = key.lookup(event);
+            if (matched != null) {
+                selected = selected.merge(matched);
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * Returns every subscriber in this table, keyed or not, in dispatch order.
+     * <p>The returned array must not be modified.</p>
+     *
+     * @return subscribers.
+     */
+    @NotNull EventSubscriber<? super ChameleonEvent>[] getSubscribers() {
+        return this.subscribers;
+    }
+
+    /**
+     * Returns whether this table contains keyed subscribers, in which case the subscribers
+     * selected for an event depend on the event.
+     *
+     * @return {@code true} if this table contains keyed subscribers, otherwise {@code false}.
+     */
+    boolean isKeyed() {
+        return this.keys.length > 0;
+    }
+
+    /**
+     * Returns whether this table has no subscribers.
+     *
+     * @return {@code true} if this table is empty, otherwise {@code false}.
+     */
+    boolean isEmpty() {
+        return this.subscribers.length == 0;
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static @NotNull EventSubscriber<? super ChameleonEvent>[] newArray(int size) {
+        return new EventSubscriber[size];
+    }
+
+    /**
+     * Key index, maps the keys extracted by an event key to the subscribers interested in them.
+     */
+    private static final class KeyIndex {
+
+        private final @NotNull EventKey<ChameleonEvent, ?> key;
+        private final @NotNull Map<Object, Slice> index;
+
+        @SuppressWarnings("unchecked")
+        private KeyIndex(@NotNull EventKey<?, ?> key, @NotNull Map<Object, Slice> index) {
+            // Keyed subscribers are only stored in tables for subtypes of their event type.
+            this.key = (EventKey<ChameleonEvent, ?>) key;
+            this.index = index;
+        }
+
+        private @Nullable Slice lookup(@NotNull ChameleonEvent event) {
+            Object value = this.key.extract(event);
+            return value == null ? null : this.index.get(value);
+        }
+
+    }
+
+    /**
+     * Slice, a priority-ordered run of subscribers along with their positions in the full table.
+     */
+    static final class Slice {
+
+        private static final @NotNull Slice EMPTY = new Slice(newArray(0), new int[0]);
+
+        private final @NotNull EventSubscriber<? super ChameleonEvent>[] subscribers;
+        private final int[] positions;
+        private final int lastAcceptingCancelled;
+
+        private Slice(@NotNull EventSubscriber<? super ChameleonEvent>[] subscribers, int[] positions) {
+            this.subscribers = subscribers;
+            this.positions = positions;
+
+            int last = -1;
+            for (int i = 0; i < subscribers.length; i++) {
+                if (subscribers[i].acceptsCancelled()) {
+                    last = i;
+                }
+            }
+            this.lastAcceptingCancelled = last;
+        }
+
+        /**
+         * Returns the subscribers in this slice, in dispatch order.
+         * <p>The returned array must not be modified.</p>
+         *
+         * @return subscribers.
+         */
+        @NotNull EventSubscriber<? super ChameleonEvent>[] getSubscribers() {
+            return this.subscribers;
+        }
+
+        /**
+         * Returns the index of the last subscriber in this slice that accepts cancelled events.
+         * <p>Once an event has been cancelled, no subscriber after this index needs to be given
+         * it.</p>
+         *
+         * @return index of the last subscriber accepting cancelled events, or {@code -1} if no
+         *     subscriber in this slice accepts cancelled events.
+         */
+        int getLastAcceptingCancelled() {
+            return this.lastAcceptingCancelled;
+        }
+
+        private @NotNull Slice merge(@NotNull Slice other) {
+            if (this.subscribers.length == 0) {
+                return other;
+            }
+
+            int length = this.subscribers.length + other.subscribers.length;
+            EventSubscriber<? super ChameleonEvent>[] subscribers = newArray(length);
+            int[] positions = new int[length];
+            int left = 0;
+            int right = 0;
+            for (int i = 0; i < length; i++) {
+                boolean takeLeft = right >= other.positions.length
+                    || (left < this.positions.length && this.positions[left] < other.positions[right]);
+                if (takeLeft) {
+                    subscribers[i] = this.subscribers[left];
+                    positions[i] = this.positions[left++];
+                } else {
+                    subscribers[i] = other.subscribers[right];
+                    positions[i] = other.positions[right++];
+                }
+            }
+            return new Slice(subscribers, positions);
+        }
+
+    }
+
+    private static final class SliceBuilder {
+
+        private final @NotNull List<EventSubscriber<? super ChameleonEvent>> subscribers = new ArrayList<>();
+        private final @NotNull List<Integer> positions = new ArrayList<>();
+
+        private void add(@NotNull EventSubscriber<? super ChameleonEvent> subscriber, int position) {
+            this.subscribers.add(subscriber);
+            this.positions.add(position);
+        }
+
+        private @NotNull Slice build() {
+            if (this.subscribers.isEmpty()) {
+                return Slice.EMPTY;
+            }
+            return new Slice(
+                this.subscribers.toArray(newArray(this.subscribers.size())),
+                this.positions.stream().mapToInt(Integer::intValue).toArray()
+            );
+        }
+
+    }
+
+}
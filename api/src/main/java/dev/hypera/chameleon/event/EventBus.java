@@ -23,7 +23,14 @@
  */
 package dev.hypera.chameleon.event;
 
+import dev.hypera.chameleon.event.common.UserChatEventPool;
+import java.lang.invoke.MethodHandles;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
+import org.jetbrains.annotations.ApiStatus.Internal;
 import org.jetbrains.annotations.ApiStatus.NonExtendable;
 import org.jetbrains.annotations.NotNull;
 
@@ -41,6 +48,34 @@ public interface EventBus {
      */
     void dispatch(@NotNull ChameleonEvent event);
 
+    /**
+     * Dispatch a batch of events to subscribers.
+     * <p>Events are grouped by type, and the subscribers for each type are resolved once. Each
+     * subscriber is then given every event of the batch it should receive at once, through
+     * {@link EventSubscriber#onBatch(List)}, in priority order. Events of different types are
+     * dispatched one type at a time, in the order each type first appears in the batch.</p>
+     * <p>Asynchronous subscribers are given their batch as a single task, which is not ordered
+     * by the asynchronous event executor's order key.</p>
+     *
+     * @param events The events to be dispatched.
+     */
+    void dispatchAll(@NotNull Collection<? extends ChameleonEvent> events);
+
+    /**
+     * Dispatch an event to subscribers asynchronously, using the asynchronous event executor.
+     * <p>All subscribers, including asynchronous subscribers, are executed in priority order on
+     * the same executor thread. The returned future is completed once every subscriber has been
+     * executed, and is completed exceptionally if the dispatch was rejected or dropped by the
+     * executor.</p>
+     *
+     * @param event The event to be dispatched.
+     * @param <E>   The event type.
+     *
+     * @return a future completed with the dispatched event.
+     * @see #setAsyncExecutor(AsyncEventExecutor)
+     */
+    <E extends ChameleonEvent> @NotNull CompletableFuture<E> dispatchAsync(@NotNull E event);
+
     /**
      * Register the given subscriber.
      *
@@ -63,6 +98,61 @@ public interface EventBus {
      */
     <T extends ChameleonEvent> @NotNull EventSubscription subscribe(@NotNull EventSubscriber<T> subscriber);
 
+    /**
+     * Register every {@link dev.hypera.chameleon.event.annotations.Subscribe} method of the given
+     * listener as an event subscriber.
+     * <p>Listener classes are only scanned once, further registrations of the same class reuse
+     * the previously linked methods.</p>
+     *
+     * @param listener The listener instance.
+     *
+     * @return an event subscription that unregisters every subscriber of this listener.
+     * @throws IllegalArgumentException if a subscriber method has an invalid signature.
+     */
+    @NotNull EventSubscription register(@NotNull Object listener);
+
+    /**
+     * Register every {@link dev.hypera.chameleon.event.annotations.Subscribe} method of the given
+     * listener as an event subscriber, linking the methods with the given lookup.
+     * <p>Listener classes loaded by another class loader than Chameleon can only be linked into
+     * direct invokers with a lookup that has full privilege access in the listener class, for
+     * example {@code MethodHandles.lookup()} called from the listener's own code. Without one they
+     * are invoked through slower method handles.</p>
+     *
+     * @param listener The listener instance.
+     * @param lookup   The lookup used to link the listener methods.
+     *
+     * @return an event subscription that unregisters every subscriber of this listener.
+     * @throws IllegalArgumentException if a subscriber method has an invalid signature.
+     * @see #register(Object)
+     */
+    @NotNull EventSubscription register(@NotNull Object listener, @NotNull MethodHandles.Lookup lookup);
+
+    /**
+     * Returns the event scope of the given owner, creating it if needed.
+     * <p>Subscriptions made through the scope can be removed together using
+     * {@link EventScope#close()}, which only touches the subscriptions of that scope. The scope
+     * holds a strong reference to the owner until it is closed.</p>
+     *
+     * @param owner Scope owner, for example a plugin or extension instance.
+     *
+     * @return event scope.
+     */
+    @NotNull EventScope scope(@NotNull Object owner);
+
+    /**
+     * Returns the weak event scope of the given owner, creating it if needed.
+     * <p>Unlike {@link #scope(Object)}, the scope only holds a weak reference to the owner, and
+     * is closed automatically once the owner has been garbage collected. Subscribers registered
+     * through a weak scope must not strongly reference the owner, otherwise it can never be
+     * collected.</p>
+     *
+     * @param owner Scope owner.
+     *
+     * @return weak event scope.
+     */
+    @NotNull EventScope weakScope(@NotNull Object owner);
+
     /**
      * Determines whether the given event has been subscribed to.
      *
@@ -72,6 +162,23 @@ public interface EventBus {
      */
     boolean subscribed(@NotNull Class<? extends ChameleonEvent> event);
 
+    /**
+     * Watch whether the given event has been subscribed to.
+     * <p>The callback is called immediately with the current state, then every time the result
+     * of {@link #subscribed(Class)} for the event changes. It is called by the thread making the
+     * subscription change once the change has been made, so it may subscribe and unsubscribe.
+     * When changes race, intermediate states may be skipped but the last state is always
+     * delivered.</p>
+     * <p>This is used by platforms to only listen to platform events that have subscribers.</p>
+     *
+     * @param event    The event type.
+     * @param callback Callback accepting whether the event has subscribers.
+     *
+     * @return subscription stopping the watch when unsubscribed.
+     */
+    @Internal
+    @NotNull EventSubscription watch(@NotNull Class<? extends ChameleonEvent> event, @NotNull Consumer<Boolean> callback);
+
     /**
      * Unregister subscribers matching the given predicate.
      *
@@ -79,4 +186,39 @@ public interface EventBus {
      */
     void unsubscribeIf(@NotNull Predicate<EventSubscriber<? super ChameleonEvent>> predicate);
 
+    /**
+     * Returns the executor used for asynchronous dispatches and asynchronous subscribers.
+     *
+     * @return asynchronous event executor.
+     */
+    @NotNull AsyncEventExecutor getAsyncExecutor();
+
+    /**
+     * Set the executor used for asynchronous dispatches and asynchronous subscribers.
+     * <p>Tasks that have already been submitted to the previous executor will still be executed
+     * by it.</p>
+     *
+     * @param executor Asynchronous event executor.
+     */
+    void setAsyncExecutor(@NotNull AsyncEventExecutor executor);
+
+    /**
+     * Returns the metrics of this event bus.
+     * <p>Metrics are disabled by default, and must be enabled with
+     * {@link EventBusMetrics#setEnabled(boolean)} before anything is recorded.</p>
+     *
+     * @return event bus metrics.
+     */
+    @NotNull EventBusMetrics getMetrics();
+
+    /**
+     * Returns the chat event pool of this event bus.
+     * <p>Pooling is disabled by default, and only changes the lifetime of the chat events
+     * dispatched on this event bus once enabled with
+     * {@link UserChatEventPool#setEnabled(boolean)}.</p>
+     *
+     * @return chat event pool.
+     */
+    @NotNull UserChatEventPool getUserChatEventPool();
+
 }
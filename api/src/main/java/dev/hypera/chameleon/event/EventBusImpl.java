@@ -23,23 +23,49 @@
  */
 package dev.hypera.chameleon.event;
 
+import dev.hypera.chameleon.event.common.UserChatEventPool;
 import dev.hypera.chameleon.logger.ChameleonLogger;
 import dev.hypera.chameleon.util.Preconditions;
+import java.lang.invoke.MethodHandles;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import org.jetbrains.annotations.ApiStatus.Internal;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Event bus implementation.
+ * <p>Subscribers are stored per registered type and resolved into immutable, priority-ordered
+ * {@link DispatchTable}s keyed by the concrete event class. Dispatch only ever reads a published
+ * table, while subscribing or unsubscribing rebuilds nothing eagerly and only drops the tables of
+ * event types that are affected by the change.</p>
  */
 @Internal
 public final class EventBusImpl implements EventBus {
@@ -47,8 +73,33 @@ public final class EventBusImpl implements EventBus {
     private static final @NotNull Comparator<EventSubscriber<? super ChameleonEvent>> PRIORITY_COMPARATOR = Comparator.comparingInt(e -> e.getPriority().ordinal());
 
     private final @NotNull ChameleonLogger logger;
-    private final @NotNull Map<Class<? extends ChameleonEvent>, Set<EventSubscriber<? super ChameleonEvent>>> subscriptions = new ConcurrentHashMap<>();
-    private final @NotNull Map<Class<? extends ChameleonEvent>, List<EventSubscriber<? super ChameleonEvent>>> sortedSubscriptions = new ConcurrentHashMap<>();
+    private final @NotNull Object lock = new Object();
+    // Guarded by lock, sets are kept in registration order.
+    private final @NotNull Map<Class<? extends ChameleonEvent>, Set<Registration>> subscriptions = new LinkedHashMap<>();
+    // Written while holding lock, read without it. The number of active registrations of every
+    // subscriber, so metrics can check a subscriber is still subscribed without the lock.
+    private final @NotNull Map<EventSubscriber<?>, Integer> registered = new ConcurrentHashMap<>();
+    private final @NotNull Map<Class<? extends ChameleonEvent>, DispatchTable> dispatchTables = new ConcurrentHashMap<>();
+    // Guarded by lock.
+    private final @NotNull IdentityHashMap<Object, ScopeImpl> scopes = new IdentityHashMap<>();
+    // Guarded by lock.
+    private final @NotNull Map<OwnerReference, ScopeImpl> weakScopes = new HashMap<>();
+    // Guarded by lock.
+    private final @NotNull List<Watcher> watchers = new ArrayList<>();
+    // Guarded by lock, watchers whose state changed and have not been notified yet.
+    private final @NotNull Set<Watcher> pendingWatchers = new LinkedHashSet<>();
+    private final @NotNull ReferenceQueue<Object> collectedOwners = new ReferenceQueue<>();
+    private final @NotNull ClassValue<SubscribedState> subscribedStates = new ClassValue<>() {
+        @Override
+        protected @NotNull SubscribedState computeValue(@NotNull Class<?> type) {
+            return new SubscribedState();
+        }
+    };
+    // Incremented after every subscription change, used to validate subscribed states.
+    private final @NotNull AtomicLong generation = new AtomicLong();
+    private final @NotNull EventBusMetricsImpl metrics;
+    private final @NotNull UserChatEventPool userChatEventPool = new UserChatEventPool();
+    private volatile @NotNull AsyncEventExecutor asyncExecutor = AsyncEventExecutor.builder().build();
 
     /**
      * Event bus implementation constructor.
@@ -58,6 +109,7 @@ public final class EventBusImpl implements EventBus {
     @Internal
     public EventBusImpl(@NotNull ChameleonLogger logger) {
         this.logger = logger;
+        this.metrics = new EventBusMetricsImpl(logger, this::isSubscribed);
     }
 
     /**
@@ -66,57 +118,110 @@ public final class EventBusImpl implements EventBus {
     @Override
     public void dispatch(@NotNull ChameleonEvent event) {
         Preconditions.checkNotNull("event", event);
-        getSubscribers(event.getClass()).iterator().forEachRemaining(subscriber -> {
-            if (subscriber.acceptsCancelled() || !(event instanceof Cancellable) || !((Cancellable) event).isCancelled()) {
-                try {
-                    subscriber.on(event);
-                } catch (Exception ex) {
-                    this.logger.error("An error occurred while dispatching an event to %s", ex, subscriber.getClass().getCanonicalName());
-                }
-            }
-        });
+        fire(event, false);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    @SuppressWarnings("unchecked")
-    public <T extends ChameleonEvent> @NotNull EventSubscription subscribe(@NotNull EventSubscriber<T> subscriber) {
-        Preconditions.checkNotNull("subscriber", subscriber);
-        Preconditions.checkArgument(
-            subscriber.getType() != null,
-            "subscriber does not have a set type, use #subscribe(Class, EventSubscriber) or EventSubscriber#builder instead"
-        );
-
-        this.subscriptions.computeIfAbsent(subscriber.getType(), key -> Collections.synchronizedSet(new HashSet<>())).add((EventSubscriber<ChameleonEvent>) subscriber);
-        this.sortedSubscriptions.clear();
+    public void dispatchAll(@NotNull Collection<? extends ChameleonEvent> events) {
+        Preconditions.checkNotNull("events", events);
+        Map<Class<? extends ChameleonEvent>, List<ChameleonEvent>> eventsByType = new LinkedHashMap<>();
+        for (ChameleonEvent event : events) {
+            Preconditions.checkNotNull("event", event);
+            eventsByType.computeIfAbsent(event.getClass(), type -> new ArrayList<>()).add(event);
+        }
+        eventsByType.forEach(this::fireBatch);
+    }
 
-        EventSubscription subscription = () -> unsubscribeIf(sub -> sub.equals(subscriber));
-        if (subscriber instanceof EventSubscriberImpl) {
-            ((EventSubscriberImpl<T>) subscriber).setSubscription(subscription);
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <E extends ChameleonEvent> @NotNull CompletableFuture<E> dispatchAsync(@NotNull E event) {
+        Preconditions.checkNotNull("event", event);
+        CompletableFuture<E> future = new CompletableFuture<>();
+        retain(event);
+        try {
+            this.asyncExecutor.execute(event, new AsyncDispatchTask<>(event, future));
+        } catch (RejectedExecutionException ex) {
+            future.completeExceptionally(ex);
         }
+        return future;
+    }
 
-        return subscription;
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T extends ChameleonEvent> @NotNull EventSubscription subscribe(@NotNull EventSubscriber<T> subscriber) {
+        return addSubscriber(requireType(subscriber), subscriber, null);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    @SuppressWarnings("unchecked")
     public <T extends ChameleonEvent> @NotNull EventSubscription subscribe(@NotNull Class<T> event, @NotNull EventSubscriber<T> subscriber) {
         Preconditions.checkNotNull("event", event);
         Preconditions.checkNotNull("subscriber", subscriber);
-        this.subscriptions.computeIfAbsent(event, key -> Collections.synchronizedSet(new HashSet<>())).add((EventSubscriber<ChameleonEvent>) subscriber);
-        this.sortedSubscriptions.clear();
+        return addSubscriber(event, subscriber, null);
+    }
 
-        EventSubscription subscription = () -> unsubscribeIf(sub -> sub.equals(subscriber));
-        if (subscriber instanceof EventSubscriberImpl) {
-            ((EventSubscriberImpl<T>) subscriber).setSubscription(subscription);
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull EventSubscription register(@NotNull Object listener) {
+        return addListener(listener, null, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull EventSubscription register(@NotNull Object listener, @NotNull MethodHandles.Lookup lookup) {
+        Preconditions.checkNotNull("lookup", lookup);
+        return addListener(listener, lookup, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull EventScope scope(@NotNull Object owner) {
+        Preconditions.checkNotNull("owner", owner);
+        ScopeImpl scope;
+        synchronized (this.lock) {
+            expungeCollectedOwners();
+            scope = this.scopes.computeIfAbsent(owner, key -> new ScopeImpl(key, null));
         }
+        notifyWatchers();
+        return scope;
+    }
 
-        return subscription;
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull EventScope weakScope(@NotNull Object owner) {
+        Preconditions.checkNotNull("owner", owner);
+        ScopeImpl scope;
+        synchronized (this.lock) {
+            expungeCollectedOwners();
+            OwnerReference reference = new OwnerReference(owner, this.collectedOwners);
+            scope = this.weakScopes.get(reference);
+            if (scope == null) {
+                scope = new ScopeImpl(null, reference);
+                this.weakScopes.put(reference, scope);
+            } else {
+                // Never enqueued, the existing reference is used instead.
+                reference.clear();
+            }
+        }
+        notifyWatchers();
+        return scope;
     }
 
     /**
@@ -125,7 +230,33 @@ public final class EventBusImpl implements EventBus {
     @Override
     public boolean subscribed(@NotNull Class<? extends ChameleonEvent> event) {
         Preconditions.checkNotNull("event", event);
-        return this.subscriptions.entrySet().stream().anyMatch(entry -> entry.getKey().isAssignableFrom(event) && !entry.getValue().isEmpty());
+        SubscribedState state = this.subscribedStates.get(event);
+        long generation = this.generation.get();
+        long stamp = state.stamp;
+        if (stamp >>> 1 == generation) {
+            return (stamp & 1) == 1;
+        }
+
+        boolean subscribed = !getDispatchTable(event).isEmpty();
+        state.stamp = generation << 1 | (subscribed ? 1 : 0);
+        return subscribed;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull EventSubscription watch(@NotNull Class<? extends ChameleonEvent> event, @NotNull Consumer<Boolean> callback) {
+        Preconditions.checkNotNull("event", event);
+        Preconditions.checkNotNull("callback", callback);
+        Watcher watcher = new Watcher(event, callback);
+        synchronized (this.lock) {
+            this.watchers.add(watcher);
+            watcher.subscribed = hasSubscriptions(event);
+            this.pendingWatchers.add(watcher);
+        }
+        notifyWatchers();
+        return watcher;
     }
 
     /**
@@ -135,36 +266,672 @@ public final class EventBusImpl implements EventBus {
     public void unsubscribeIf(@NotNull Predicate<EventSubscriber<? super ChameleonEvent>> predicate) {
         Preconditions.checkNotNull("predicate", predicate);
 
-        boolean removed = false;
-        for (Set<EventSubscriber<? super ChameleonEvent>> subscribers : this.subscriptions.values()) {
-            removed |= subscribers.removeIf(predicate);
+        synchronized (this.lock) {
+            Iterator<Entry<Class<? extends ChameleonEvent>, Set<Registration>>> iterator = this.subscriptions.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Entry<Class<? extends ChameleonEvent>, Set<Registration>> entry = iterator.next();
+                if (entry.getValue().removeIf(registration -> registration.deactivateIf(predicate))) {
+                    invalidate(entry.getKey());
+                    if (entry.getValue().isEmpty()) {
+                        iterator.remove();
+                    }
+                }
+            }
+        }
+        notifyWatchers();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull AsyncEventExecutor getAsyncExecutor() {
+        return this.asyncExecutor;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setAsyncExecutor(@NotNull AsyncEventExecutor executor) {
+        Preconditions.checkNotNull("executor", executor);
+        this.asyncExecutor = executor;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull EventBusMetrics getMetrics() {
+        return this.metrics;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull UserChatEventPool getUserChatEventPool() {
+        return this.userChatEventPool;
+    }
+
+    private void fire(@NotNull ChameleonEvent event, boolean async) {
+        expungeCollectedOwners();
+        DispatchTable.Slice selected;
+        try {
+            selected = getDispatchTable(event.getClass()).select(event);
+        } catch (RuntimeException ex) {
+            this.logger.error("An error occurred while extracting the keys of %s", ex, event.getClass().getCanonicalName());
+            return;
         }
 
-        if (removed) {
-            this.sortedSubscriptions.clear();
+        EventSubscriber<? super ChameleonEvent>[] subscribers = selected.getSubscribers();
+        int lastAcceptingCancelled = selected.getLastAcceptingCancelled();
+        Cancellable cancellable = event instanceof Cancellable ? (Cancellable) event : null;
+        for (int i = 0; i < subscribers.length; i++) {
+            EventSubscriber<? super ChameleonEvent> subscriber = subscribers[i];
+            if (cancellable != null && cancellable.isCancelled()) {
+                if (i > lastAcceptingCancelled) {
+                    // No remaining subscriber accepts cancelled events.
+                    return;
+                }
+                if (!subscriber.acceptsCancelled()) {
+                    continue;
+                }
+            }
+
+            if (subscriber.isBlocking()) {
+                invokeBlocking(subscriber, event, cancellable != null);
+            } else if (!async && subscriber.isAsync()) {
+                retain(event);
+                try {
+                    this.asyncExecutor.execute(event, () -> invoke(subscriber, event));
+                } catch (RejectedExecutionException ex) {
+                    this.logger.error("Failed to schedule asynchronous subscriber %s", ex, subscriber.getClass().getCanonicalName());
+                }
+            } else {
+                invoke(subscriber, event);
+            }
         }
     }
 
-    private synchronized @NotNull List<EventSubscriber<? super ChameleonEvent>> getSubscribers(@NotNull Class<? extends ChameleonEvent> event) {
-        Preconditions.checkNotNull("event", event);
-        List<EventSubscriber<? super ChameleonEvent>> subscribers = this.sortedSubscriptions.entrySet().stream()
-            .filter(entry -> entry.getKey().isAssignableFrom(event)).map(Entry::getValue).findFirst().orElse(null);
+    private void fireBatch(@NotNull Class<? extends ChameleonEvent> type, @NotNull List<ChameleonEvent> events) {
+        DispatchTable table = getDispatchTable(type);
+        if (table.isEmpty()) {
+            return;
+        }
+
+        // Keyed subscribers only receive the events matching their key.
+        IdentityHashMap<EventSubscriber<? super ChameleonEvent>, List<ChameleonEvent>> selected = null;
+        if (table.isKeyed()) {
+            selected = new IdentityHashMap<>();
+            for (ChameleonEvent event : events) {
+                try {
+                    for (EventSubscriber<? super ChameleonEvent> subscriber : table.select(event).getSubscribers()) {
+                        selected.computeIfAbsent(subscriber, key -> new ArrayList<>()).add(event);
+                    }
+                } catch (RuntimeException ex) {
+                    this.logger.error("An error occurred while extracting the keys of %s", ex, type.getCanonicalName());
+                }
+            }
+        }
+
+        for (EventSubscriber<? super ChameleonEvent> subscriber : table.getSubscribers()) {
+            List<ChameleonEvent> candidates = selected == null ? events : selected.remove(subscriber);
+            if (candidates == null) {
+                continue;
+            }
+
+            List<ChameleonEvent> batch = subscriber.acceptsCancelled() ? candidates : withoutCancelled(candidates);
+            if (batch.isEmpty()) {
+                continue;
+            }
+
+            if (subscriber.isBlocking() || subscriber.isAsync()) {
+                batch.forEach(EventBusImpl::retain);
+                try {
+                    Runnable task = () -> invokeBatch(subscriber, type, batch);
+                    if (subscriber.isBlocking()) {
+                        BlockingSubscriberExecutor.get().execute(task);
+                    } else {
+                        this.asyncExecutor.execute(task);
+                    }
+                } catch (RejectedExecutionException ex) {
+                    this.logger.error("Failed to schedule asynchronous subscriber %s", ex, subscriber.getClass().getCanonicalName());
+                }
+            } else {
+                invokeBatch(subscriber, type, batch);
+            }
+        }
+    }
+
+    private static void retain(@NotNull ChameleonEvent event) {
+        // Events handed to another thread must outlive the dispatch that borrowed them.
+        if (event instanceof Recyclable) {
+            ((Recyclable<?>) event).retain();
+        }
+    }
+
+    private static @NotNull List<ChameleonEvent> withoutCancelled(@NotNull List<ChameleonEvent> events) {
+        List<ChameleonEvent> uncancelled = null;
+        for (int i = 0; i < events.size(); i++) {
+            ChameleonEvent event = events.get(i);
+            boolean cancelled = event instanceof Cancellable && ((Cancellable) event).isCancelled();
+            if (cancelled && uncancelled == null) {
+                uncancelled = new ArrayList<>(events.subList(0, i));
+            } else if (!cancelled && uncancelled != null) {
+                uncancelled.add(event);
+            }
+        }
+        return uncancelled == null ? events : uncancelled;
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private void invokeBatch(@NotNull EventSubscriber<? super ChameleonEvent> subscriber, @NotNull Class<? extends ChameleonEvent> type, @NotNull List<ChameleonEvent> events) {
+        boolean timed = this.metrics.isEnabled();
+        long start = timed ? System.nanoTime() : 0;
+        try {
+            ((EventSubscriber) subscriber).onBatch(Collections.unmodifiableList(events));
+        } catch (Exception ex) {
+            this.logger.error("An error occurred while dispatching an event to %s", ex, subscriber.getClass().getCanonicalName());
+        }
+
+        if (timed) {
+            this.metrics.record(type, subscriber, System.nanoTime() - start);
+        }
+    }
+
+    private void invokeBlocking(@NotNull EventSubscriber<? super ChameleonEvent> subscriber, @NotNull ChameleonEvent event, boolean cancellable) {
+        retain(event);
+        FutureTask<Void> task = new FutureTask<>(() -> invoke(subscriber, event), null);
+        try {
+            BlockingSubscriberExecutor.get().execute(task);
+        } catch (RejectedExecutionException ex) {
+            this.logger.error("Failed to schedule blocking subscriber %s", ex, subscriber.getClass().getCanonicalName());
+            return;
+        }
+
+        Duration timeout = cancellable ? subscriber.getAwaitTimeout() : null;
+        if (timeout == null) {
+            return;
+        }
+
+        try {
+            task.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException ex) {
+            this.logger.warn("Blocking subscriber %s did not complete within %dms, continuing dispatch", subscriber.getClass().getCanonicalName(), timeout.toMillis());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException ex) {
+            // Exceptions are logged by invoke, only errors can get here.
+            this.logger.error("An error occurred while dispatching an event to %s", ex, subscriber.getClass().getCanonicalName());
+        }
+    }
+
+    private void invoke(@NotNull EventSubscriber<? super ChameleonEvent> subscriber, @NotNull ChameleonEvent event) {
+        boolean timed = this.metrics.isEnabled();
+        long start = timed ? System.nanoTime() : 0;
+        try {
+            subscriber.on(event);
+        } catch (Exception ex) {
+            this.logger.error("An error occurred while dispatching an event to %s", ex, subscriber.getClass().getCanonicalName());
+        }
+
+        if (timed) {
+            this.metrics.record(event.getClass(), subscriber, System.nanoTime() - start);
+        }
+    }
+
+    private static <T extends ChameleonEvent> @NotNull Class<T> requireType(@NotNull EventSubscriber<T> subscriber) {
+        Preconditions.checkNotNull("subscriber", subscriber);
+        Class<T> type = subscriber.getType();
+        Preconditions.checkArgument(
+            type != null,
+            "subscriber does not have a set type, use #subscribe(Class, EventSubscriber) or EventSubscriber#builder instead"
+        );
+        return Objects.requireNonNull(type);
+    }
+
+    private @NotNull EventSubscription addListener(@NotNull Object listener, @Nullable MethodHandles.Lookup lookup, @Nullable ScopeImpl scope) {
+        Preconditions.checkNotNull("listener", listener);
+        List<ListenerScanner.ListenerMethod> methods = ListenerScanner.getMethods(listener.getClass(), lookup, this.logger);
+        List<EventSubscription> subscriptions = new ArrayList<>(methods.size());
+        for (ListenerScanner.ListenerMethod method : methods) {
+            subscriptions.add(addSubscriber(method.getEventType(), method.bind(listener), scope));
+        }
 
-        if (subscribers == null) {
-            if (subscribed(event)) {
-                List<EventSubscriber<? super ChameleonEvent>> sortedSubscribers = Collections.synchronizedList(new ArrayList<>(this.subscriptions.entrySet().stream()
-                    .filter(entry -> entry.getKey().isAssignableFrom(event)).map(Entry::getValue).findFirst().orElse(Collections.synchronizedSet(new HashSet<>()))));
+        return () -> subscriptions.forEach(EventSubscription::unsubscribe);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends ChameleonEvent> @NotNull EventSubscription addSubscriber(@NotNull Class<T> event, @NotNull EventSubscriber<T> subscriber, @Nullable ScopeImpl scope) {
+        Registration registration = new Registration(event, (EventSubscriber<? super ChameleonEvent>) subscriber, scope);
+        // The subscription must be set before the subscriber can be dispatched to.
+        if (subscriber instanceof EventSubscriberImpl) {
+            ((EventSubscriberImpl<T>) subscriber).setSubscription(registration);
+        }
+
+        synchronized (this.lock) {
+            expungeCollectedOwners();
+            if (scope != null) {
+                Preconditions.checkState(!scope.closed, "scope has been closed");
+                scope.registrations.add(registration);
+            }
+            this.subscriptions.computeIfAbsent(event, key -> new LinkedHashSet<>()).add(registration);
+            this.registered.merge(subscriber, 1, Integer::sum);
+            invalidate(event);
+        }
+        notifyWatchers();
+        return registration;
+    }
+
+    private void expungeCollectedOwners() {
+        Reference<?> reference = this.collectedOwners.poll();
+        if (reference == null) {
+            return;
+        }
+
+        synchronized (this.lock) {
+            for (; reference != null; reference = this.collectedOwners.poll()) {
+                ScopeImpl scope = this.weakScopes.remove(reference);
+                if (scope != null) {
+                    scope.close();
+                }
+            }
+        }
+        notifyWatchers();
+    }
+
+    /**
+     * Notify the watchers whose state changed, outside the lock so watcher callbacks can call
+     * into the platform and back into this event bus. When called while holding the lock the
+     * outermost caller notifies once it has released it.
+     */
+    private void notifyWatchers() {
+        if (Thread.holdsLock(this.lock)) {
+            return;
+        }
+
+        List<Watcher> pending;
+        synchronized (this.lock) {
+            if (this.pendingWatchers.isEmpty()) {
+                return;
+            }
+            pending = new ArrayList<>(this.pendingWatchers);
+            this.pendingWatchers.clear();
+        }
+        pending.forEach(Watcher::deliver);
+    }
+
+    // Must be called while holding the lock.
+    private void unregister(@NotNull EventSubscriber<?> subscriber) {
+        this.registered.computeIfPresent(subscriber, (key, count) -> count == 1 ? null : count - 1);
+        this.metrics.remove(subscriber);
+    }
+
+    // Must be called while holding the lock.
+    private boolean removeRegistration(@NotNull Registration registration) {
+        if (!registration.active) {
+            return false;
+        }
+        registration.active = false;
+        if (registration.scope != null) {
+            registration.scope.registrations.remove(registration);
+        }
+        unregister(registration.subscriber);
+
+        Set<Registration> registrations = this.subscriptions.get(registration.type);
+        if (registrations == null || !registrations.remove(registration)) {
+            return false;
+        }
+        if (registrations.isEmpty()) {
+            this.subscriptions.remove(registration.type);
+        }
+        return true;
+    }
+
+    private @NotNull DispatchTable getDispatchTable(@NotNull Class<? extends ChameleonEvent> event) {
+        DispatchTable table = this.dispatchTables.get(event);
+        if (table != null) {
+            return table;
+        }
+
+        // Build under the lock so a table can never be published after it has been invalidated.
+        synchronized (this.lock) {
+            table = this.dispatchTables.get(event);
+            if (table == null) {
+                table = createDispatchTable(event);
+                this.dispatchTables.put(event, table);
+            }
+            return table;
+        }
+    }
+
+    private @NotNull DispatchTable createDispatchTable(@NotNull Class<? extends ChameleonEvent> event) {
+        List<EventSubscriber<? super ChameleonEvent>> subscribers = new ArrayList<>();
+        for (Entry<Class<? extends ChameleonEvent>, Set<Registration>> entry : this.subscriptions.entrySet()) {
+            if (entry.getKey().isAssignableFrom(event)) {
+                for (Registration registration : entry.getValue()) {
+                    subscribers.add(registration.subscriber);
+                }
+            }
+        }
+
+        // List#sort is stable, subscribers with the same priority keep their registration order.
+        subscribers.sort(PRIORITY_COMPARATOR);
+        return DispatchTable.of(subscribers);
+    }
+
+    private void invalidate(@NotNull Class<? extends ChameleonEvent> event) {
+        // Only tables for the changed type and its subtypes can contain the changed subscribers.
+        this.dispatchTables.keySet().removeIf(event::isAssignableFrom);
+        this.generation.incrementAndGet();
+
+        for (Watcher watcher : new ArrayList<>(this.watchers)) {
+            if (event.isAssignableFrom(watcher.type)) {
+                boolean subscribed = hasSubscriptions(watcher.type);
+                if (subscribed != watcher.subscribed) {
+                    watcher.subscribed = subscribed;
+                    this.pendingWatchers.add(watcher);
+                }
+            }
+        }
+    }
+
+    private boolean isSubscribed(@NotNull EventSubscriber<?> subscriber) {
+        // Read without the lock, this is called on the dispatch path.
+        return this.registered.containsKey(subscriber);
+    }
+
+    // Must be called while holding the lock.
+    private boolean hasSubscriptions(@NotNull Class<? extends ChameleonEvent> event) {
+        for (Class<? extends ChameleonEvent> type : this.subscriptions.keySet()) {
+            if (type.isAssignableFrom(event)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Registration, an event subscription holding a direct reference to its slot so it can be
+     * removed without scanning other subscribers or event types.
+     */
+    private final class Registration implements EventSubscription {
+
+        private final @NotNull Class<? extends ChameleonEvent> type;
+        private final @NotNull EventSubscriber<? super ChameleonEvent> subscriber;
+        private final @Nullable ScopeImpl scope;
+        // Guarded by lock.
+        private boolean active = true;
+
+        private Registration(@NotNull Class<? extends ChameleonEvent> type, @NotNull EventSubscriber<? super ChameleonEvent> subscriber, @Nullable ScopeImpl scope) {
+            this.type = type;
+            this.subscriber = subscriber;
+            this.scope = scope;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void unsubscribe() {
+            synchronized (EventBusImpl.this.lock) {
+                if (removeRegistration(this)) {
+                    invalidate(this.type);
+                }
+            }
+            notifyWatchers();
+        }
+
+        private boolean deactivateIf(@NotNull Predicate<EventSubscriber<? super ChameleonEvent>> predicate) {
+            if (predicate.test(this.subscriber)) {
+                this.active = false;
+                if (this.scope != null) {
+                    this.scope.registrations.remove(this);
+                }
+                unregister(this.subscriber);
+                return true;
+            }
+            return false;
+        }
+
+    }
 
-                sortedSubscribers.sort(PRIORITY_COMPARATOR);
-                this.sortedSubscriptions.put(event, sortedSubscribers);
-                return sortedSubscribers;
+    /**
+     * Watcher, notifies a callback whenever an event type gains its first or loses its last
+     * subscriber.
+     */
+    private final class Watcher implements EventSubscription {
+
+        private final @NotNull Class<? extends ChameleonEvent> type;
+        private final @NotNull Consumer<Boolean> callback;
+        // Guarded by lock.
+        private boolean subscribed = false;
+        // Guarded by lock.
+        private boolean active = true;
+        // Guarded by this, the state last passed to the callback.
+        private @Nullable Boolean delivered;
+
+        private Watcher(@NotNull Class<? extends ChameleonEvent> type, @NotNull Consumer<Boolean> callback) {
+            this.type = type;
+            this.callback = callback;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void unsubscribe() {
+            synchronized (EventBusImpl.this.lock) {
+                this.active = false;
+                EventBusImpl.this.watchers.remove(this);
+                EventBusImpl.this.pendingWatchers.remove(this);
             }
+        }
 
-            return new ArrayList<>();
+        // Must be called without holding the lock. The current state is delivered rather than the
+        // change that queued this watcher, so the callback always ends up with the latest state
+        // when changes race.
+        private synchronized void deliver() {
+            boolean subscribed;
+            synchronized (EventBusImpl.this.lock) {
+                if (!this.active) {
+                    return;
+                }
+                subscribed = this.subscribed;
+            }
+            if (Boolean.valueOf(subscribed).equals(this.delivered)) {
+                return;
+            }
+
+            this.delivered = subscribed;
+            try {
+                this.callback.accept(subscribed);
+            } catch (Exception ex) {
+                EventBusImpl.this.logger.error("An error occurred while notifying a watcher of %s", ex, this.type.getCanonicalName());
+            }
         }
 
-        return subscribers;
     }
 
+    /**
+     * Event scope implementation, tracks the registrations made through it so they can be removed
+     * without scanning the registrations of other owners.
+     */
+    private final class ScopeImpl implements EventScope {
+
+        private final @Nullable Object owner;
+        private final @Nullable OwnerReference ownerReference;
+        // Guarded by lock.
+        private final @NotNull Set<Registration> registrations = new LinkedHashSet<>();
+        // Guarded by lock.
+        private boolean closed = false;
+
+        private ScopeImpl(@Nullable Object owner, @Nullable OwnerReference ownerReference) {
+            this.owner = owner;
+            this.ownerReference = ownerReference;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public @Nullable Object getOwner() {
+            return this.ownerReference == null ? this.owner : this.ownerReference.get();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public <T extends ChameleonEvent> @NotNull EventSubscription subscribe(@NotNull EventSubscriber<T> subscriber) {
+            return addSubscriber(requireType(subscriber), subscriber, this);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public <T extends ChameleonEvent> @NotNull EventSubscription subscribe(@NotNull Class<T> event, @NotNull EventSubscriber<T> subscriber) {
+            Preconditions.checkNotNull("event", event);
+            Preconditions.checkNotNull("subscriber", subscriber);
+            return addSubscriber(event, subscriber, this);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public @NotNull EventSubscription register(@NotNull Object listener) {
+            return addListener(listener, null, this);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public @NotNull EventSubscription register(@NotNull Object listener, @NotNull MethodHandles.Lookup lookup) {
+            Preconditions.checkNotNull("lookup", lookup);
+            return addListener(listener, lookup, this);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int getSubscriptionCount() {
+            synchronized (EventBusImpl.this.lock) {
+                return this.registrations.size();
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean isClosed() {
+            synchronized (EventBusImpl.this.lock) {
+                return this.closed;
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void close() {
+            synchronized (EventBusImpl.this.lock) {
+                if (this.closed) {
+                    return;
+                }
+                this.closed = true;
+                if (this.ownerReference == null) {
+                    EventBusImpl.this.scopes.remove(this.owner, this);
+                } else {
+                    EventBusImpl.this.weakScopes.remove(this.ownerReference, this);
+                }
+
+                Set<Class<? extends ChameleonEvent>> types = new HashSet<>();
+                for (Registration registration : new ArrayList<>(this.registrations)) {
+                    if (removeRegistration(registration)) {
+                        types.add(registration.type);
+                    }
+                }
+                types.forEach(EventBusImpl.this::invalidate);
+            }
+            notifyWatchers();
+        }
+
+    }
+
+    /**
+     * Owner reference, a weak reference to the owner of a weak scope which compares by the
+     * identity of its referent, so it can be used to look up the scope of an owner.
+     */
+    private static final class OwnerReference extends WeakReference<Object> {
+
+        private final int hash;
+
+        private OwnerReference(@NotNull Object owner, @NotNull ReferenceQueue<Object> queue) {
+            super(owner, queue);
+            this.hash = System.identityHashCode(owner);
+        }
+
+        @Override
+        public boolean equals(@Nullable Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof OwnerReference)) {
+                return false;
+            }
+            Object owner = get();
+            return owner != null && owner == ((OwnerReference) obj).get();
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+
+    }
+
+    /**
+     * Subscribed state, caches whether an event type has subscribers.
+     * <p>The stamp packs the bus generation it was computed at with the result in the lowest bit,
+     * so it can be read and validated without allocating or locking.</p>
+     */
+    private static final class SubscribedState {
+
+        private volatile long stamp = -1;
+
+    }
+
+    private final class AsyncDispatchTask<E extends ChameleonEvent> implements AsyncEventExecutorImpl.DroppableTask {
+
+        private final @NotNull E event;
+        private final @NotNull CompletableFuture<E> future;
+
+        private AsyncDispatchTask(@NotNull E event, @NotNull CompletableFuture<E> future) {
+            this.event = event;
+            this.future = future;
+        }
+
+        @Override
+        public void run() {
+            try {
+                fire(this.event, true);
+                this.future.complete(this.event);
+            } catch (RuntimeException ex) {
+                this.future.completeExceptionally(ex);
+            }
+        }
+
+        @Override
+        public void drop() {
+            this.future.completeExceptionally(new RejectedExecutionException("Asynchronous dispatch was dropped from a full queue"));
+        }
+
+    }
 
 }
@@ -0,0 +1,84 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.event;
+
+import java.time.Duration;
+import java.util.List;
+import org.jetbrains.annotations.ApiStatus.NonExtendable;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Event bus metrics, opt-in instrumentation recording how long each subscriber takes to handle
+ * each event type.
+ * <p>Recording is disabled by default. While disabled, dispatching an event does not read the
+ * clock or touch any metrics state.</p>
+ */
+@NonExtendable
+public interface EventBusMetrics {
+
+    /**
+     * Returns whether subscriber invocations are currently being recorded.
+     *
+     * @return {@code true} if recording is enabled, otherwise {@code false}.
+     */
+    boolean isEnabled();
+
+    /**
+     * Set whether subscriber invocations should be recorded.
+     *
+     * @param enabled Whether recording should be enabled.
+     */
+    void setEnabled(boolean enabled);
+
+    /**
+     * Returns the slow subscriber threshold.
+     *
+     * @return slow subscriber threshold, or {@code null} if slow subscribers are not reported.
+     */
+    @Nullable Duration getSlowThreshold();
+
+    /**
+     * Set the slow subscriber threshold.
+     * <p>While recording is enabled, a warning naming the subscriber and the plugin it belongs to
+     * is logged whenever a subscriber takes at least this long to handle an event.</p>
+     *
+     * @param threshold Slow subscriber threshold, or {@code null} to disable slow subscriber
+     *                  reports.
+     */
+    void setSlowThreshold(@Nullable Duration threshold);
+
+    /**
+     * Returns a snapshot of the metrics recorded for every subscriber and event type pair.
+     *
+     * @return subscriber metrics.
+     */
+    @NotNull List<SubscriberMetrics> getSubscriberMetrics();
+
+    /**
+     * Discard all recorded metrics.
+     */
+    void reset();
+
+}
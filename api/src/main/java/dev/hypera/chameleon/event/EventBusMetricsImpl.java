@@ -0,0 +1,216 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.event;
+
+import dev.hypera.chameleon.logger.ChameleonLogger;
+import java.net.URL;
+import java.nio.file.Paths;
+import java.security.CodeSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Predicate;
+import org.jetbrains.annotations.ApiStatus.Internal;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Event bus metrics implementation.
+ * <p>Each subscriber and event type pair gets a recorder backed by fixed-size atomic arrays, once
+ * a recorder exists recording an invocation does not allocate.</p>
+ */
+@Internal
+final class EventBusMetricsImpl implements EventBusMetrics {
+
+    private final @NotNull ChameleonLogger logger;
+    private final @NotNull Predicate<EventSubscriber<?>> subscribed;
+    private final @NotNull Map<Class<? extends ChameleonEvent>, Map<EventSubscriber<?>, Recorder>> recorders = new ConcurrentHashMap<>();
+    private volatile boolean enabled = false;
+    // Slow subscriber threshold in nanoseconds, or 0 if disabled.
+    private volatile long slowThreshold = 0;
+
+    EventBusMetricsImpl(@NotNull ChameleonLogger logger, @NotNull Predicate<EventSubscriber<?>> subscribed) {
+        this.logger = logger;
+        this.subscribed = subscribed;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @Nullable Duration getSlowThreshold() {
+        long threshold = this.slowThreshold;
+        return threshold == 0 ? null : Duration.ofNanos(threshold);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setSlowThreshold(@Nullable Duration threshold) {
+        this.slowThreshold = threshold == null ? 0 : Math.max(1, threshold.toNanos());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull List<SubscriberMetrics> getSubscriberMetrics() {
+        List<SubscriberMetrics> metrics = new ArrayList<>();
+        this.recorders.forEach((eventType, subscribers) -> subscribers.values()
+            .forEach(recorder -> metrics.add(recorder.snapshot(eventType))));
+        return metrics;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void reset() {
+        this.recorders.clear();
+    }
+
+    /**
+     * Record an invocation of the given subscriber.
+     *
+     * @param eventType  Dispatched event type.
+     * @param subscriber Invoked subscriber.
+     * @param nanos      Time taken by the invocation, in nanoseconds.
+     */
+    void record(@NotNull Class<? extends ChameleonEvent> eventType, @NotNull EventSubscriber<?> subscriber, long nanos) {
+        Map<EventSubscriber<?>, Recorder> subscribers = this.recorders.get(eventType);
+        if (subscribers == null) {
+            subscribers = this.recorders.computeIfAbsent(eventType, type -> new ConcurrentHashMap<>());
+        }
+
+        Recorder recorder = subscribers.get(subscriber);
+        if (recorder == null) {
+            recorder = subscribers.computeIfAbsent(subscriber, Recorder::new);
+            // An in-flight dispatch can finish after the subscriber was removed, which would
+            // otherwise keep its recorder, and so the subscriber, reachable forever.
+            if (!this.subscribed.test(subscriber)) {
+                subscribers.remove(subscriber, recorder);
+            }
+        }
+        recorder.record(nanos);
+
+        long threshold = this.slowThreshold;
+        if (threshold != 0 && nanos >= threshold) {
+            this.logger.warn(
+                "Subscriber %s from %s took %sms to handle %s",
+                recorder.subscriberType.getName(), recorder.source == null ? "an unknown source" : recorder.source,
+                nanos / 1_000_000D, eventType.getName()
+            );
+        }
+    }
+
+    /**
+     * Remove the recorders of the given subscriber, called once it has been unsubscribed.
+     *
+     * @param subscriber Removed subscriber.
+     */
+    void remove(@NotNull EventSubscriber<?> subscriber) {
+        for (Map<EventSubscriber<?>, Recorder> subscribers : this.recorders.values()) {
+            subscribers.remove(subscriber);
+        }
+    }
+
+    private static @NotNull Class<?> getSubscriberType(@NotNull EventSubscriber<?> subscriber) {
+        if (subscriber instanceof EventSubscriberImpl) {
+            return ((EventSubscriberImpl<?>) subscriber).getHandlerType();
+        }
+        return subscriber.getClass();
+    }
+
+    private static @Nullable String getSource(@NotNull Class<?> type) {
+        try {
+            CodeSource codeSource = type.getProtectionDomain().getCodeSource();
+            URL location = codeSource == null ? null : codeSource.getLocation();
+            if (location == null) {
+                return null;
+            }
+            return String.valueOf(Paths.get(location.toURI()).getFileName());
+        } catch (Exception ex) {
+            // Unusual class loaders may not expose a file location, the source is informational.
+            return null;
+        }
+    }
+
+    /**
+     * Recorder, records the invocations of a single subscriber for a single event type.
+     */
+    private static final class Recorder {
+
+        private final @NotNull Class<?> subscriberType;
+        private final @Nullable String source;
+        private final @NotNull AtomicLong invocations = new AtomicLong();
+        private final @NotNull AtomicLong totalNanos = new AtomicLong();
+        private final @NotNull AtomicLongArray histogram = new AtomicLongArray(SubscriberMetrics.HISTOGRAM_BUCKETS);
+
+        private Recorder(@NotNull EventSubscriber<?> subscriber) {
+            this.subscriberType = getSubscriberType(subscriber);
+            this.source = getSource(this.subscriberType);
+        }
+
+        private void record(long nanos) {
+            long clamped = Math.max(1, nanos);
+            this.invocations.incrementAndGet();
+            this.totalNanos.addAndGet(clamped);
+            this.histogram.incrementAndGet(63 - Long.numberOfLeadingZeros(clamped));
+        }
+
+        private @NotNull SubscriberMetrics snapshot(@NotNull Class<? extends ChameleonEvent> eventType) {
+            long[] buckets = new long[SubscriberMetrics.HISTOGRAM_BUCKETS];
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i] = this.histogram.get(i);
+            }
+            return new SubscriberMetricsImpl(
+                eventType, this.subscriberType, this.source,
+                this.invocations.get(), this.totalNanos.get(), buckets
+            );
+        }
+
+    }
+
+}
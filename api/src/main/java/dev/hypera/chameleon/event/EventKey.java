@@ -0,0 +1,54 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.event;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * An event key, extracts a routing key from an event.
+ * <p>Keyed subscribers are indexed by the key they are interested in, so dispatching an event
+ * only touches the subscribers whose key matches the key extracted from the event. Subscribers
+ * sharing the same event key instance share the same index, so event keys should be stored in
+ * constants and reused.</p>
+ *
+ * @param <T> Event type.
+ * @param <K> Key type.
+ * @see EventSubscriber.Builder#key(EventKey, Object)
+ */
+@FunctionalInterface
+public interface EventKey<T extends ChameleonEvent, K> {
+
+    /**
+     * Extract the key from the given event.
+     * <p>Returning {@code null} means no keyed subscriber using this event key will receive the
+     * event.</p>
+     *
+     * @param event Event.
+     *
+     * @return event key, or {@code null}.
+     */
+    @Nullable K extract(@NotNull T event);
+
+}
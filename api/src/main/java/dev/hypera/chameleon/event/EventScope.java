@@ -0,0 +1,118 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.event;
+
+import java.lang.invoke.MethodHandles;
+import org.jetbrains.annotations.ApiStatus.NonExtendable;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * An event scope, groups the subscriptions made on behalf of an owner so they can be removed
+ * together, for example when a plugin or extension is disabled.
+ *
+ * @see EventBus#scope(Object)
+ * @see EventBus#weakScope(Object)
+ */
+@NonExtendable
+public interface EventScope {
+
+    /**
+     * Returns the owner of this scope.
+     *
+     * @return owner, or {@code null} if this is a weak scope and its owner has been collected.
+     */
+    @Nullable Object getOwner();
+
+    /**
+     * Register a new event subscriber in this scope.
+     *
+     * @param subscriber The subscriber to be registered.
+     * @param <T>        The event type.
+     *
+     * @return event subscription.
+     * @throws IllegalStateException if this scope has been closed.
+     * @see EventBus#subscribe(EventSubscriber)
+     */
+    <T extends ChameleonEvent> @NotNull EventSubscription subscribe(@NotNull EventSubscriber<T> subscriber);
+
+    /**
+     * Register a new event subscriber in this scope.
+     *
+     * @param event      The event type class to subscribe to.
+     * @param subscriber The subscriber to be registered.
+     * @param <T>        The event type.
+     *
+     * @return event subscription.
+     * @throws IllegalStateException if this scope has been closed.
+     * @see EventBus#subscribe(Class, EventSubscriber)
+     */
+    <T extends ChameleonEvent> @NotNull EventSubscription subscribe(@NotNull Class<T> event, @NotNull EventSubscriber<T> subscriber);
+
+    /**
+     * Register the annotated subscriber methods of the given listener in this scope.
+     *
+     * @param listener Listener instance.
+     *
+     * @return event subscription unregistering every method of the listener.
+     * @throws IllegalStateException if this scope has been closed.
+     * @see EventBus#register(Object)
+     */
+    @NotNull EventSubscription register(@NotNull Object listener);
+
+    /**
+     * Register the annotated subscriber methods of the given listener in this scope, linking the
+     * methods with the given lookup.
+     *
+     * @param listener Listener instance.
+     * @param lookup   Lookup used to link the listener methods.
+     *
+     * @return event subscription unregistering every method of the listener.
+     * @throws IllegalStateException if this scope has been closed.
+     * @see EventBus#register(Object, MethodHandles.Lookup)
+     */
+    @NotNull EventSubscription register(@NotNull Object listener, @NotNull MethodHandles.Lookup lookup);
+
+    /**
+     * Returns the amount of active subscriptions in this scope.
+     *
+     * @return subscription count.
+     */
+    int getSubscriptionCount();
+
+    /**
+     * Returns whether this scope has been closed.
+     *
+     * @return {@code true} if this scope has been closed, otherwise {@code false}.
+     */
+    boolean isClosed();
+
+    /**
+     * Unregister every subscription in this scope and close it.
+     * <p>This only touches the subscriptions of this scope. Once closed, a scope can no longer be
+     * used, and {@link EventBus#scope(Object)} will return a new scope for the same owner.</p>
+     */
+    void close();
+
+}
@@ -24,7 +24,10 @@
 package dev.hypera.chameleon.event;
 
 import dev.hypera.chameleon.event.EventSubscriberImpl.BuilderImpl;
+import dev.hypera.chameleon.event.common.UserEvent;
+import java.time.Duration;
 import java.util.Collection;
+import java.util.List;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import org.jetbrains.annotations.ApiStatus.NonExtendable;
@@ -61,6 +64,21 @@ public interface EventSubscriber<T extends ChameleonEvent> {
      */
     void on(@NotNull T event) throws Exception;
 
+    /**
+     * Executed when a batch of events is dispatched.
+     * <p>Defaults to executing {@link #on(ChameleonEvent)} for each event, in order.</p>
+     *
+     * @param events Dispatched events, in dispatch order.
+     *
+     * @throws Exception if something goes wrong while handling these events.
+     * @see EventBus#dispatchAll(Collection)
+     */
+    default void onBatch(@NotNull List<T> events) throws Exception {
+        for (T event : events) {
+            on(event);
+        }
+    }
+
     /**
      * Get the priority of this subscriber.
      * <p>Defaults to {@code 0} (normal)</p>
@@ -81,6 +99,65 @@ public interface EventSubscriber<T extends ChameleonEvent> {
         return false;
     }
 
+    /**
+     * Whether this subscriber should be executed asynchronously.
+     * <p>Asynchronous subscribers are handed to the event bus' {@link AsyncEventExecutor} when an
+     * event is dispatched synchronously, so they cannot affect the outcome of the event on the
+     * platform. Defaults to {@code false}</p>
+     *
+     * @return {@code true} if this subscriber should be executed asynchronously, otherwise
+     *     {@code false}.
+     */
+    default boolean isAsync() {
+        return false;
+    }
+
+    /**
+     * Whether this subscriber makes blocking calls, for example to a database or a web service.
+     * <p>Blocking subscribers are executed on a virtual thread per invocation on runtimes that
+     * support them, otherwise on a bounded pool of platform threads, so they never block the
+     * dispatching thread. They take precedence over {@link #isAsync()}. Defaults to
+     * {@code false}</p>
+     *
+     * @return {@code true} if this subscriber makes blocking calls, otherwise {@code false}.
+     */
+    default boolean isBlocking() {
+        return false;
+    }
+
+    /**
+     * Get how long dispatching a {@link Cancellable} event waits for this subscriber to complete.
+     * <p>Only used by {@link #isBlocking() blocking} subscribers. Waiting lets the subscriber
+     * cancel the event before the remaining subscribers and the platform see it, if it completes
+     * within the timeout. Batches are never waited for. Defaults to {@code null} (not awaited)</p>
+     *
+     * @return await timeout, or {@code null} if this subscriber is not awaited.
+     */
+    default @Nullable Duration getAwaitTimeout() {
+        return null;
+    }
+
+    /**
+     * Get the event key this subscriber is keyed by.
+     * <p>Keyed subscribers are only given events where the key extracted by this event key equals
+     * {@link #getKeyValue()}. Defaults to {@code null} (not keyed)</p>
+     *
+     * @return event key, or {@code null} if this subscriber is not keyed.
+     */
+    default @Nullable EventKey<? super T, ?> getKey() {
+        return null;
+    }
+
+    /**
+     * Get the key value this subscriber is interested in.
+     * <p>Only used if {@link #getKey()} returns a non-null value. Defaults to {@code null}</p>
+     *
+     * @return key value.
+     */
+    default @Nullable Object getKeyValue() {
+        return null;
+    }
+
     /**
      * Get the type of event this subscriber.
      * <p>If this returns a non-null value then the subscriber can be registered without providing
@@ -111,6 +188,20 @@ public interface EventSubscriber<T extends ChameleonEvent> {
         @Contract("_ -> this")
         @NotNull Builder<T> handler(@NotNull Consumer<T> handler);
 
+        /**
+         * Set the batch event handler.
+         * <p>The batch handler is given every event from a single
+         * {@link EventBus#dispatchAll(Collection)} call that passes this subscriber's filters at
+         * once, allowing bulk work such as a single database write. If no regular handler is set,
+         * single events are given to the batch handler as a singleton list.</p>
+         *
+         * @param batchHandler Batch event handler.
+         *
+         * @return {@code this}.
+         */
+        @Contract("_ -> this")
+        @NotNull Builder<T> batchHandler(@NotNull Consumer<List<T>> batchHandler);
+
         /**
          * Set the subscriber priority.
          *
@@ -141,6 +232,77 @@ public interface EventSubscriber<T extends ChameleonEvent> {
         @Contract("_ -> this")
         @NotNull Builder<T> acceptsCancelled(boolean acceptsCancelled);
 
+        /**
+         * Execute this subscriber asynchronously.
+         *
+         * @return {@code this}.
+         * @see EventSubscriber#isAsync()
+         */
+        @Contract("-> this")
+        default @NotNull Builder<T> async() {
+            return async(true);
+        }
+
+        /**
+         * Set whether this subscriber should be executed asynchronously.
+         *
+         * @param async Whether this subscriber should be executed asynchronously.
+         *
+         * @return {@code this}.
+         * @see EventSubscriber#isAsync()
+         */
+        @Contract("_ -> this")
+        @NotNull Builder<T> async(boolean async);
+
+        /**
+         * Execute this subscriber on a virtual thread, as it makes blocking calls.
+         *
+         * @return {@code this}.
+         * @see EventSubscriber#isBlocking()
+         */
+        @Contract("-> this")
+        default @NotNull Builder<T> blocking() {
+            return blocking(true);
+        }
+
+        /**
+         * Set whether this subscriber makes blocking calls.
+         *
+         * @param blocking Whether this subscriber makes blocking calls.
+         *
+         * @return {@code this}.
+         * @see EventSubscriber#isBlocking()
+         */
+        @Contract("_ -> this")
+        @NotNull Builder<T> blocking(boolean blocking);
+
+        /**
+         * Wait up to the given timeout for this blocking subscriber to complete when it is given a
+         * {@link Cancellable} event.
+         *
+         * @param timeout Await timeout.
+         *
+         * @return {@code this}.
+         * @see EventSubscriber#getAwaitTimeout()
+         */
+        @Contract("_ -> this")
+        @NotNull Builder<T> awaitCompletion(@NotNull Duration timeout);
+
+        /**
+         * Only give this subscriber events where the given event key extracts the given value.
+         * <p>Unlike a filter, keyed subscribers are indexed by the event bus, so dispatching an
+         * event does not touch subscribers with a different key.</p>
+         *
+         * @param key   Event key.
+         * @param value Key value.
+         * @param <K>   Key type.
+         *
+         * @return {@code this}.
+         * @see UserEvent#USER_ID
+         */
+        @Contract("_, _ -> this")
+        <K> @NotNull Builder<T> key(@NotNull EventKey<? super T, K> key, @NotNull K value);
+
         /**
          * Add a filter for this subscriber.
          *
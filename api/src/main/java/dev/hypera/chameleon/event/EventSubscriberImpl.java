@@ -24,8 +24,11 @@
 package dev.hypera.chameleon.event;
 
 import dev.hypera.chameleon.util.Preconditions;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
@@ -35,27 +38,48 @@ import org.jetbrains.annotations.Nullable;
 
 final class EventSubscriberImpl<T extends ChameleonEvent> implements EventSubscriber<T> {
 
+    private static final int REJECTED = -1;
+    private static final int UNLIMITED = 0;
+
     private final @NotNull Class<T> type;
 
     private final @NotNull EventSubscriber<T> handler;
+    private final @NotNull Class<?> handlerType;
+    private final @Nullable Consumer<List<T>> batchHandler;
     private final @NotNull EventSubscriptionPriority priority;
     private final boolean acceptsCancelled;
+    private final boolean async;
+    private final boolean blocking;
+    private final @Nullable Duration awaitTimeout;
+    private final @Nullable EventKey<? super T, ?> key;
+    private final @Nullable Object keyValue;
 
-    private final @NotNull Collection<Predicate<T>> filters;
-    private final @NotNull Predicate<T> expireWhen;
+    // Compiled at construction, null if there is nothing to check.
+    private final @Nullable Predicate<T> filter;
+    private final @Nullable Predicate<T> expireWhen;
     private final @Nullable AtomicInteger expirationCount;
+    private final @NotNull EventSubscriber<T> invoker;
 
-    private @Nullable EventSubscription subscription;
+    private volatile @Nullable EventSubscription subscription;
+    private volatile boolean expired = false;
 
-    EventSubscriberImpl(@NotNull Class<T> type, @NotNull EventSubscriber<T> handler, @NotNull EventSubscriptionPriority priority, boolean acceptsCancelled, @NotNull Collection<Predicate<T>> filters, @NotNull Predicate<T> expireWhen, int expiresAfter) {
+    EventSubscriberImpl(@NotNull Class<T> type, @NotNull EventSubscriber<T> handler, @NotNull Class<?> handlerType, @Nullable Consumer<List<T>> batchHandler, @NotNull EventSubscriptionPriority priority, boolean acceptsCancelled, boolean async, boolean blocking, @Nullable Duration awaitTimeout, @Nullable EventKey<? super T, ?> key, @Nullable Object keyValue, @NotNull Collection<Predicate<T>> filters, @Nullable Predicate<T> expireWhen, int expiresAfter) {
         this.type = type;
         this.handler = handler;
+        this.handlerType = handlerType;
+        this.batchHandler = batchHandler;
         this.priority = priority;
         this.acceptsCancelled = acceptsCancelled;
+        this.async = async;
+        this.blocking = blocking;
+        this.awaitTimeout = awaitTimeout;
+        this.key = key;
+        this.keyValue = keyValue;
 
-        this.filters = filters;
+        this.filter = compile(filters);
         this.expireWhen = expireWhen;
         this.expirationCount = expiresAfter > 0 ? new AtomicInteger(expiresAfter) : null;
+        this.invoker = createInvoker();
     }
 
     /**
@@ -64,23 +88,69 @@ final class EventSubscriberImpl<T extends ChameleonEvent> implements EventSubscr
     @Override
     public void on(@NotNull T event) throws Exception {
         Preconditions.checkNotNull("event", event);
-        if (this.subscription == null) {
-            throw new IllegalStateException();
-        }
+        this.invoker.on(event);
+    }
 
-        if (!this.filters.isEmpty() && !this.filters.stream().allMatch(filter -> filter.test(event))) {
+    /**
+     * Handle the given event, for subscribers that can expire.
+     *
+     * @param event Event.
+     *
+     * @throws Exception if something goes wrong while handling the event.
+     */
+    private void invokeExpiring(@NotNull T event) throws Exception {
+        EventSubscription subscription = getSubscription();
+        int claimed = accept(subscription, event);
+        if (claimed == REJECTED) {
             return;
         }
 
-        if (this.expireWhen.test(event)) {
-            this.subscription.unsubscribe();
+        try {
+            this.handler.on(event);
+        } finally {
+            if (claimed == 1) {
+                expire(subscription);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onBatch(@NotNull List<T> events) throws Exception {
+        Preconditions.checkNotNull("events", events);
+        if (this.batchHandler == null) {
+            for (T event : events) {
+                on(event);
+            }
             return;
         }
 
-        this.handler.on(event);
+        EventSubscription subscription = getSubscription();
+        List<T> accepted = new ArrayList<>(events.size());
+        boolean last = false;
+        for (T event : events) {
+            int claimed = accept(subscription, event);
+            if (claimed != REJECTED) {
+                accepted.add(event);
+                if (claimed == 1) {
+                    last = true;
+                    break;
+                }
+            }
+        }
+
+        if (accepted.isEmpty()) {
+            return;
+        }
 
-        if (this.expirationCount != null && this.expirationCount.decrementAndGet() == 0) {
-            this.subscription.unsubscribe();
+        try {
+            this.batchHandler.accept(accepted);
+        } finally {
+            if (last) {
+                expire(subscription);
+            }
         }
     }
 
@@ -100,6 +170,46 @@ final class EventSubscriberImpl<T extends ChameleonEvent> implements EventSubscr
         return this.acceptsCancelled;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isAsync() {
+        return this.async;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isBlocking() {
+        return this.blocking;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @Nullable Duration getAwaitTimeout() {
+        return this.awaitTimeout;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @Nullable EventKey<? super T, ?> getKey() {
+        return this.key;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @Nullable Object getKeyValue() {
+        return this.keyValue;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -108,6 +218,133 @@ final class EventSubscriberImpl<T extends ChameleonEvent> implements EventSubscr
         return this.type;
     }
 
+    /**
+     * Returns the type of the handler given to this subscriber, used to identify it.
+     *
+     * @return handler type.
+     */
+    @NotNull Class<?> getHandlerType() {
+        return this.handlerType;
+    }
+
+    private @NotNull EventSubscription getSubscription() {
+        EventSubscription subscription = this.subscription;
+        if (subscription == null) {
+            throw new IllegalStateException();
+        }
+        return subscription;
+    }
+
+    /**
+     * Check whether the given event should be handled, claiming an execution if this subscriber
+     * expires after a set amount of executions.
+     *
+     * @param subscription Subscription of this subscriber.
+     * @param event        Event.
+     *
+     * @return {@link #REJECTED} if the event should not be handled, {@link #UNLIMITED} if this
+     *     subscriber does not expire after a set amount of executions, otherwise the amount of
+     *     executions that were remaining before this one was claimed.
+     */
+    private int accept(@NotNull EventSubscription subscription, @NotNull T event) {
+        if (this.filter != null && !this.filter.test(event)) {
+            return REJECTED;
+        }
+
+        if (this.expired) {
+            return REJECTED;
+        }
+
+        if (this.expireWhen != null && this.expireWhen.test(event)) {
+            expire(subscription);
+            return REJECTED;
+        }
+
+        if (this.expirationCount == null) {
+            return UNLIMITED;
+        }
+
+        // Claim an execution before running the handler, so concurrent dispatches can never run
+        // the handler more than expiresAfter times.
+        int remaining;
+        do {
+            remaining = this.expirationCount.get();
+            if (remaining <= 0) {
+                return REJECTED;
+            }
+        } while (!this.expirationCount.compareAndSet(remaining, remaining - 1));
+        return remaining;
+    }
+
+    private void expire(@NotNull EventSubscription subscription) {
+        this.expired = true;
+        subscription.unsubscribe();
+    }
+
+    /**
+     * Create the invoker used to handle single events, skipping every check this subscriber does
+     * not need.
+     *
+     * @return new invoker.
+     */
+    private @NotNull EventSubscriber<T> createInvoker() {
+        EventSubscriber<T> target = this.handler;
+        if (this.expireWhen != null || this.expirationCount != null) {
+            return this::invokeExpiring;
+        }
+
+        Predicate<T> compiled = this.filter;
+        if (compiled == null) {
+            return target;
+        }
+        return event -> {
+            if (compiled.test(event)) {
+                target.on(event);
+            }
+        };
+    }
+
+    /**
+     * Compile the given filters into a single predicate.
+     * <p>The common cases of up to three filters are fused into a fixed-arity predicate, so
+     * testing them does not allocate or iterate.</p>
+     *
+     * @param filters Filters.
+     * @param <T>     Event type.
+     *
+     * @return compiled predicate, or {@code null} if there are no filters.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static <T> @Nullable Predicate<T> compile(@NotNull Collection<Predicate<T>> filters) {
+        Predicate<T>[] array = filters.toArray(new Predicate[0]);
+        switch (array.length) {
+            case 0:
+                return null;
+            case 1:
+                return array[0];
+            case 2: {
+                Predicate<T> first = array[0];
+                Predicate<T> second = array[1];
+                return event -> first.test(event) && second.test(event);
+            }
+            case 3: {
+                Predicate<T> first = array[0];
+                Predicate<T> second = array[1];
+                Predicate<T> third = array[2];
+                return event -> first.test(event) && second.test(event) && third.test(event);
+            }
+            default:
+                return event -> {
+                    for (Predicate<T> predicate : array) {
+                        if (!predicate.test(event)) {
+                            return false;
+                        }
+                    }
+                    return true;
+                };
+        }
+    }
+
     void setSubscription(@NotNull EventSubscription subscription) {
         Preconditions.checkNotNull("subscription", subscription);
         this.subscription = subscription;
@@ -117,11 +354,18 @@ final class EventSubscriberImpl<T extends ChameleonEvent> implements EventSubscr
 
         private final @NotNull Class<T> type;
         private @Nullable EventSubscriber<T> handler;
+        private @NotNull Class<?> handlerType = Object.class;
+        private @Nullable Consumer<List<T>> batchHandler;
         private @NotNull EventSubscriptionPriority priority = EventSubscriptionPriority.NORMAL;
         private boolean acceptsCancelled = false;
+        private boolean async = false;
+        private boolean blocking = false;
+        private @Nullable Duration awaitTimeout;
+        private @Nullable EventKey<? super T, ?> key;
+        private @Nullable Object keyValue;
 
         private final @NotNull Collection<Predicate<T>> filters = new ArrayList<>();
-        private @NotNull Predicate<T> expireWhen = event -> false;
+        private @Nullable Predicate<T> expireWhen;
         private int expiresAfter = -1;
 
         BuilderImpl(@NotNull Class<T> type) {
@@ -136,6 +380,20 @@ final class EventSubscriberImpl<T extends ChameleonEvent> implements EventSubscr
         public @NotNull Builder<T> handler(@NotNull Consumer<T> handler) {
             Preconditions.checkNotNull("handler", handler);
             this.handler = handler::accept;
+            this.handlerType = handler.getClass();
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public @NotNull Builder<T> batchHandler(@NotNull Consumer<List<T>> batchHandler) {
+            Preconditions.checkNotNull("batchHandler", batchHandler);
+            this.batchHandler = batchHandler;
+            if (this.handler == null) {
+                this.handlerType = batchHandler.getClass();
+            }
             return this;
         }
 
@@ -158,6 +416,47 @@ final class EventSubscriberImpl<T extends ChameleonEvent> implements EventSubscr
             return this;
         }
 
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public @NotNull Builder<T> async(boolean async) {
+            this.async = async;
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public @NotNull Builder<T> blocking(boolean blocking) {
+            this.blocking = blocking;
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public @NotNull Builder<T> awaitCompletion(@NotNull Duration timeout) {
+            Preconditions.checkNotNull("timeout", timeout);
+            Preconditions.checkArgument(!timeout.isNegative() && !timeout.isZero(), "timeout must be positive");
+            this.awaitTimeout = timeout;
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public <K> @NotNull Builder<T> key(@NotNull EventKey<? super T, K> key, @NotNull K value) {
+            Preconditions.checkNotNull("key", key);
+            Preconditions.checkNotNull("value", value);
+            this.key = key;
+            this.keyValue = value;
+            return this;
+        }
+
         /**
          * {@inheritDoc}
          */
@@ -202,10 +501,17 @@ final class EventSubscriberImpl<T extends ChameleonEvent> implements EventSubscr
          */
         @Override
         public @NotNull EventSubscriber<T> build() {
-            Preconditions.checkState(this.handler != null, "handler is required");
+            Preconditions.checkState(this.handler != null || this.batchHandler != null, "handler is required");
+            EventSubscriber<T> handler = this.handler;
+            if (handler == null) {
+                Consumer<List<T>> batchHandler = Objects.requireNonNull(this.batchHandler);
+                handler = event -> batchHandler.accept(Collections.singletonList(event));
+            }
+
             return new EventSubscriberImpl<>(
-                this.type, Objects.requireNonNull(this.handler), this.priority,
-                this.acceptsCancelled, this.filters, this.expireWhen, this.expiresAfter
+                this.type, handler, this.handlerType, this.batchHandler, this.priority,
+                this.acceptsCancelled, this.async, this.blocking, this.awaitTimeout, this.key, this.keyValue,
+                this.filters, this.expireWhen, this.expiresAfter
             );
         }
 
@@ -0,0 +1,306 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.event;
+
+import dev.hypera.chameleon.event.annotations.Subscribe;
+import dev.hypera.chameleon.exception.reflection.ChameleonReflectiveException;
+import dev.hypera.chameleon.logger.ChameleonLogger;
+import dev.hypera.chameleon.util.Preconditions;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import org.jetbrains.annotations.ApiStatus.Internal;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.VisibleForTesting;
+
+/**
+ * Listener scanner, finds {@link Subscribe} methods and links them into direct
+ * {@link EventSubscriber} invokers.
+ * <p>Scanning and linking is done once per listener class, binding a listener instance afterwards
+ * only invokes a pre-linked factory. Listener classes from another class loader can only be linked
+ * into a lambda class with a lookup that has full privilege access in that class, if no such lookup
+ * is given, the scanner falls back to slower bound method handles and says so once per class.</p>
+ */
+@Internal
+final class ListenerScanner {
+
+    private static final @NotNull MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final @NotNull MethodType SUBSCRIBER_METHOD_TYPE = MethodType.methodType(void.class, ChameleonEvent.class);
+    private static final @NotNull MethodType FACTORY_METHOD_TYPE = MethodType.methodType(EventSubscriber.class, Object.class);
+    private static final @NotNull MethodType TARGET_METHOD_TYPE = MethodType.methodType(void.class, Object.class, ChameleonEvent.class);
+    private static final @NotNull ClassValue<LinkedListener> CACHE = new ClassValue<>() {
+        @Override
+        protected @NotNull LinkedListener computeValue(@NotNull Class<?> type) {
+            return new LinkedListener(type);
+        }
+    };
+
+    private ListenerScanner() {
+
+    }
+
+    /**
+     * Returns the subscriber methods of the given listener class, linked with Chameleon's own
+     * lookup.
+     *
+     * @param listenerClass Listener class.
+     * @param logger        Logger used to report a fallback to bound method handles.
+     *
+     * @return subscriber methods.
+     * @throws IllegalArgumentException     if a {@link Subscribe} method has an invalid signature.
+     * @throws ChameleonReflectiveException if a {@link Subscribe} method could not be linked.
+     */
+    static @NotNull List<ListenerMethod> getMethods(@NotNull Class<?> listenerClass, @NotNull ChameleonLogger logger) {
+        return CACHE.get(listenerClass).get(null, logger);
+    }
+
+    /**
+     * Returns the subscriber methods of the given listener class.
+     * <p>If the methods were previously linked into bound method handles, they are linked again
+     * using the given lookup.</p>
+     *
+     * @param listenerClass Listener class.
+     * @param lookup        Lookup used to link the methods, or {@code null} to use Chameleon's own.
+     * @param logger        Logger used to report a fallback to bound method handles.
+     *
+     * @return subscriber methods.
+     * @throws IllegalArgumentException     if a {@link Subscribe} method has an invalid signature.
+     * @throws ChameleonReflectiveException if a {@link Subscribe} method could not be linked.
+     */
+    static @NotNull List<ListenerMethod> getMethods(@NotNull Class<?> listenerClass, @Nullable MethodHandles.Lookup lookup, @NotNull ChameleonLogger logger) {
+        return CACHE.get(listenerClass).get(lookup, logger);
+    }
+
+    private static @NotNull List<ListenerMethod> scan(@NotNull Class<?> listenerClass, @NotNull MethodHandles.Lookup caller) {
+        List<ListenerMethod> methods = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        for (Class<?> type = listenerClass; type != null && type != Object.class; type = type.getSuperclass()) {
+            for (Method method : type.getDeclaredMethods()) {
+                Subscribe annotation = method.getAnnotation(Subscribe.class);
+                // Overridden methods are only linked once, using the most specific declaration.
+                if (annotation == null || !seen.add(method.getName() + Arrays.toString(method.getParameterTypes()))) {
+                    continue;
+                }
+
+                methods.add(link(method, annotation, caller));
+            }
+        }
+        return Collections.unmodifiableList(methods);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static @NotNull ListenerMethod link(@NotNull Method method, @NotNull Subscribe annotation, @NotNull MethodHandles.Lookup caller) {
+        Preconditions.checkArgument(!Modifier.isStatic(method.getModifiers()), "@Subscribe method %s must not be static", method);
+        Preconditions.checkArgument(method.getReturnType() == void.class, "@Subscribe method %s must return void", method);
+        Preconditions.checkArgument(
+            method.getParameterCount() == 1 && ChameleonEvent.class.isAssignableFrom(method.getParameterTypes()[0]),
+            "@Subscribe method %s must have exactly one ChameleonEvent parameter", method
+        );
+
+        Class<?> declaringClass = method.getDeclaringClass();
+        Class<? extends ChameleonEvent> eventType = (Class<? extends ChameleonEvent>) method.getParameterTypes()[0];
+        try {
+            MethodHandles.Lookup lookup = privateLookupIn(declaringClass, caller);
+            MethodHandle target = lookup.unreflect(method);
+            try {
+                CallSite callSite = LambdaMetafactory.metafactory(
+                    lookup, "on", MethodType.methodType(EventSubscriber.class, declaringClass),
+                    SUBSCRIBER_METHOD_TYPE, target, MethodType.methodType(void.class, eventType)
+                );
+                return new ListenerMethod(eventType, annotation, callSite.getTarget().asType(FACTORY_METHOD_TYPE), null);
+            } catch (LambdaConversionException | IllegalAccessError ex) {
+                // The lookup does not have enough access to spin a lambda class, for example if the
+                // listener was loaded by another class loader and registered without its own
+                // lookup. Fall back to a bound method handle.
+                return new ListenerMethod(eventType, annotation, null, target.asType(TARGET_METHOD_TYPE));
+            }
+        } catch (IllegalAccessException ex) {
+            throw new ChameleonReflectiveException("Failed to access @Subscribe method " + method, ex);
+        }
+    }
+
+    private static @NotNull MethodHandles.Lookup privateLookupIn(@NotNull Class<?> declaringClass, @NotNull MethodHandles.Lookup caller) throws IllegalAccessException {
+        try {
+            return MethodHandles.privateLookupIn(declaringClass, caller);
+        } catch (IllegalAccessException ex) {
+            // A caller lookup only has access to its own module, superclasses elsewhere are
+            // linked with Chameleon's lookup instead.
+            if (caller == LOOKUP) {
+                throw ex;
+            }
+            return MethodHandles.privateLookupIn(declaringClass, LOOKUP);
+        }
+    }
+
+    private static boolean isGenerated(@NotNull List<ListenerMethod> methods) {
+        for (ListenerMethod method : methods) {
+            if (!method.isGenerated()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Linked listener class, holds the linked methods of one listener class.
+     */
+    private static final class LinkedListener {
+
+        private final @NotNull Class<?> type;
+        private volatile @Nullable List<ListenerMethod> methods;
+        private volatile boolean generated;
+        private boolean reported;
+
+        private LinkedListener(@NotNull Class<?> type) {
+            this.type = type;
+        }
+
+        @NotNull List<ListenerMethod> get(@Nullable MethodHandles.Lookup lookup, @NotNull ChameleonLogger logger) {
+            List<ListenerMethod> linked = this.methods;
+            if (linked != null && (lookup == null || this.generated)) {
+                return linked;
+            }
+
+            synchronized (this) {
+                linked = this.methods;
+                if (linked != null && (lookup == null || this.generated)) {
+                    return linked;
+                }
+
+                linked = scan(this.type, lookup == null ? LOOKUP : lookup);
+                boolean linkedGenerated = isGenerated(linked);
+                if (!linkedGenerated && !this.reported) {
+                    this.reported = true;
+                    logger.warn(
+                        "Listener %s could not be linked into a generated subscriber and uses slower method handles, register it with its own MethodHandles.lookup() to avoid this",
+                        this.type.getName()
+                    );
+                }
+                this.generated = linkedGenerated;
+                this.methods = linked;
+                return linked;
+            }
+        }
+
+    }
+
+    /**
+     * Listener method, a linked {@link Subscribe} method.
+     */
+    static final class ListenerMethod {
+
+        private final @NotNull Class<? extends ChameleonEvent> eventType;
+        private final @NotNull Subscribe annotation;
+        // Exactly one of these is set, depending on whether a lambda class could be created.
+        private final @Nullable MethodHandle factory;
+        private final @Nullable MethodHandle target;
+
+        private ListenerMethod(@NotNull Class<? extends ChameleonEvent> eventType, @NotNull Subscribe annotation, @Nullable MethodHandle factory, @Nullable MethodHandle target) {
+            this.eventType = eventType;
+            this.annotation = annotation;
+            this.factory = factory;
+            this.target = target;
+        }
+
+        @SuppressWarnings("unchecked")
+        @NotNull Class<ChameleonEvent> getEventType() {
+            return (Class<ChameleonEvent>) this.eventType;
+        }
+
+        /**
+         * Returns whether this method was linked into a generated lambda class.
+         *
+         * @return {@code true} if a lambda class was generated, otherwise {@code false}.
+         */
+        @VisibleForTesting
+        boolean isGenerated() {
+            return this.factory != null;
+        }
+
+        /**
+         * Bind this method to the given listener instance.
+         *
+         * @param listener Listener instance.
+         *
+         * @return new event subscriber.
+         */
+        @SuppressWarnings("unchecked")
+        @NotNull EventSubscriber<ChameleonEvent> bind(@NotNull Object listener) {
+            EventSubscriber<ChameleonEvent> handler;
+            if (this.factory != null) {
+                try {
+                    handler = (EventSubscriber<ChameleonEvent>) this.factory.invokeExact(listener);
+                } catch (RuntimeException | Error ex) {
+                    throw ex;
+                } catch (Throwable ex) {
+                    throw new ChameleonReflectiveException("Failed to bind @Subscribe method", ex);
+                }
+            } else {
+                handler = new MethodHandleSubscriber(Objects.requireNonNull(this.target).bindTo(listener));
+            }
+
+            return new EventSubscriberImpl<>(
+                getEventType(), handler, listener.getClass(), null, this.annotation.priority(),
+                this.annotation.acceptsCancelled(), this.annotation.async(), this.annotation.blocking(), null,
+                null, null, Collections.emptyList(), null, -1
+            );
+        }
+
+    }
+
+    private static final class MethodHandleSubscriber implements EventSubscriber<ChameleonEvent> {
+
+        private final @NotNull MethodHandle handle;
+
+        private MethodHandleSubscriber(@NotNull MethodHandle handle) {
+            this.handle = handle;
+        }
+
+        @Override
+        public void on(@NotNull ChameleonEvent event) throws Exception {
+            try {
+                this.handle.invokeExact(event);
+            } catch (Exception | Error ex) {
+                throw ex;
+            } catch (Throwable ex) {
+                throw new ChameleonReflectiveException("Failed to invoke @Subscribe method", ex);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,56 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.event;
+
+/**
+ * Overflow policy, decides what happens to a task submitted to a full
+ * {@link AsyncEventExecutor} queue.
+ */
+public enum OverflowPolicy {
+
+    /**
+     * Block the submitting thread until space becomes available in the queue.
+     * <p>This must not be used if events are dispatched asynchronously from inside an asynchronous
+     * subscriber, as all workers could end up waiting on themselves.</p>
+     */
+    BLOCK,
+
+    /**
+     * Drop the oldest queued task to make space for the new one.
+     * <p>If the oldest queued task is the mailbox of an order key, only the oldest task of that
+     * key is dropped.</p>
+     * <p>If the dropped task was created by {@link EventBus#dispatchAsync(ChameleonEvent)}, the
+     * returned future is completed exceptionally with a
+     * {@link java.util.concurrent.RejectedExecutionException}.</p>
+     */
+    DROP_OLDEST,
+
+    /**
+     * Run the task on the submitting thread.
+     * <p>Tasks with an order key are not run directly, as they could overtake the tasks queued
+     * for their key. The submitting thread runs queued tasks instead, until there is space.</p>
+     */
+    CALLER_RUNS
+
+}
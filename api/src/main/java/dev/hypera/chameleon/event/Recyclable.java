@@ -0,0 +1,54 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.event;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Represents an event that may be recycled.
+ * <p>Recyclable events may be borrowed from a pool by the platform and reused once they have been
+ * dispatched, so subscribers must not keep a reference to them after handling them, unless they
+ * call {@link #retain()} or keep a {@link #snapshot()} instead.</p>
+ *
+ * @param <T> Event type.
+ */
+public interface Recyclable<T extends ChameleonEvent> {
+
+    /**
+     * Prevent this event instance from being recycled.
+     * <p>Subscribers that need to keep a reference to this event after handling it, for example
+     * to use it from another thread, must call this method while handling it.</p>
+     *
+     * @return {@code this}.
+     */
+    @NotNull T retain();
+
+    /**
+     * Create a copy of the current state of this event which will never be recycled.
+     *
+     * @return new event.
+     */
+    @NotNull T snapshot();
+
+}
@@ -0,0 +1,97 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.event;
+
+import java.time.Duration;
+import org.jetbrains.annotations.ApiStatus.NonExtendable;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Subscriber metrics, an immutable snapshot of the invocations of a single subscriber for a single
+ * event type.
+ * <p>Latencies are recorded in a log-bucketed histogram, bucket {@code i} counts the invocations
+ * that took between {@code 2^i} (inclusive) and {@code 2^(i + 1)} (exclusive) nanoseconds.</p>
+ */
+@NonExtendable
+public interface SubscriberMetrics {
+
+    /**
+     * Amount of buckets in the latency histogram.
+     */
+    int HISTOGRAM_BUCKETS = 64;
+
+    /**
+     * Returns the dispatched event type.
+     *
+     * @return event type.
+     */
+    @NotNull Class<? extends ChameleonEvent> getEventType();
+
+    /**
+     * Returns the type of the subscriber, or of the handler or listener it was created from.
+     *
+     * @return subscriber type.
+     */
+    @NotNull Class<?> getSubscriberType();
+
+    /**
+     * Returns the name of the plugin or jar file the subscriber type was loaded from.
+     *
+     * @return source name, or {@code null} if it could not be determined.
+     */
+    @Nullable String getSource();
+
+    /**
+     * Returns the amount of recorded invocations.
+     *
+     * @return invocation count.
+     */
+    long getInvocations();
+
+    /**
+     * Returns the total time spent in recorded invocations.
+     *
+     * @return total time.
+     */
+    @NotNull Duration getTotalTime();
+
+    /**
+     * Returns the latency histogram.
+     *
+     * @return a copy of the histogram, with {@value #HISTOGRAM_BUCKETS} buckets.
+     */
+    long[] getHistogram();
+
+    /**
+     * Returns an upper bound of the given latency percentile.
+     *
+     * @param percentile Percentile, between {@code 0} and {@code 100}.
+     *
+     * @return the exclusive upper bound of the histogram bucket containing the percentile, or
+     *     {@link Duration#ZERO} if no invocations have been recorded.
+     */
+    @NotNull Duration getPercentile(double percentile);
+
+}
@@ -0,0 +1,128 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.event;
+
+import dev.hypera.chameleon.util.Preconditions;
+import java.time.Duration;
+import org.jetbrains.annotations.ApiStatus.Internal;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Subscriber metrics implementation.
+ */
+@Internal
+final class SubscriberMetricsImpl implements SubscriberMetrics {
+
+    private final @NotNull Class<? extends ChameleonEvent> eventType;
+    private final @NotNull Class<?> subscriberType;
+    private final @Nullable String source;
+    private final long invocations;
+    private final long totalNanos;
+    private final long[] histogram;
+
+    SubscriberMetricsImpl(@NotNull Class<? extends ChameleonEvent> eventType, @NotNull Class<?> subscriberType, @Nullable String source, long invocations, long totalNanos, long[] histogram) {
+        this.eventType = eventType;
+        this.subscriberType = subscriberType;
+        this.source = source;
+        this.invocations = invocations;
+        this.totalNanos = totalNanos;
+        this.histogram = histogram;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull Class<? extends ChameleonEvent> getEventType() {
+        return this.eventType;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull Class<?> getSubscriberType() {
+        return this.subscriberType;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @Nullable String getSource() {
+        return this.source;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getInvocations() {
+        return this.invocations;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull Duration getTotalTime() {
+        return Duration.ofNanos(this.totalNanos);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long[] getHistogram() {
+        return this.histogram.clone();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull Duration getPercentile(double percentile) {
+        Preconditions.checkArgument(percentile >= 0 && percentile <= 100, "percentile must be between 0 and 100");
+
+        long total = 0;
+        for (long count : this.histogram) {
+            total += count;
+        }
+        if (total == 0) {
+            return Duration.ZERO;
+        }
+
+        long target = Math.max(1, (long) Math.ceil(total * percentile / 100));
+        long seen = 0;
+        for (int i = 0; i < this.histogram.length; i++) {
+            seen += this.histogram[i];
+            if (seen >= target) {
+                return Duration.ofNanos(i >= 62 ? Long.MAX_VALUE : 1L << (i + 1));
+            }
+        }
+        return Duration.ofNanos(Long.MAX_VALUE);
+    }
+
+}
@@ -0,0 +1,187 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.event.bridge;
+
+import dev.hypera.chameleon.Chameleon;
+import dev.hypera.chameleon.event.ChameleonEvent;
+import dev.hypera.chameleon.event.bridge.EventBridgeImpl.BuilderImpl;
+import org.jetbrains.annotations.ApiStatus.NonExtendable;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Event bridge, forwards events between the Chameleon instances of a network, for example
+ * between a proxy and its backend servers.
+ * <p>Events of registered types are encoded when they are dispatched on the local event bus and
+ * sent in batched frames through the transport. Events received from the transport are decoded
+ * and re-dispatched on the local event bus. Both happen once per tick after {@link #start()}, or
+ * whenever {@link #flush()} is called.</p>
+ * <p>Cancelled events are not forwarded, and received events are never forwarded again. Events
+ * are dropped instead of queued without limit if more than the queue capacity are waiting to be
+ * sent or dispatched, for example because the bridge has not been started.</p>
+ */
+@NonExtendable
+public interface EventBridge extends AutoCloseable {
+
+    /**
+     * Default maximum frame size, the largest plugin message every platform accepts.
+     */
+    int DEFAULT_MAX_FRAME_SIZE = 32766;
+
+    /**
+     * Default capacity of the queues of events waiting to be sent and waiting to be dispatched.
+     */
+    int DEFAULT_QUEUE_CAPACITY = 8192;
+
+    /**
+     * Create a new event bridge builder.
+     *
+     * @param chameleon Chameleon instance.
+     *
+     * @return new builder.
+     */
+    static @NotNull Builder builder(@NotNull Chameleon chameleon) {
+        return new BuilderImpl(chameleon);
+    }
+
+    /**
+     * Start flushing this bridge every tick using the Chameleon scheduler.
+     *
+     * @throws IllegalStateException if this bridge has already been started or has been closed.
+     */
+    void start();
+
+    /**
+     * Send the pending outgoing events and dispatch the pending incoming events.
+     */
+    void flush();
+
+    /**
+     * Returns the amount of events waiting to be sent.
+     *
+     * @return pending outgoing event count.
+     */
+    int getPendingCount();
+
+    /**
+     * Returns the amount of events that have been dropped, because they could not be encoded or
+     * decoded, were too large to fit in a frame, did not fit in a full queue, or because the
+     * transport could not send them.
+     *
+     * @return dropped event count.
+     */
+    long getDroppedCount();
+
+    /**
+     * Returns whether this bridge has been closed.
+     *
+     * @return {@code true} if this bridge has been closed, otherwise {@code false}.
+     */
+    boolean isClosed();
+
+    /**
+     * Stop forwarding events, flush the pending events and close the transport.
+     */
+    @Override
+    void close();
+
+
+    /**
+     * Event bridge builder.
+     */
+    @NonExtendable
+    interface Builder {
+
+        /**
+         * Set the transport used to send and receive frames.
+         *
+         * @param transport Transport.
+         *
+         * @return {@code this}.
+         */
+        @Contract("_ -> this")
+        @NotNull Builder transport(@NotNull EventBridgeTransport transport);
+
+        /**
+         * Forward events of the given type, identified by the name of the type.
+         *
+         * @param type  Event type.
+         * @param codec Event codec.
+         * @param <T>   Event type.
+         *
+         * @return {@code this}.
+         */
+        @Contract("_, _ -> this")
+        <T extends ChameleonEvent> @NotNull Builder register(@NotNull Class<T> type, @NotNull EventCodec<T> codec);
+
+        /**
+         * Forward events of the given type, identified by the given identifier.
+         * <p>Use this if the type may have different names on each side, for example because it
+         * is relocated.</p>
+         *
+         * @param id    Type identifier, must be the same on every side.
+         * @param type  Event type.
+         * @param codec Event codec.
+         * @param <T>   Event type.
+         *
+         * @return {@code this}.
+         */
+        @Contract("_, _, _ -> this")
+        <T extends ChameleonEvent> @NotNull Builder register(@NotNull String id, @NotNull Class<T> type, @NotNull EventCodec<T> codec);
+
+        /**
+         * Set the maximum size of a frame, larger batches are split into multiple frames.
+         * <p>Defaults to {@link #DEFAULT_MAX_FRAME_SIZE}.</p>
+         *
+         * @param maxFrameSize Maximum frame size in bytes.
+         *
+         * @return {@code this}.
+         */
+        @Contract("_ -> this")
+        @NotNull Builder maxFrameSize(int maxFrameSize);
+
+        /**
+         * Set the capacity of the queues of events waiting to be sent and waiting to be
+         * dispatched.
+         * <p>Defaults to {@link #DEFAULT_QUEUE_CAPACITY}.</p>
+         *
+         * @param queueCapacity Queue capacity.
+         *
+         * @return {@code this}.
+         */
+        @Contract("_ -> this")
+        @NotNull Builder queueCapacity(int queueCapacity);
+
+        /**
+         * Build the event bridge, subscribing to the registered event types.
+         *
+         * @return new event bridge.
+         * @throws IllegalStateException if no transport has been set.
+         */
+        @Contract("-> new")
+        @NotNull EventBridge build();
+
+    }
+
+}
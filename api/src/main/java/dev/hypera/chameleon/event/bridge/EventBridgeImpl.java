@@ -0,0 +1,368 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.event.bridge;
+
+import dev.hypera.chameleon.Chameleon;
+import dev.hypera.chameleon.event.ChameleonEvent;
+import dev.hypera.chameleon.event.EventBus;
+import dev.hypera.chameleon.event.EventScope;
+import dev.hypera.chameleon.event.EventSubscriber;
+import dev.hypera.chameleon.event.EventSubscriptionPriority;
+import dev.hypera.chameleon.event.bridge.EventCodecRegistry.Registration;
+import dev.hypera.chameleon.event.bridge.EventFrame.Payload;
+import dev.hypera.chameleon.logger.ChameleonLogger;
+import dev.hypera.chameleon.scheduler.Schedule;
+import dev.hypera.chameleon.scheduler.ScheduledTask;
+import dev.hypera.chameleon.scheduler.Task;
+import dev.hypera.chameleon.util.Preconditions;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.jetbrains.annotations.ApiStatus.Internal;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Event bridge implementation.
+ * <p>Outgoing events are encoded on the dispatching thread, so the event itself is not retained.
+ * Incoming events are decoded on the transport thread and dispatched together, with
+ * {@link EventBus#dispatchAll(java.util.Collection)}, when this bridge is flushed.</p>
+ */
+@Internal
+final class EventBridgeImpl implements EventBridge {
+
+    private final @NotNull Chameleon chameleon;
+    private final @NotNull EventBus eventBus;
+    private final @NotNull ChameleonLogger logger;
+    private final @NotNull EventBridgeTransport transport;
+    private final int maxFrameSize;
+    private final @NotNull EventCodecRegistry registry;
+    private final @NotNull EventScope scope;
+
+    private final @NotNull Queue<Payload> outgoing;
+    private final @NotNull Queue<ChameleonEvent> incoming;
+    private final @NotNull AtomicInteger pending = new AtomicInteger();
+    private final @NotNull AtomicLong dropped = new AtomicLong();
+    private final @NotNull AtomicBoolean closed = new AtomicBoolean();
+    private final @NotNull Object lock = new Object();
+    private volatile @Nullable Set<ChameleonEvent> redispatching;
+    private volatile @Nullable ScheduledTask task;
+
+    EventBridgeImpl(@NotNull Chameleon chameleon, @NotNull EventBridgeTransport transport, int maxFrameSize, int queueCapacity, @NotNull EventCodecRegistry registry) {
+        this.chameleon = chameleon;
+        this.eventBus = chameleon.getEventBus();
+        this.logger = chameleon.getInternalLogger();
+        this.transport = transport;
+        this.maxFrameSize = maxFrameSize;
+        this.outgoing = new ArrayBlockingQueue<>(queueCapacity);
+        this.incoming = new ArrayBlockingQueue<>(queueCapacity);
+        this.registry = registry;
+        this.scope = this.eventBus.scope(this);
+
+        for (Registration<?> registration : registry.getRegistrations()) {
+            subscribe(registration);
+        }
+        transport.receive(this::receive);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void start() {
+        synchronized (this.lock) {
+            Preconditions.checkState(!this.closed.get(), "Event bridge has been closed");
+            Preconditions.checkState(this.task == null, "Event bridge has already been started");
+            this.task = this.chameleon.getScheduler().schedule(
+                Task.builder(this::flush).sync().repeat(Schedule.ticks(1)).build()
+            );
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void flush() {
+        synchronized (this.lock) {
+            sendOutgoing();
+            dispatchIncoming();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getPendingCount() {
+        return this.pending.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getDroppedCount() {
+        return this.dropped.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isClosed() {
+        return this.closed.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() {
+        if (!this.closed.compareAndSet(false, true)) {
+            return;
+        }
+
+        ScheduledTask scheduledTask = this.task;
+        if (scheduledTask != null) {
+            scheduledTask.cancel();
+        }
+        this.scope.close();
+        flush();
+        this.transport.close();
+    }
+
+    private <T extends ChameleonEvent> void subscribe(@NotNull Registration<T> registration) {
+        this.scope.subscribe(registration.getType(), EventSubscriber.builder(registration.getType())
+            .priority(EventSubscriptionPriority.LAST)
+            .handler(event -> enqueue(registration, event))
+            .build());
+    }
+
+    private void enqueue(@NotNull Registration<?> registration, @NotNull ChameleonEvent event) {
+        Set<ChameleonEvent> received = this.redispatching;
+        if (this.closed.get() || (received != null && received.contains(event))) {
+            return;
+        }
+        // Subscribers for a type also see its subtypes, only the most specific registration sends.
+        if (this.registry.resolve(event.getClass()) != registration) {
+            return;
+        }
+
+        Payload payload;
+        try {
+            payload = new Payload(registration.getId(), registration.encode(event));
+        } catch (IOException | RuntimeException ex) {
+            this.dropped.incrementAndGet();
+            this.logger.error("Failed to encode bridged event %s", ex, event.getClass().getCanonicalName());
+            return;
+        }
+
+        if (EventFrame.sizeOf(payload) > this.maxFrameSize) {
+            this.dropped.incrementAndGet();
+            this.logger.warn("Bridged event %s does not fit in a frame of %d bytes", event.getClass().getCanonicalName(), this.maxFrameSize);
+            return;
+        }
+
+        if (!this.outgoing.offer(payload)) {
+            this.dropped.incrementAndGet();
+            return;
+        }
+        this.pending.incrementAndGet();
+    }
+
+    private void receive(byte @NotNull [] frame) {
+        if (this.closed.get()) {
+            return;
+        }
+
+        List<Payload> payloads;
+        try {
+            payloads = EventFrame.read(frame);
+        } catch (IOException ex) {
+            this.logger.error("Received a malformed event bridge frame", ex);
+            return;
+        }
+
+        for (Payload payload : payloads) {
+            Registration<?> registration = this.registry.get(payload.getTypeId());
+            if (registration == null) {
+                this.logger.debug("Skipping bridged event of unknown type %s", payload.getTypeId());
+                continue;
+            }
+
+            try {
+                if (!this.incoming.offer(registration.decode(payload.getData()))) {
+                    this.dropped.incrementAndGet();
+                }
+            } catch (IOException | RuntimeException ex) {
+                this.dropped.incrementAndGet();
+                this.logger.error("Failed to decode bridged event %s", ex, payload.getTypeId());
+            }
+        }
+    }
+
+    private void sendOutgoing() {
+        EventFrame.Writer writer = new EventFrame.Writer();
+        Payload payload;
+        while ((payload = this.outgoing.poll()) != null) {
+            this.pending.decrementAndGet();
+            if (!writer.isEmpty() && writer.sizeWith(payload) > this.maxFrameSize) {
+                send(writer);
+                writer = new EventFrame.Writer();
+            }
+
+            try {
+                writer.add(payload);
+            } catch (IOException ex) {
+                this.dropped.incrementAndGet();
+                this.logger.error("Failed to write bridged event %s", ex, payload.getTypeId());
+            }
+        }
+
+        if (!writer.isEmpty()) {
+            send(writer);
+        }
+    }
+
+    private void send(@NotNull EventFrame.Writer writer) {
+        try {
+            if (this.transport.send(writer.toByteArray())) {
+                return;
+            }
+            this.logger.debug("Event bridge transport could not send %d events", writer.getCount());
+        } catch (IOException | RuntimeException ex) {
+            this.logger.error("Failed to send an event bridge frame", ex);
+        }
+        this.dropped.addAndGet(writer.getCount());
+    }
+
+    private void dispatchIncoming() {
+        List<ChameleonEvent> events = new ArrayList<>();
+        ChameleonEvent event;
+        while ((event = this.incoming.poll()) != null) {
+            events.add(event);
+        }
+        if (events.isEmpty()) {
+            return;
+        }
+
+        IdentityHashMap<ChameleonEvent, Boolean> received = new IdentityHashMap<>(events.size());
+        for (ChameleonEvent receivedEvent : events) {
+            received.put(receivedEvent, Boolean.TRUE);
+        }
+        this.redispatching = Collections.unmodifiableSet(received.keySet());
+        try {
+            this.eventBus.dispatchAll(events);
+        } finally {
+            this.redispatching = null;
+        }
+    }
+
+    static final class BuilderImpl implements Builder {
+
+        private final @NotNull Chameleon chameleon;
+        private final @NotNull EventCodecRegistry registry = new EventCodecRegistry();
+        private @Nullable EventBridgeTransport transport;
+        private int maxFrameSize = DEFAULT_MAX_FRAME_SIZE;
+        private int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+
+        BuilderImpl(@NotNull Chameleon chameleon) {
+            Preconditions.checkNotNull("chameleon", chameleon);
+            this.chameleon = chameleon;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public @NotNull Builder transport(@NotNull EventBridgeTransport transport) {
+            Preconditions.checkNotNull("transport", transport);
+            this.transport = transport;
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public <T extends ChameleonEvent> @NotNull Builder register(@NotNull Class<T> type, @NotNull EventCodec<T> codec) {
+            Preconditions.checkNotNull("type", type);
+            return register(type.getName(), type, codec);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public <T extends ChameleonEvent> @NotNull Builder register(@NotNull String id, @NotNull Class<T> type, @NotNull EventCodec<T> codec) {
+            this.registry.register(id, type, codec);
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public @NotNull Builder maxFrameSize(int maxFrameSize) {
+            Preconditions.checkArgument(maxFrameSize > 0, "maxFrameSize must be greater than 0");
+            this.maxFrameSize = maxFrameSize;
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public @NotNull Builder queueCapacity(int queueCapacity) {
+            Preconditions.checkArgument(queueCapacity > 0, "queueCapacity must be greater than 0");
+            this.queueCapacity = queueCapacity;
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public @NotNull EventBridge build() {
+            return new EventBridgeImpl(
+                this.chameleon,
+                Preconditions.checkNotNullState("transport", this.transport),
+                this.maxFrameSize,
+                this.queueCapacity,
+                this.registry.copy()
+            );
+        }
+
+    }
+
+}
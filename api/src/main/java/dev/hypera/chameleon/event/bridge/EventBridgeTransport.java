@@ -0,0 +1,59 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.event.bridge;
+
+import java.util.function.Consumer;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Event bridge transport, carries frames between the event bridges of a network.
+ *
+ * @see LoopbackEventBridgeTransport
+ * @see PluginMessageEventBridgeTransport
+ */
+public interface EventBridgeTransport {
+
+    /**
+     * Send a frame to the other side(s) of this transport.
+     *
+     * @param frame Frame to send.
+     *
+     * @return {@code true} if the frame was sent, or {@code false} if it could not be sent, for
+     *     example because there is no connection to send it through.
+     */
+    boolean send(byte @NotNull [] frame);
+
+    /**
+     * Set the receiver of the frames arriving on this transport, replacing any previous receiver.
+     *
+     * @param receiver Frame receiver.
+     */
+    void receive(@NotNull Consumer<byte[]> receiver);
+
+    /**
+     * Stop delivering frames to the receiver of this transport.
+     */
+    void close();
+
+}
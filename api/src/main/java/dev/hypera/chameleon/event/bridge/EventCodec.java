@@ -0,0 +1,62 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.event.bridge;
+
+import dev.hypera.chameleon.event.ChameleonEvent;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Event codec, converts a bridged event to and from its binary form.
+ *
+ * @param <T> Event type.
+ * @see EventBridge.Builder#register(Class, EventCodec)
+ */
+public interface EventCodec<T extends ChameleonEvent> {
+
+    /**
+     * Write the given event.
+     *
+     * @param event  Event to write.
+     * @param output Output to write to.
+     *
+     * @throws IOException if something went wrong while writing the event.
+     */
+    void encode(@NotNull T event, @NotNull DataOutput output) throws IOException;
+
+    /**
+     * Read an event.
+     * <p>Only the bytes written by {@link #encode(ChameleonEvent, DataOutput)} are available to
+     * read.</p>
+     *
+     * @param input Input to read from.
+     *
+     * @return decoded event.
+     * @throws IOException if something went wrong while reading the event.
+     */
+    @NotNull T decode(@NotNull DataInput input) throws IOException;
+
+}
@@ -0,0 +1,358 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.event.bridge;
+
+import dev.hypera.chameleon.event.ChameleonEvent;
+import dev.hypera.chameleon.util.Preconditions;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.jetbrains.annotations.ApiStatus.Internal;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Event codec registry, the codecs registered with an event bridge, recorder or replayer.
+ * <p>Also holds the variable length integer helpers shared by the bridge frame and recording
+ * formats. Lengths read from a peer or a recording are untrusted, so they are checked before
+ * anything is allocated for them.</p>
+ */
+@Internal
+public final class EventCodecRegistry {
+
+    private final @NotNull Map<String, Registration<?>> registrations = new LinkedHashMap<>();
+    private final @NotNull ClassValue<Optional<Registration<?>>> resolvedRegistrations = new ClassValue<>() {
+        @Override
+        protected Optional<Registration<?>> computeValue(Class<?> type) {
+            return Optional.ofNullable(findMostSpecific(type));
+        }
+    };
+
+    /**
+     * Register a codec.
+     * <p>Registrations must not be added once {@link #resolve(Class)} has been called, builders
+     * register with their own registry and hand a {@link #copy()} to what they build.</p>
+     *
+     * @param id    Type identifier.
+     * @param type  Event type.
+     * @param codec Event codec.
+     * @param <T>   Event type.
+     *
+     * @throws IllegalArgumentException if the identifier has already been registered.
+     */
+    public <T extends ChameleonEvent> void register(@NotNull String id, @NotNull Class<T> type, @NotNull EventCodec<T> codec) {
+        Preconditions.checkNotNull("id", id);
+        Preconditions.checkNotNull("type", type);
+        Preconditions.checkNotNull("codec", codec);
+        Preconditions.checkArgument(!this.registrations.containsKey(id), "Event type %s is already registered", id);
+        this.registrations.put(id, new Registration<>(this.registrations.size(), id, type, codec));
+    }
+
+    /**
+     * Returns a copy of this registry.
+     *
+     * @return copy of this registry.
+     */
+    public @NotNull EventCodecRegistry copy() {
+        EventCodecRegistry copy = new EventCodecRegistry();
+        copy.registrations.putAll(this.registrations);
+        return copy;
+    }
+
+    /**
+     * Returns the registration with the given identifier.
+     *
+     * @param id Type identifier.
+     *
+     * @return registration, or {@code null} if the identifier has not been registered.
+     */
+    public @Nullable Registration<?> get(@NotNull String id) {
+        return this.registrations.get(id);
+    }
+
+    /**
+     * Returns the registration of the most specific registered type the given type extends.
+     * <p>Subscribers for a type also see its subtypes, only the most specific registration should
+     * handle an event.</p>
+     *
+     * @param type Event type.
+     *
+     * @return registration, or {@code null} if no registered type matches.
+     */
+    public @Nullable Registration<?> resolve(@NotNull Class<?> type) {
+        return this.resolvedRegistrations.get(type).orElse(null);
+    }
+
+    /**
+     * Returns the registrations, in registration order.
+     *
+     * @return registrations.
+     */
+    public @NotNull List<Registration<?>> getRegistrations() {
+        return Collections.unmodifiableList(new ArrayList<>(this.registrations.values()));
+    }
+
+    private @Nullable Registration<?> findMostSpecific(@NotNull Class<?> type) {
+        Registration<?> resolved = null;
+        for (Registration<?> registration : this.registrations.values()) {
+            if (registration.type.isAssignableFrom(type) && (resolved == null || resolved.type.isAssignableFrom(registration.type))) {
+                resolved = registration;
+            }
+        }
+        return resolved;
+    }
+
+    /**
+     * Write a variable length integer.
+     *
+     * @param output Output.
+     * @param value  Value, written unsigned.
+     *
+     * @throws IOException if the value could not be written.
+     */
+    public static void writeVarInt(@NotNull DataOutput output, int value) throws IOException {
+        writeVarLong(output, value & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Write a variable length long.
+     *
+     * @param output Output.
+     * @param value  Value, written unsigned.
+     *
+     * @throws IOException if the value could not be written.
+     */
+    public static void writeVarLong(@NotNull DataOutput output, long value) throws IOException {
+        long remaining = value;
+        while ((remaining & ~0x7FL) != 0) {
+            output.writeByte((int) ((remaining & 0x7F) | 0x80));
+            remaining >>>= 7;
+        }
+        output.writeByte((int) remaining);
+    }
+
+    /**
+     * Write a zig-zag encoded variable length long, for values that may be negative.
+     *
+     * @param output Output.
+     * @param value  Value.
+     *
+     * @throws IOException if the value could not be written.
+     */
+    public static void writeZigZag(@NotNull DataOutput output, long value) throws IOException {
+        writeVarLong(output, (value << 1) ^ (value >> 63));
+    }
+
+    /**
+     * Returns the amount of bytes the given value takes as a variable length integer.
+     *
+     * @param value Value.
+     *
+     * @return size in bytes.
+     */
+    public static int varIntSize(int value) {
+        int size = 1;
+        int remaining = value;
+        while ((remaining & ~0x7F) != 0) {
+            size++;
+            remaining >>>= 7;
+        }
+        return size;
+    }
+
+    /**
+     * Read a non-negative variable length integer.
+     *
+     * @param input Input.
+     *
+     * @return value.
+     * @throws IOException if the value is malformed or out of range.
+     */
+    public static int readVarInt(@NotNull DataInput input) throws IOException {
+        long value = readVarLong(input);
+        if (value < 0 || value > Integer.MAX_VALUE) {
+            throw new IOException("Variable length integer is out of range");
+        }
+        return (int) value;
+    }
+
+    /**
+     * Read a variable length long.
+     *
+     * @param input Input.
+     *
+     * @return value.
+     * @throws IOException if the value is malformed.
+     */
+    public static long readVarLong(@NotNull DataInput input) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte part = input.readByte();
+            value |= (long) (part & 0x7F) << shift;
+            if ((part & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Variable length integer is too long");
+    }
+
+    /**
+     * Read a zig-zag encoded variable length long.
+     *
+     * @param input Input.
+     *
+     * @return value.
+     * @throws IOException if the value is malformed.
+     */
+    public static long readZigZag(@NotNull DataInput input) throws IOException {
+        long value = readVarLong(input);
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * Read a length, checked against the bytes left in an in-memory input before anything is
+     * allocated for it.
+     *
+     * @param input          Input, which must know exactly how many bytes are left.
+     * @param minElementSize Smallest amount of bytes each counted element takes.
+     *
+     * @return length.
+     * @throws IOException if the length is malformed, or the input can not hold it.
+     */
+    public static int readLength(@NotNull DataInputStream input, int minElementSize) throws IOException {
+        int length = readVarInt(input);
+        int remaining = input.available();
+        if ((long) length * minElementSize > remaining) {
+            throw new IOException("Length " + length + " exceeds the " + remaining + " bytes left");
+        }
+        return length;
+    }
+
+    /**
+     * Read a length-prefixed byte array from a stream of unknown length.
+     * <p>The array grows as bytes arrive, so a forged length can not allocate more memory than
+     * the input holds.</p>
+     *
+     * @param input Input.
+     *
+     * @return bytes.
+     * @throws EOFException if the input ends before the declared length.
+     * @throws IOException  if the length is malformed or the bytes could not be read.
+     */
+    public static byte @NotNull [] readBytes(@NotNull DataInputStream input) throws IOException {
+        int length = readVarInt(input);
+        byte[] bytes = input.readNBytes(length);
+        if (bytes.length < length) {
+            throw new EOFException("Expected " + length + " bytes, but only " + bytes.length + " remain");
+        }
+        return bytes;
+    }
+
+    /**
+     * Codec registration.
+     *
+     * @param <T> Event type.
+     */
+    @Internal
+    public static final class Registration<T extends ChameleonEvent> {
+
+        private final int index;
+        private final @NotNull String id;
+        private final @NotNull Class<T> type;
+        private final @NotNull EventCodec<T> codec;
+
+        private Registration(int index, @NotNull String id, @NotNull Class<T> type, @NotNull EventCodec<T> codec) {
+            this.index = index;
+            this.id = id;
+            this.type = type;
+            this.codec = codec;
+        }
+
+        /**
+         * Returns the index of this registration, in registration order.
+         *
+         * @return index.
+         */
+        public int getIndex() {
+            return this.index;
+        }
+
+        /**
+         * Returns the type identifier.
+         *
+         * @return type identifier.
+         */
+        public @NotNull String getId() {
+            return this.id;
+        }
+
+        /**
+         * Returns the event type.
+         *
+         * @return event type.
+         */
+        public @NotNull Class<T> getType() {
+            return this.type;
+        }
+
+        /**
+         * Encode an event.
+         *
+         * @param event Event, must be an instance of the registered type.
+         *
+         * @return encoded event.
+         * @throws IOException if the event could not be encoded.
+         */
+        public byte @NotNull [] encode(@NotNull ChameleonEvent event) throws IOException {
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            this.codec.encode(this.type.cast(event), new DataOutputStream(output));
+            return output.toByteArray();
+        }
+
+        /**
+         * Decode an event.
+         *
+         * @param data Encoded event.
+         *
+         * @return decoded event.
+         * @throws IOException if the event could not be decoded.
+         */
+        public @NotNull ChameleonEvent decode(byte @NotNull [] data) throws IOException {
+            return this.codec.decode(new DataInputStream(new ByteArrayInputStream(data)));
+        }
+
+    }
+
+}
@@ -0,0 +1,238 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.event.bridge;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.jetbrains.annotations.ApiStatus.Internal;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Event bridge frame format.
+ * <p>A frame carries a batch of encoded events. Type identifiers are written once per frame and
+ * referenced by index, and every payload is length-prefixed so that events of unknown types can
+ * be skipped:</p>
+ * <pre>
+ * byte    version
+ * varint  type count
+ * utf     type identifier (repeated)
+ * varint  event count
+ * varint  type index      (repeated, per event)
+ * varint  payload length
+ * byte[]  payload
+ * </pre>
+ */
+@Internal
+final class EventFrame {
+
+    static final byte VERSION = 1;
+
+    private EventFrame() {
+
+    }
+
+    /**
+     * Read the payloads of the given frame.
+     *
+     * @param frame Frame.
+     *
+     * @return payloads, in the order they were written.
+     * @throws IOException if the frame is malformed, or declares more data than it holds.
+     */
+    static @NotNull List<Payload> read(byte @NotNull [] frame) throws IOException {
+        DataInputStream input = new DataInputStream(new ByteArrayInputStream(frame));
+        byte version = input.readByte();
+        if (version != VERSION) {
+            throw new IOException("Unsupported frame version " + version);
+        }
+
+        // Every type identifier takes at least its two byte length.
+        int typeCount = EventCodecRegistry.readLength(input, 2);
+        String[] types = new String[typeCount];
+        for (int i = 0; i < typeCount; i++) {
+            types[i] = input.readUTF();
+        }
+
+        // Every event takes at least its type index and payload length.
+        int count = EventCodecRegistry.readLength(input, 2);
+        List<Payload> payloads = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int typeIndex = EventCodecRegistry.readVarInt(input);
+            if (typeIndex >= typeCount) {
+                throw new IOException("Type index " + typeIndex + " out of bounds for " + typeCount + " types");
+            }
+            byte[] payload = new byte[EventCodecRegistry.readLength(input, 1)];
+            input.readFully(payload);
+            payloads.add(new Payload(types[typeIndex], payload));
+        }
+        return payloads;
+    }
+
+    /**
+     * Returns the size of a frame holding only the given payload.
+     *
+     * @param payload Payload.
+     *
+     * @return frame size in bytes.
+     */
+    static int sizeOf(@NotNull Payload payload) {
+        return 1 + EventCodecRegistry.varIntSize(1) + utfSize(payload.typeId) + EventCodecRegistry.varIntSize(1)
+            + EventCodecRegistry.varIntSize(0) + EventCodecRegistry.varIntSize(payload.data.length) + payload.data.length;
+    }
+
+    private static int utfSize(@NotNull String value) {
+        int size = 2;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= 0x0001 && c <= 0x007F) {
+                size++;
+            } else if (c > 0x07FF) {
+                size += 3;
+            } else {
+                size += 2;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * An encoded event.
+     */
+    static final class Payload {
+
+        private final @NotNull String typeId;
+        private final byte @NotNull [] data;
+
+        Payload(@NotNull String typeId, byte @NotNull [] data) {
+            this.typeId = typeId;
+            this.data = data;
+        }
+
+        @NotNull String getTypeId() {
+            return this.typeId;
+        }
+
+        byte @NotNull [] getData() {
+            return this.data;
+        }
+
+    }
+
+    /**
+     * Frame writer, collects payloads and keeps track of the resulting frame size.
+     */
+    static final class Writer {
+
+        private final @NotNull Map<String, Integer> typeIndexes = new HashMap<>();
+        private final @NotNull ByteArrayOutputStream types = new ByteArrayOutputStream();
+        private final @NotNull ByteArrayOutputStream events = new ByteArrayOutputStream();
+        private int count;
+
+        /**
+         * Returns whether no payloads have been added to this writer.
+         *
+         * @return {@code true} if this writer is empty.
+         */
+        boolean isEmpty() {
+            return this.count == 0;
+        }
+
+        /**
+         * Returns the amount of payloads added to this writer.
+         *
+         * @return payload count.
+         */
+        int getCount() {
+            return this.count;
+        }
+
+        /**
+         * Returns the size of the frame this writer would produce if the given payload was added.
+         *
+         * @param payload Payload.
+         *
+         * @return frame size in bytes.
+         */
+        int sizeWith(@NotNull Payload payload) {
+            int typeCount = this.typeIndexes.size();
+            int typesSize = this.types.size();
+            Integer typeIndex = this.typeIndexes.get(payload.typeId);
+            if (typeIndex == null) {
+                typeIndex = typeCount++;
+                typesSize += utfSize(payload.typeId);
+            }
+            return 1 + EventCodecRegistry.varIntSize(typeCount) + typesSize + EventCodecRegistry.varIntSize(this.count + 1)
+                + this.events.size() + EventCodecRegistry.varIntSize(typeIndex) + EventCodecRegistry.varIntSize(payload.data.length) + payload.data.length;
+        }
+
+        /**
+         * Add a payload to this writer.
+         *
+         * @param payload Payload.
+         *
+         * @throws IOException if the payload could not be written.
+         */
+        void add(@NotNull Payload payload) throws IOException {
+            Integer typeIndex = this.typeIndexes.get(payload.typeId);
+            if (typeIndex == null) {
+                typeIndex = this.typeIndexes.size();
+                this.typeIndexes.put(payload.typeId, typeIndex);
+                new DataOutputStream(this.types).writeUTF(payload.typeId);
+            }
+
+            DataOutputStream output = new DataOutputStream(this.events);
+            EventCodecRegistry.writeVarInt(output, typeIndex);
+            EventCodecRegistry.writeVarInt(output, payload.data.length);
+            output.write(payload.data);
+            this.count++;
+        }
+
+        /**
+         * Create the frame.
+         *
+         * @return frame bytes.
+         * @throws IOException if the frame could not be written.
+         */
+        byte @NotNull [] toByteArray() throws IOException {
+            ByteArrayOutputStream frame = new ByteArrayOutputStream(this.types.size() + this.events.size() + 16);
+            DataOutputStream output = new DataOutputStream(frame);
+            output.writeByte(VERSION);
+            EventCodecRegistry.writeVarInt(output, this.typeIndexes.size());
+            this.types.writeTo(output);
+            EventCodecRegistry.writeVarInt(output, this.count);
+            this.events.writeTo(output);
+            output.flush();
+            return frame.toByteArray();
+        }
+
+    }
+
+}
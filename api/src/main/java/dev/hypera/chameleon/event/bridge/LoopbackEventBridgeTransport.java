@@ -0,0 +1,102 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.event.bridge;
+
+import dev.hypera.chameleon.util.Preconditions;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * In-memory event bridge transport.
+ * <p>Every transport belongs to a network of transports created with {@link #connect()}. A frame
+ * sent by one transport is delivered immediately, on the sending thread, to every other transport
+ * in the same network.</p>
+ */
+public final class LoopbackEventBridgeTransport implements EventBridgeTransport {
+
+    private final @NotNull List<LoopbackEventBridgeTransport> network;
+    private volatile @Nullable Consumer<byte[]> receiver;
+
+    private LoopbackEventBridgeTransport(@NotNull List<LoopbackEventBridgeTransport> network) {
+        this.network = network;
+        network.add(this);
+    }
+
+    /**
+     * Create a new loopback transport in a new network.
+     *
+     * @return new loopback transport.
+     */
+    public static @NotNull LoopbackEventBridgeTransport create() {
+        return new LoopbackEventBridgeTransport(new CopyOnWriteArrayList<>());
+    }
+
+    /**
+     * Create a new loopback transport in the same network as this transport.
+     *
+     * @return new loopback transport.
+     */
+    public @NotNull LoopbackEventBridgeTransport connect() {
+        return new LoopbackEventBridgeTransport(this.network);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean send(byte @NotNull [] frame) {
+        Preconditions.checkNotNull("frame", frame);
+        boolean sent = false;
+        for (LoopbackEventBridgeTransport transport : this.network) {
+            Consumer<byte[]> peerReceiver = transport.receiver;
+            if (transport != this && peerReceiver != null) {
+                peerReceiver.accept(frame.clone());
+                sent = true;
+            }
+        }
+        return sent;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void receive(@NotNull Consumer<byte[]> receiver) {
+        Preconditions.checkNotNull("receiver", receiver);
+        this.receiver = receiver;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() {
+        this.receiver = null;
+        this.network.remove(this);
+    }
+
+}
@@ -0,0 +1,144 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.event.bridge;
+
+import dev.hypera.chameleon.Chameleon;
+import dev.hypera.chameleon.platform.Platform;
+import dev.hypera.chameleon.platform.proxy.ProxyPlatform;
+import dev.hypera.chameleon.platform.proxy.Server;
+import dev.hypera.chameleon.user.User;
+import dev.hypera.chameleon.util.Preconditions;
+import java.util.Iterator;
+import java.util.function.Consumer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Plugin message event bridge transport.
+ * <p>On a proxy, frames are sent to every server with at least one connected player. On a
+ * server, frames are sent to the proxy through any online user. Plugin messages need a connected
+ * player to travel through, so {@link #send(byte[])} returns {@code false} when there is none.</p>
+ * <p>Incoming plugin messages on the channel must be passed to {@link #handle(byte[])} by the
+ * plugin. On a proxy, only pass messages sent by a backend server, never messages sent by a
+ * player, otherwise players would be able to inject events.</p>
+ */
+public final class PluginMessageEventBridgeTransport implements EventBridgeTransport {
+
+    /**
+     * Default plugin message channel.
+     */
+    public static final @NotNull String DEFAULT_CHANNEL = "chameleon:events";
+
+    private final @NotNull Chameleon chameleon;
+    private final @NotNull String channel;
+    private volatile @Nullable Consumer<byte[]> receiver;
+
+    /**
+     * Plugin message event bridge transport constructor.
+     *
+     * @param chameleon Chameleon instance.
+     * @param channel   Plugin message channel.
+     */
+    public PluginMessageEventBridgeTransport(@NotNull Chameleon chameleon, @NotNull String channel) {
+        Preconditions.checkNotNull("chameleon", chameleon);
+        Preconditions.checkNotNull("channel", channel);
+        this.chameleon = chameleon;
+        this.channel = channel;
+    }
+
+    /**
+     * Plugin message event bridge transport constructor, using the {@link #DEFAULT_CHANNEL}.
+     *
+     * @param chameleon Chameleon instance.
+     */
+    public PluginMessageEventBridgeTransport(@NotNull Chameleon chameleon) {
+        this(chameleon, DEFAULT_CHANNEL);
+    }
+
+    /**
+     * Returns the plugin message channel used by this transport.
+     *
+     * @return plugin message channel.
+     */
+    public @NotNull String getChannel() {
+        return this.channel;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean send(byte @NotNull [] frame) {
+        Preconditions.checkNotNull("frame", frame);
+        Platform platform = this.chameleon.getPlatform();
+        if (platform instanceof ProxyPlatform) {
+            boolean sent = false;
+            for (Server server : ((ProxyPlatform) platform).getServers()) {
+                if (!server.getPlayers().isEmpty()) {
+                    server.sendData(this.channel, frame);
+                    sent = true;
+                }
+            }
+            return sent;
+        }
+
+        Iterator<User> users = this.chameleon.getUserManager().getUsers().iterator();
+        if (!users.hasNext()) {
+            return false;
+        }
+        users.next().sendData(this.channel, frame);
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void receive(@NotNull Consumer<byte[]> receiver) {
+        Preconditions.checkNotNull("receiver", receiver);
+        this.receiver = receiver;
+    }
+
+    /**
+     * Handle a plugin message received on the channel of this transport.
+     *
+     * @param data Plugin message data.
+     */
+    public void handle(byte @NotNull [] data) {
+        Preconditions.checkNotNull("data", data);
+        Consumer<byte[]> currentReceiver = this.receiver;
+        if (currentReceiver != null) {
+            currentReceiver.accept(data);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() {
+        this.receiver = null;
+    }
+
+}
@@ -0,0 +1,235 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.event.common;
+
+import dev.hypera.chameleon.event.AbstractCancellable;
+import dev.hypera.chameleon.event.ChameleonEvent;
+import dev.hypera.chameleon.logger.ChameleonLogger;
+import dev.hypera.chameleon.util.Preconditions;
+import java.net.InetAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import net.kyori.adventure.text.Component;
+import org.jetbrains.annotations.ApiStatus.Internal;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Asynchronous user pre-login event, dispatched while a user is logging in, before they join the
+ * proxy/server.
+ * <p>Subscribers may pass a {@link CompletionStage} to {@link #waitFor(CompletionStage)}, for
+ * example to load data, and the login will only continue once every stage has completed. Stages
+ * must complete within the {@linkplain #getTimeout() timeout} of the event, otherwise the login is denied.
+ * The event is dispatched on a platform login thread, so subscribers must not block.</p>
+ * <p>Cancelling this event denies the login.</p>
+ */
+public final class AsyncUserPreLoginEvent extends AbstractCancellable implements ChameleonEvent {
+
+    /**
+     * Default timeout.
+     */
+    public static final @NotNull Duration DEFAULT_TIMEOUT = Duration.ofSeconds(10);
+
+    private static final @NotNull Component TIMEOUT_REASON = Component.text("Login timed out");
+    private static final @NotNull Component ERROR_REASON = Component.text("An error occurred while logging in");
+
+    private final @NotNull UUID uniqueId;
+    private final @NotNull String name;
+    private final @Nullable InetAddress address;
+    // Guarded by tasks.
+    private final @NotNull List<CompletionStage<?>> tasks = new ArrayList<>();
+    private boolean completing = false;
+    private @NotNull Duration timeout = DEFAULT_TIMEOUT;
+    private @NotNull Component cancelReason = Component.text("Disconnected");
+
+    /**
+     * Asynchronous user pre-login event constructor.
+     *
+     * @param uniqueId  Unique id of the user logging in.
+     * @param name      Name of the user logging in.
+     * @param address   Address the user is logging in from, if known.
+     * @param cancelled Whether this event has been cancelled.
+     */
+    @Internal
+    public AsyncUserPreLoginEvent(@NotNull UUID uniqueId, @NotNull String name, @Nullable InetAddress address, boolean cancelled) {
+        super(cancelled);
+        this.uniqueId = uniqueId;
+        this.name = name;
+        this.address = address;
+    }
+
+    /**
+     * Returns the time subscriber tasks are given to complete before this login is denied.
+     *
+     * @return timeout.
+     */
+    public @NotNull Duration getTimeout() {
+        synchronized (this.tasks) {
+            return this.timeout;
+        }
+    }
+
+    /**
+     * Set the time subscriber tasks are given to complete before this login is denied.
+     * <p>Defaults to {@link #DEFAULT_TIMEOUT}. Subscribers that wait for slow tasks can extend it
+     * while the event is being dispatched. Platforms may disconnect users that take too long to
+     * log in, regardless of this timeout.</p>
+     *
+     * @param timeout Timeout.
+     *
+     * @throws IllegalStateException if the platform has already stopped waiting for tasks.
+     */
+    public void setTimeout(@NotNull Duration timeout) {
+        Preconditions.checkNotNull("timeout", timeout);
+        Preconditions.checkArgument(!timeout.isNegative() && !timeout.isZero(), "timeout must be positive");
+        synchronized (this.tasks) {
+            Preconditions.checkState(!this.completing, "Timeout must be set while the event is being dispatched");
+            this.timeout = timeout;
+        }
+    }
+
+    /**
+     * Get the unique id of the user logging in.
+     *
+     * @return unique id.
+     */
+    public @NotNull UUID getUniqueId() {
+        return this.uniqueId;
+    }
+
+    /**
+     * Get the name of the user logging in.
+     *
+     * @return name.
+     */
+    public @NotNull String getName() {
+        return this.name;
+    }
+
+    /**
+     * Get the address the user is logging in from.
+     *
+     * @return address, or {@code null} if unknown.
+     */
+    public @Nullable InetAddress getAddress() {
+        return this.address;
+    }
+
+    /**
+     * Delay the login until the given task has completed.
+     * <p>The task may cancel this event when it completes. If it completes exceptionally, the
+     * login is denied.</p>
+     *
+     * @param task Task to wait for.
+     *
+     * @throws IllegalStateException if the platform has already stopped waiting for tasks.
+     */
+    public void waitFor(@NotNull CompletionStage<?> task) {
+        Preconditions.checkNotNull("task", task);
+        synchronized (this.tasks) {
+            Preconditions.checkState(!this.completing, "Tasks must be registered while the event is being dispatched");
+            this.tasks.add(task);
+        }
+    }
+
+    /**
+     * Cancel the event, with a reason.
+     *
+     * @param reason Disconnect reason.
+     */
+    public void cancel(@NotNull Component reason) {
+        setCancelled(true, reason);
+    }
+
+    /**
+     * Cancel the event, with a reason.
+     *
+     * @param cancelled {@code true} if the event is cancelled, otherwise {@code false}.
+     * @param reason    Disconnect reason.
+     */
+    public void setCancelled(boolean cancelled, @Nullable Component reason) {
+        setCancelled(cancelled);
+        if (reason != null) {
+            this.cancelReason = reason;
+        }
+    }
+
+    /**
+     * Get the reason used when denying the login if this event is cancelled.
+     *
+     * @return cancel reason.
+     */
+    public @NotNull Component getCancelReason() {
+        return this.cancelReason;
+    }
+
+    /**
+     * Wait for the registered tasks to complete.
+     * <p>The returned future completes once every task has completed or the timeout has elapsed,
+     * and never completes exceptionally. Tasks that fail or time out cancel this event.</p>
+     *
+     * @param logger Logger used to report failed and timed out tasks.
+     *
+     * @return future completed with this event.
+     * @throws IllegalStateException if this method has already been called.
+     */
+    @Internal
+    public @NotNull CompletableFuture<AsyncUserPreLoginEvent> complete(@NotNull ChameleonLogger logger) {
+        CompletableFuture<?>[] futures;
+        Duration deadline;
+        synchronized (this.tasks) {
+            Preconditions.checkState(!this.completing, "AsyncUserPreLoginEvent has already been completed");
+            this.completing = true;
+            futures = this.tasks.stream().map(CompletionStage::toCompletableFuture).toArray(CompletableFuture[]::new);
+            deadline = this.timeout;
+        }
+        if (futures.length == 0) {
+            return CompletableFuture.completedFuture(this);
+        }
+
+        return CompletableFuture.allOf(futures)
+            .orTimeout(deadline.toMillis(), TimeUnit.MILLISECONDS)
+            .handle((ignored, ex) -> {
+                if (ex != null) {
+                    Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+                    if (cause instanceof TimeoutException) {
+                        logger.warn("Login of %s did not complete within %dms, denying login", this.name, deadline.toMillis());
+                        cancel(TIMEOUT_REASON);
+                    } else {
+                        logger.error("An error occurred during the login of %s, denying login", cause, this.name);
+                        cancel(ERROR_REASON);
+                    }
+                }
+                return this;
+            });
+    }
+
+}
@@ -24,18 +24,23 @@
 package dev.hypera.chameleon.event.common;
 
 import dev.hypera.chameleon.event.AbstractCancellable;
+import dev.hypera.chameleon.event.Recyclable;
 import dev.hypera.chameleon.user.User;
 import org.jetbrains.annotations.NotNull;
 
 /**
  * User chat event, dispatched when a player sends a chat message.
+ * <p>If chat event pooling is enabled, instances are recycled once they have been dispatched.</p>
+ *
+ * @see UserChatEventPool
  */
-public final class UserChatEvent extends AbstractCancellable implements UserEvent {
+public final class UserChatEvent extends AbstractCancellable implements UserEvent, Recyclable<UserChatEvent> {
 
-    private final @NotNull User user;
+    private @NotNull User user;
     private @NotNull String message;
-    private final boolean cancellable;
-    private final boolean modifiable;
+    private boolean cancellable;
+    private boolean modifiable;
+    private volatile boolean retained = false;
 
     /**
      * User chat event constructor.
@@ -54,6 +59,18 @@ public final class UserChatEvent extends AbstractCancellable implements UserEven
         this.modifiable = modifiable;
     }
 
+    void reset(@NotNull User user, @NotNull String message, boolean cancelled, boolean cancellable, boolean modifiable) {
+        setCancelled(cancelled);
+        this.user = user;
+        this.message = message;
+        this.cancellable = cancellable;
+        this.modifiable = modifiable;
+    }
+
+    boolean isRetained() {
+        return this.retained;
+    }
+
     /**
      * Returns the user who sent this message.
      *
@@ -117,4 +134,21 @@ public final class UserChatEvent extends AbstractCancellable implements UserEven
         return this.modifiable;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull UserChatEvent retain() {
+        this.retained = true;
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull UserChatEvent snapshot() {
+        return new UserChatEvent(this.user, this.message, isCancelled(), this.cancellable, this.modifiable);
+    }
+
 }
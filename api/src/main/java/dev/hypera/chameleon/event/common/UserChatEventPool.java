@@ -0,0 +1,117 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.event.common;
+
+import dev.hypera.chameleon.user.User;
+import org.jetbrains.annotations.ApiStatus.Internal;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * User chat event pool, lets platforms reuse a single {@link UserChatEvent} per thread instead of
+ * allocating a new one for every chat message.
+ * <p>Each event bus has its own pool, which is disabled by default. Once enabled, subscribers of
+ * that event bus must not keep a reference to a chat event after handling it, unless they
+ * {@link UserChatEvent#retain() retain} it, or keep a {@link UserChatEvent#snapshot() snapshot}
+ * instead. Asynchronous subscribers are given a retained event by the event bus.</p>
+ *
+ * @see dev.hypera.chameleon.event.EventBus#getUserChatEventPool()
+ */
+public final class UserChatEventPool {
+
+    // One pool per event bus, which lives as long as its Chameleon instance.
+    @SuppressWarnings("ThreadLocalUsage")
+    private final @NotNull ThreadLocal<UserChatEvent> pool = new ThreadLocal<>();
+    private volatile boolean enabled = false;
+
+    /**
+     * User chat event pool constructor.
+     */
+    @Internal
+    public UserChatEventPool() {
+
+    }
+
+    /**
+     * Returns whether chat event pooling is enabled.
+     *
+     * @return {@code true} if chat event pooling is enabled, otherwise {@code false}.
+     */
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    /**
+     * Set whether chat event pooling is enabled.
+     *
+     * @param enabled Whether chat event pooling should be enabled.
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        if (!enabled) {
+            this.pool.remove();
+        }
+    }
+
+    /**
+     * Borrow a chat event.
+     * <p>If pooling is disabled, or this thread's pooled event is in use, a new event is
+     * created. The returned event must be given back using {@link #release(UserChatEvent)} once it
+     * has been dispatched and its result has been read.</p>
+     *
+     * @param user        User that sent the message.
+     * @param message     Message that the user attempted to send.
+     * @param cancelled   Whether this event is cancelled.
+     * @param cancellable Whether this event can be cancelled on this platform.
+     * @param modifiable  Whether this event can be modified on this platform.
+     *
+     * @return chat event.
+     */
+    @Internal
+    public @NotNull UserChatEvent acquire(@NotNull User user, @NotNull String message, boolean cancelled, boolean cancellable, boolean modifiable) {
+        UserChatEvent event = this.enabled ? this.pool.get() : null;
+        if (event == null) {
+            return new UserChatEvent(user, message, cancelled, cancellable, modifiable);
+        }
+
+        // Taken out of the pool while in use, so re-entrant dispatches get their own event.
+        this.pool.set(null);
+        event.reset(user, message, cancelled, cancellable, modifiable);
+        return event;
+    }
+
+    /**
+     * Give back a chat event that was borrowed using {@link #acquire(User, String, boolean,
+     * boolean, boolean)}.
+     * <p>Retained events are never reused.</p>
+     *
+     * @param event Chat event.
+     */
+    @Internal
+    public void release(@NotNull UserChatEvent event) {
+        if (this.enabled && !event.isRetained()) {
+            this.pool.set(event);
+        }
+    }
+
+}
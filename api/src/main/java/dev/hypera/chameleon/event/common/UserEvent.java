@@ -24,7 +24,9 @@
 package dev.hypera.chameleon.event.common;
 
 import dev.hypera.chameleon.event.ChameleonEvent;
+import dev.hypera.chameleon.event.EventKey;
 import dev.hypera.chameleon.user.User;
+import java.util.UUID;
 import org.jetbrains.annotations.NotNull;
 
 /**
@@ -32,6 +34,13 @@ import org.jetbrains.annotations.NotNull;
  */
 public interface UserEvent extends ChameleonEvent {
 
+    /**
+     * Event key extracting the unique id of the user who triggered the event.
+     * <p>Can be used to subscribe to the events of a single user without being given the events
+     * of every other user.</p>
+     */
+    @NotNull EventKey<UserEvent, UUID> USER_ID = event -> event.getUser().getId();
+
     /**
      * Get the user who triggered this event.
      *
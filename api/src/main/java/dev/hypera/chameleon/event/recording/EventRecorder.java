@@ -0,0 +1,180 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.event.recording;
+
+import dev.hypera.chameleon.Chameleon;
+import dev.hypera.chameleon.event.ChameleonEvent;
+import dev.hypera.chameleon.event.bridge.EventCodec;
+import dev.hypera.chameleon.event.recording.EventRecorderImpl.BuilderImpl;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.concurrent.Executor;
+import org.jetbrains.annotations.ApiStatus.NonExtendable;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Event recorder, records the events dispatched on an event bus to a compact append-only binary
+ * recording, which can be replayed with an {@link EventReplayer}.
+ * <p>Events of registered types are encoded on the dispatching thread, before any other
+ * subscriber sees them, and written to the output by a single writer running on the writer
+ * executor. Events are dropped instead of blocking the dispatching thread if the writer falls more
+ * than the queue capacity behind.</p>
+ */
+@NonExtendable
+public interface EventRecorder extends AutoCloseable {
+
+    /**
+     * Default capacity of the queue of records waiting to be written.
+     */
+    int DEFAULT_QUEUE_CAPACITY = 8192;
+
+    /**
+     * Create a new event recorder builder.
+     *
+     * @param chameleon Chameleon instance.
+     *
+     * @return new builder.
+     */
+    static @NotNull Builder builder(@NotNull Chameleon chameleon) {
+        return new BuilderImpl(chameleon);
+    }
+
+    /**
+     * Returns the amount of events that have been recorded.
+     *
+     * @return recorded event count.
+     */
+    long getRecordedCount();
+
+    /**
+     * Returns the amount of events that have been dropped, because they could not be encoded or
+     * written, or because the queue was full.
+     *
+     * @return dropped event count.
+     */
+    long getDroppedCount();
+
+    /**
+     * Returns whether this recorder has been closed.
+     *
+     * @return {@code true} if this recorder has been closed, otherwise {@code false}.
+     */
+    boolean isClosed();
+
+    /**
+     * Stop recording, write the queued records and close the output.
+     */
+    @Override
+    void close();
+
+
+    /**
+     * Event recorder builder.
+     */
+    @NonExtendable
+    interface Builder {
+
+        /**
+         * Set the output to write the recording to.
+         *
+         * @param output Output stream, closed when the recorder is closed.
+         *
+         * @return {@code this}.
+         */
+        @Contract("_ -> this")
+        @NotNull Builder output(@NotNull OutputStream output);
+
+        /**
+         * Set the file to write the recording to, replacing any existing file.
+         *
+         * @param path File path.
+         *
+         * @return {@code this}.
+         */
+        @Contract("_ -> this")
+        @NotNull Builder output(@NotNull Path path);
+
+        /**
+         * Record events of the given type, identified by the name of the type.
+         *
+         * @param type  Event type.
+         * @param codec Event codec.
+         * @param <T>   Event type.
+         *
+         * @return {@code this}.
+         */
+        @Contract("_, _ -> this")
+        <T extends ChameleonEvent> @NotNull Builder register(@NotNull Class<T> type, @NotNull EventCodec<T> codec);
+
+        /**
+         * Record events of the given type, identified by the given identifier.
+         *
+         * @param id    Type identifier, used to find the codec when replaying.
+         * @param type  Event type.
+         * @param codec Event codec.
+         * @param <T>   Event type.
+         *
+         * @return {@code this}.
+         */
+        @Contract("_, _, _ -> this")
+        <T extends ChameleonEvent> @NotNull Builder register(@NotNull String id, @NotNull Class<T> type, @NotNull EventCodec<T> codec);
+
+        /**
+         * Set the capacity of the queue of records waiting to be written.
+         * <p>Defaults to {@link #DEFAULT_QUEUE_CAPACITY}.</p>
+         *
+         * @param queueCapacity Queue capacity.
+         *
+         * @return {@code this}.
+         */
+        @Contract("_ -> this")
+        @NotNull Builder queueCapacity(int queueCapacity);
+
+        /**
+         * Set the executor the writer runs on.
+         * <p>Defaults to {@link java.util.concurrent.ForkJoinPool#commonPool()}.</p>
+         *
+         * @param executor Writer executor.
+         *
+         * @return {@code this}.
+         */
+        @Contract("_ -> this")
+        @NotNull Builder executor(@NotNull Executor executor);
+
+        /**
+         * Build the event recorder, writing the recording header and subscribing to the
+         * registered event types.
+         *
+         * @return new event recorder.
+         * @throws IOException           if the output could not be opened or written to.
+         * @throws IllegalStateException if no output has been set.
+         */
+        @Contract("-> new")
+        @NotNull EventRecorder build() throws IOException;
+
+    }
+
+}
@@ -0,0 +1,385 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.event.recording;
+
+import dev.hypera.chameleon.Chameleon;
+import dev.hypera.chameleon.event.ChameleonEvent;
+import dev.hypera.chameleon.event.EventScope;
+import dev.hypera.chameleon.event.EventSubscriber;
+import dev.hypera.chameleon.event.EventSubscriptionPriority;
+import dev.hypera.chameleon.event.bridge.EventCodec;
+import dev.hypera.chameleon.event.bridge.EventCodecRegistry;
+import dev.hypera.chameleon.event.bridge.EventCodecRegistry.Registration;
+import dev.hypera.chameleon.event.common.UserEvent;
+import dev.hypera.chameleon.logger.ChameleonLogger;
+import dev.hypera.chameleon.util.Preconditions;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.jetbrains.annotations.ApiStatus.Internal;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Event recorder implementation.
+ * <p>Records are encoded on the dispatching thread, so the event itself is not retained, and
+ * queued for a single writer which is only scheduled while there are queued records.</p>
+ */
+@Internal
+final class EventRecorderImpl implements EventRecorder {
+
+    private final @NotNull ChameleonLogger logger;
+    private final @NotNull EventCodecRegistry registry;
+    private final @NotNull EventScope scope;
+    private final @NotNull Executor executor;
+    private final long start = System.nanoTime();
+
+    private final @NotNull BlockingQueue<Record> queue;
+    private final @NotNull AtomicBoolean writing = new AtomicBoolean();
+    private final @NotNull AtomicBoolean closed = new AtomicBoolean();
+    private final @NotNull AtomicLong recorded = new AtomicLong();
+    private final @NotNull AtomicLong dropped = new AtomicLong();
+    private final @NotNull Object lock = new Object();
+    // Guarded by lock.
+    private final @NotNull DataOutputStream output;
+    // Guarded by lock.
+    private boolean outputClosed = false;
+    // Guarded by lock.
+    private long lastTimestamp = 0;
+
+    EventRecorderImpl(@NotNull Chameleon chameleon, @NotNull OutputStream output, @NotNull EventCodecRegistry registry, int queueCapacity, @NotNull Executor executor) throws IOException {
+        this.logger = chameleon.getInternalLogger();
+        this.registry = registry;
+        this.executor = executor;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.output = new DataOutputStream(new BufferedOutputStream(output));
+
+        try {
+            this.output.writeInt(RecordingFormat.MAGIC);
+            this.output.writeByte(RecordingFormat.VERSION);
+            List<Registration<?>> registrations = registry.getRegistrations();
+            EventCodecRegistry.writeVarInt(this.output, registrations.size());
+            for (Registration<?> registration : registrations) {
+                this.output.writeUTF(registration.getId());
+            }
+            this.output.flush();
+        } catch (IOException ex) {
+            this.output.close();
+            throw ex;
+        }
+
+        this.scope = chameleon.getEventBus().scope(this);
+        for (Registration<?> registration : registry.getRegistrations()) {
+            subscribe(registration);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getRecordedCount() {
+        return this.recorded.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getDroppedCount() {
+        return this.dropped.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isClosed() {
+        return this.closed.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() {
+        if (!this.closed.compareAndSet(false, true)) {
+            return;
+        }
+
+        this.scope.close();
+        synchronized (this.lock) {
+            writeQueued();
+            if (!this.outputClosed) {
+                this.outputClosed = true;
+                try {
+                    this.output.close();
+                } catch (IOException ex) {
+                    this.logger.error("Failed to close the event recording", ex);
+                }
+            }
+        }
+    }
+
+    private <T extends ChameleonEvent> void subscribe(@NotNull Registration<T> registration) {
+        // Recorded before any other subscriber can modify or cancel the event.
+        this.scope.subscribe(registration.getType(), EventSubscriber.builder(registration.getType())
+            .priority(EventSubscriptionPriority.FIRST)
+            .acceptCancelled()
+            .handler(event -> enqueue(registration, event))
+            .build());
+    }
+
+    private void enqueue(@NotNull Registration<?> registration, @NotNull ChameleonEvent event) {
+        if (this.closed.get()) {
+            return;
+        }
+        // Subscribers for a type also see its subtypes, only the most specific registration records.
+        if (this.registry.resolve(event.getClass()) != registration) {
+            return;
+        }
+
+        long timestamp = System.nanoTime() - this.start;
+        UUID userId = null;
+        if (event instanceof UserEvent) {
+            try {
+                userId = UserEvent.USER_ID.extract((UserEvent) event);
+            } catch (RuntimeException ex) {
+                this.logger.debug("Failed to extract the user of recorded event %s", event.getClass().getCanonicalName());
+            }
+        }
+
+        byte[] payload;
+        try {
+            payload = registration.encode(event);
+        } catch (IOException | RuntimeException ex) {
+            this.dropped.incrementAndGet();
+            this.logger.error("Failed to encode recorded event %s", ex, event.getClass().getCanonicalName());
+            return;
+        }
+
+        if (!this.queue.offer(new Record(registration.getIndex(), timestamp, userId, payload))) {
+            this.dropped.incrementAndGet();
+            return;
+        }
+        startWriter();
+    }
+
+    private void startWriter() {
+        if (!this.writing.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            this.executor.execute(this::drain);
+        } catch (RejectedExecutionException ex) {
+            this.writing.set(false);
+            this.logger.error("Failed to schedule the event recording writer", ex);
+        }
+    }
+
+    private void drain() {
+        try {
+            synchronized (this.lock) {
+                writeQueued();
+            }
+        } finally {
+            this.writing.set(false);
+            // A record may have been queued after our last poll, but before we stopped writing,
+            // in which case the dispatching thread did not start a new writer.
+            if (!this.queue.isEmpty() && !this.closed.get()) {
+                startWriter();
+            }
+        }
+    }
+
+    // Must be called while holding the lock.
+    private void writeQueued() {
+        if (this.outputClosed) {
+            this.dropped.addAndGet(this.queue.size());
+            this.queue.clear();
+            return;
+        }
+
+        try {
+            Record record;
+            while ((record = this.queue.poll()) != null) {
+                write(record);
+                this.recorded.incrementAndGet();
+            }
+            this.output.flush();
+        } catch (IOException ex) {
+            // The recording can not be continued once a record may have been partially written.
+            this.logger.error("Failed to write the event recording, recording has been stopped", ex);
+            this.outputClosed = true;
+            this.closed.set(true);
+            this.scope.close();
+            this.dropped.addAndGet(this.queue.size() + 1L);
+            this.queue.clear();
+            try {
+                this.output.close();
+            } catch (IOException closeEx) {
+                ex.addSuppressed(closeEx);
+            }
+        }
+    }
+
+    // Must be called while holding the lock.
+    private void write(@NotNull Record record) throws IOException {
+        EventCodecRegistry.writeVarInt(this.output, record.typeIndex);
+        EventCodecRegistry.writeZigZag(this.output, record.timestamp - this.lastTimestamp);
+        this.lastTimestamp = record.timestamp;
+
+        UUID userId = record.userId;
+        this.output.writeByte(userId == null ? 0 : RecordingFormat.FLAG_USER);
+        if (userId != null) {
+            this.output.writeLong(userId.getMostSignificantBits());
+            this.output.writeLong(userId.getLeastSignificantBits());
+        }
+
+        EventCodecRegistry.writeVarInt(this.output, record.payload.length);
+        this.output.write(record.payload);
+    }
+
+    private static final class Record {
+
+        private final int typeIndex;
+        private final long timestamp;
+        private final @Nullable UUID userId;
+        private final byte @NotNull [] payload;
+
+        private Record(int typeIndex, long timestamp, @Nullable UUID userId, byte @NotNull [] payload) {
+            this.typeIndex = typeIndex;
+            this.timestamp = timestamp;
+            this.userId = userId;
+            this.payload = payload;
+        }
+
+    }
+
+    static final class BuilderImpl implements Builder {
+
+        private final @NotNull Chameleon chameleon;
+        private final @NotNull EventCodecRegistry registry = new EventCodecRegistry();
+        private @Nullable OutputStream output;
+        private @Nullable Path path;
+        private int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+        private @NotNull Executor executor = ForkJoinPool.commonPool();
+
+        BuilderImpl(@NotNull Chameleon chameleon) {
+            Preconditions.checkNotNull("chameleon", chameleon);
+            this.chameleon = chameleon;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public @NotNull Builder output(@NotNull OutputStream output) {
+            Preconditions.checkNotNull("output", output);
+            this.output = output;
+            this.path = null;
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public @NotNull Builder output(@NotNull Path path) {
+            Preconditions.checkNotNull("path", path);
+            this.path = path;
+            this.output = null;
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public <T extends ChameleonEvent> @NotNull Builder register(@NotNull Class<T> type, @NotNull EventCodec<T> codec) {
+            Preconditions.checkNotNull("type", type);
+            return register(type.getName(), type, codec);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public <T extends ChameleonEvent> @NotNull Builder register(@NotNull String id, @NotNull Class<T> type, @NotNull EventCodec<T> codec) {
+            this.registry.register(id, type, codec);
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public @NotNull Builder queueCapacity(int queueCapacity) {
+            Preconditions.checkArgument(queueCapacity > 0, "queueCapacity must be greater than 0");
+            this.queueCapacity = queueCapacity;
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public @NotNull Builder executor(@NotNull Executor executor) {
+            Preconditions.checkNotNull("executor", executor);
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public @NotNull EventRecorder build() throws IOException {
+            Path target = this.path;
+            OutputStream stream = target == null ? this.output : Files.newOutputStream(target);
+            return new EventRecorderImpl(
+                this.chameleon,
+                Preconditions.checkNotNullState("output", stream),
+                this.registry.copy(),
+                this.queueCapacity,
+                this.executor
+            );
+        }
+
+    }
+
+}
@@ -0,0 +1,143 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.event.recording;
+
+import dev.hypera.chameleon.event.ChameleonEvent;
+import dev.hypera.chameleon.event.EventBus;
+import dev.hypera.chameleon.event.bridge.EventCodec;
+import dev.hypera.chameleon.event.recording.EventReplayerImpl.BuilderImpl;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.function.Predicate;
+import org.jetbrains.annotations.ApiStatus.NonExtendable;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Event replayer, dispatches the events of a recording made by an {@link EventRecorder}.
+ * <p>Events are dispatched on the replaying thread, in the order they were recorded. Records of
+ * types that have not been registered are skipped, and a truncated final record, for example from
+ * a recording that was not closed, is ignored.</p>
+ */
+@NonExtendable
+public interface EventReplayer {
+
+    /**
+     * Create a new event replayer builder.
+     *
+     * @return new builder.
+     */
+    static @NotNull Builder builder() {
+        return new BuilderImpl();
+    }
+
+    /**
+     * Replay the given recording.
+     *
+     * @param eventBus Event bus to dispatch the recorded events on.
+     * @param input    Recording input, not closed by this method.
+     *
+     * @return amount of events that have been dispatched.
+     * @throws IOException if the recording could not be read, or is not a valid recording.
+     */
+    long replay(@NotNull EventBus eventBus, @NotNull InputStream input) throws IOException;
+
+    /**
+     * Replay the given recording file.
+     *
+     * @param eventBus Event bus to dispatch the recorded events on.
+     * @param path     Recording file path.
+     *
+     * @return amount of events that have been dispatched.
+     * @throws IOException if the recording could not be read, or is not a valid recording.
+     */
+    long replay(@NotNull EventBus eventBus, @NotNull Path path) throws IOException;
+
+
+    /**
+     * Event replayer builder.
+     */
+    @NonExtendable
+    interface Builder {
+
+        /**
+         * Replay events of the given type, recorded with the name of the type.
+         *
+         * @param type  Event type.
+         * @param codec Event codec.
+         * @param <T>   Event type.
+         *
+         * @return {@code this}.
+         */
+        @Contract("_, _ -> this")
+        <T extends ChameleonEvent> @NotNull Builder register(@NotNull Class<T> type, @NotNull EventCodec<T> codec);
+
+        /**
+         * Replay events recorded with the given identifier.
+         *
+         * @param id    Type identifier.
+         * @param type  Event type.
+         * @param codec Event codec.
+         * @param <T>   Event type.
+         *
+         * @return {@code this}.
+         */
+        @Contract("_, _, _ -> this")
+        <T extends ChameleonEvent> @NotNull Builder register(@NotNull String id, @NotNull Class<T> type, @NotNull EventCodec<T> codec);
+
+        /**
+         * Set how fast recorded events are dispatched.
+         * <p>Defaults to {@link ReplayPacing#ORIGINAL}.</p>
+         *
+         * @param pacing Replay pacing.
+         *
+         * @return {@code this}.
+         */
+        @Contract("_ -> this")
+        @NotNull Builder pacing(@NotNull ReplayPacing pacing);
+
+        /**
+         * Only dispatch recorded events matching the given filter.
+         * <p>Filtered events still take up their time when replaying at
+         * {@link ReplayPacing#ORIGINAL} pacing.</p>
+         *
+         * @param filter Recorded event filter.
+         *
+         * @return {@code this}.
+         */
+        @Contract("_ -> this")
+        @NotNull Builder filter(@NotNull Predicate<RecordedEvent> filter);
+
+        /**
+         * Build the event replayer.
+         *
+         * @return new event replayer.
+         */
+        @Contract("-> new")
+        @NotNull EventReplayer build();
+
+    }
+
+}
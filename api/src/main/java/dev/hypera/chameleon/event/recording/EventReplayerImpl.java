@@ -0,0 +1,223 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.event.recording;
+
+import dev.hypera.chameleon.event.ChameleonEvent;
+import dev.hypera.chameleon.event.EventBus;
+import dev.hypera.chameleon.event.bridge.EventCodec;
+import dev.hypera.chameleon.event.bridge.EventCodecRegistry;
+import dev.hypera.chameleon.event.bridge.EventCodecRegistry.Registration;
+import dev.hypera.chameleon.util.Preconditions;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Predicate;
+import org.jetbrains.annotations.ApiStatus.Internal;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Event replayer implementation.
+ */
+@Internal
+final class EventReplayerImpl implements EventReplayer {
+
+    private final @NotNull EventCodecRegistry registry;
+    private final @NotNull ReplayPacing pacing;
+    private final @Nullable Predicate<RecordedEvent> filter;
+
+    EventReplayerImpl(@NotNull EventCodecRegistry registry, @NotNull ReplayPacing pacing, @Nullable Predicate<RecordedEvent> filter) {
+        this.registry = registry;
+        this.pacing = pacing;
+        this.filter = filter;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long replay(@NotNull EventBus eventBus, @NotNull InputStream input) throws IOException {
+        Preconditions.checkNotNull("eventBus", eventBus);
+        Preconditions.checkNotNull("input", input);
+        DataInputStream data = new DataInputStream(new BufferedInputStream(input));
+        List<@Nullable Registration<?>> types = readHeader(data);
+
+        long dispatched = 0;
+        long timestamp = 0;
+        long firstTimestamp = 0;
+        long replayStart = 0;
+        boolean first = true;
+        while (true) {
+            int typeIndex;
+            long delta;
+            UUID userId = null;
+            byte[] payload;
+            try {
+                typeIndex = EventCodecRegistry.readVarInt(data);
+                delta = EventCodecRegistry.readZigZag(data);
+                if ((data.readByte() & RecordingFormat.FLAG_USER) != 0) {
+                    userId = new UUID(data.readLong(), data.readLong());
+                }
+                payload = EventCodecRegistry.readBytes(data);
+            } catch (EOFException ex) {
+                // End of the recording, or a final record that was only partially written.
+                return dispatched;
+            }
+
+            if (typeIndex >= types.size()) {
+                throw new IOException("Record references unknown type index " + typeIndex);
+            }
+            timestamp += delta;
+            if (first) {
+                first = false;
+                firstTimestamp = timestamp;
+                replayStart = System.nanoTime();
+            }
+
+            Registration<?> registration = types.get(typeIndex);
+            if (registration == null) {
+                continue;
+            }
+
+            RecordedEvent recorded = new RecordedEvent(registration.getId(), timestamp, userId, registration.decode(payload));
+            if (this.filter != null && !this.filter.test(recorded)) {
+                continue;
+            }
+
+            if (this.pacing == ReplayPacing.ORIGINAL) {
+                waitUntil(replayStart + (timestamp - firstTimestamp));
+            }
+            eventBus.dispatch(recorded.getEvent());
+            dispatched++;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long replay(@NotNull EventBus eventBus, @NotNull Path path) throws IOException {
+        Preconditions.checkNotNull("path", path);
+        try (InputStream input = Files.newInputStream(path)) {
+            return replay(eventBus, input);
+        }
+    }
+
+    // Types that have not been registered are null.
+    private @NotNull List<@Nullable Registration<?>> readHeader(@NotNull DataInputStream data) throws IOException {
+        if (data.readInt() != RecordingFormat.MAGIC) {
+            throw new IOException("Input is not an event recording");
+        }
+        byte version = data.readByte();
+        if (version != RecordingFormat.VERSION) {
+            throw new IOException("Unsupported event recording version " + version);
+        }
+
+        // The count is untrusted, the list grows as identifiers are actually read.
+        int count = EventCodecRegistry.readVarInt(data);
+        List<@Nullable Registration<?>> types = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            types.add(this.registry.get(data.readUTF()));
+        }
+        return types;
+    }
+
+    private static void waitUntil(long deadline) throws InterruptedIOException {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+            if (Thread.currentThread().isInterrupted()) {
+                throw new InterruptedIOException("Interrupted while replaying events");
+            }
+        }
+    }
+
+    static final class BuilderImpl implements Builder {
+
+        private final @NotNull EventCodecRegistry registry = new EventCodecRegistry();
+        private @NotNull ReplayPacing pacing = ReplayPacing.ORIGINAL;
+        private @Nullable Predicate<RecordedEvent> filter;
+
+        BuilderImpl() {
+
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public <T extends ChameleonEvent> @NotNull Builder register(@NotNull Class<T> type, @NotNull EventCodec<T> codec) {
+            Preconditions.checkNotNull("type", type);
+            return register(type.getName(), type, codec);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public <T extends ChameleonEvent> @NotNull Builder register(@NotNull String id, @NotNull Class<T> type, @NotNull EventCodec<T> codec) {
+            this.registry.register(id, type, codec);
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public @NotNull Builder pacing(@NotNull ReplayPacing pacing) {
+            Preconditions.checkNotNull("pacing", pacing);
+            this.pacing = pacing;
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public @NotNull Builder filter(@NotNull Predicate<RecordedEvent> filter) {
+            Preconditions.checkNotNull("filter", filter);
+            this.filter = filter;
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public @NotNull EventReplayer build() {
+            return new EventReplayerImpl(this.registry.copy(), this.pacing, this.filter);
+        }
+
+    }
+
+}
@@ -0,0 +1,85 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.event.recording;
+
+import dev.hypera.chameleon.event.ChameleonEvent;
+import java.util.UUID;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Recorded event, an event read from a recording together with when and by whom it was
+ * triggered.
+ */
+public final class RecordedEvent {
+
+    private final @NotNull String typeId;
+    private final long timestamp;
+    private final @Nullable UUID userId;
+    private final @NotNull ChameleonEvent event;
+
+    RecordedEvent(@NotNull String typeId, long timestamp, @Nullable UUID userId, @NotNull ChameleonEvent event) {
+        this.typeId = typeId;
+        this.timestamp = timestamp;
+        this.userId = userId;
+        this.event = event;
+    }
+
+    /**
+     * Returns the identifier the event type was recorded with.
+     *
+     * @return type identifier.
+     */
+    public @NotNull String getTypeId() {
+        return this.typeId;
+    }
+
+    /**
+     * Returns when the event was dispatched, in nanoseconds since the recording was started.
+     *
+     * @return event timestamp.
+     */
+    public long getTimestamp() {
+        return this.timestamp;
+    }
+
+    /**
+     * Returns the unique id of the user who triggered the event.
+     *
+     * @return user unique id, or {@code null} if the event is not a user event.
+     */
+    public @Nullable UUID getUserId() {
+        return this.userId;
+    }
+
+    /**
+     * Returns the decoded event.
+     *
+     * @return event.
+     */
+    public @NotNull ChameleonEvent getEvent() {
+        return this.event;
+    }
+
+}
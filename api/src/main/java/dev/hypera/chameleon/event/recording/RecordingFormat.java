@@ -0,0 +1,49 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.event.recording;
+
+import org.jetbrains.annotations.ApiStatus.Internal;
+
+/**
+ * Event recording format.
+ * <p>A recording starts with a header holding {@link #MAGIC}, the format {@link #VERSION} and
+ * the identifiers of the recorded types. It is followed by records holding the index of the event
+ * type, the time elapsed since the previous record in nanoseconds, the unique id of the user who
+ * triggered the event if any, and the encoded event.</p>
+ * <p>Integers are written as variable length integers, using the helpers of
+ * {@link dev.hypera.chameleon.event.bridge.EventCodecRegistry}. The elapsed time is zig-zag
+ * encoded as events dispatched concurrently may be written in a slightly different order.</p>
+ */
+@Internal
+final class RecordingFormat {
+
+    static final int MAGIC = 0x43455652;
+    static final byte VERSION = 1;
+    static final int FLAG_USER = 1;
+
+    private RecordingFormat() {
+        throw new UnsupportedOperationException("RecordingFormat is a utility class and cannot be instantiated");
+    }
+
+}
@@ -0,0 +1,104 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.scheduler;
+
+import java.time.Duration;
+import java.util.Collection;
+import org.jetbrains.annotations.ApiStatus.NonExtendable;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Budgeted queue, a work queue drained on the synchronous thread within a time budget per tick.
+ * <p>Large synchronous jobs are split into small slices and submitted to this queue. A single
+ * repeating synchronous task runs slices until the budget for the tick is used up and carries
+ * the remainder over to the next tick. At least one slice is run every tick. The task is only
+ * scheduled while the queue has slices.</p>
+ *
+ * @see Scheduler#budgeted(Duration)
+ */
+@NonExtendable
+public interface BudgetedQueue extends AutoCloseable {
+
+    /**
+     * Submit a slice to this queue.
+     *
+     * @param slice Slice to run.
+     *
+     * @throws IllegalStateException if this queue has been closed.
+     */
+    void submit(@NotNull Runnable slice);
+
+    /**
+     * Submit slices to this queue.
+     *
+     * @param slices Slices to run, in order.
+     *
+     * @throws IllegalStateException if this queue has been closed.
+     */
+    void submitAll(@NotNull Collection<? extends Runnable> slices);
+
+    /**
+     * Get the time budget per tick.
+     *
+     * @return time budget.
+     */
+    @NotNull Duration getBudget();
+
+    /**
+     * Get the amount of slices waiting to be run.
+     *
+     * @return queue depth.
+     */
+    int getQueueDepth();
+
+    /**
+     * Get the amount of slices that have been run.
+     *
+     * @return drained count.
+     */
+    long getDrainedCount();
+
+    /**
+     * Get the average amount of slices run per tick.
+     * <p>Exponentially weighted over the ticks that ran slices, so it reflects how fast the
+     * queue drains under the current load.</p>
+     *
+     * @return slices run per tick.
+     */
+    double getDrainRate();
+
+    /**
+     * Get whether this queue has been closed.
+     *
+     * @return {@code true} if this queue has been closed, otherwise {@code false}.
+     */
+    boolean isClosed();
+
+    /**
+     * Close this queue, slices that have not been run yet are discarded.
+     */
+    @Override
+    void close();
+
+}
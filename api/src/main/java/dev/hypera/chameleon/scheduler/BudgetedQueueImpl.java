@@ -0,0 +1,211 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.scheduler;
+
+import dev.hypera.chameleon.util.Preconditions;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.jetbrains.annotations.ApiStatus.Internal;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Budgeted queue implementation.
+ */
+@Internal
+final class BudgetedQueueImpl implements BudgetedQueue {
+
+    // Weight of the latest tick in the drain rate.
+    private static final double RATE_WEIGHT = 0.2;
+
+    private final @NotNull Scheduler scheduler;
+    private final @NotNull Duration budget;
+    private final long budgetNanos;
+    private final @NotNull Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+    private final @NotNull AtomicInteger depth = new AtomicInteger();
+    private final @NotNull AtomicLong drained = new AtomicLong();
+    private final @NotNull Object lock = new Object();
+    private volatile double drainRate = 0;
+    private volatile boolean closed = false;
+    private volatile @Nullable ScheduledTask driver;
+
+    BudgetedQueueImpl(@NotNull Scheduler scheduler, @NotNull Duration budget) {
+        this.scheduler = scheduler;
+        this.budget = budget;
+        this.budgetNanos = budget.toNanos();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void submit(@NotNull Runnable slice) {
+        Preconditions.checkNotNull("slice", slice);
+        Preconditions.checkState(!this.closed, "Budgeted queue has been closed");
+        this.queue.add(slice);
+        this.depth.incrementAndGet();
+        startDriver();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void submitAll(@NotNull Collection<? extends Runnable> slices) {
+        Preconditions.checkNoneNull("slices", slices);
+        Preconditions.checkState(!this.closed, "Budgeted queue has been closed");
+        this.queue.addAll(slices);
+        this.depth.addAndGet(slices.size());
+        startDriver();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull Duration getBudget() {
+        return this.budget;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getQueueDepth() {
+        return this.depth.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getDrainedCount() {
+        return this.drained.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getDrainRate() {
+        return this.drainRate;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isClosed() {
+        return this.closed;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() {
+        synchronized (this.lock) {
+            this.closed = true;
+            ScheduledTask task = this.driver;
+            if (task != null) {
+                task.cancel();
+                this.driver = null;
+            }
+        }
+        this.queue.clear();
+        this.depth.set(0);
+    }
+
+    private void startDriver() {
+        if (this.driver != null) {
+            return;
+        }
+
+        synchronized (this.lock) {
+            if (this.driver == null && !this.closed) {
+                this.driver = this.scheduler.scheduleSyncTask(this::drain, Schedule.none(), Schedule.ticks(1));
+            }
+        }
+    }
+
+    private void stopDriver() {
+        synchronized (this.lock) {
+            ScheduledTask task = this.driver;
+            if (task != null) {
+                task.cancel();
+                this.driver = null;
+            }
+        }
+
+        // A slice may have been submitted while the driver was still set.
+        if (!this.queue.isEmpty()) {
+            startDriver();
+        }
+    }
+
+    private void drain() {
+        long deadline = System.nanoTime() + this.budgetNanos;
+        int count = 0;
+        RuntimeException failure = null;
+        try {
+            Runnable slice;
+            while ((slice = this.queue.poll()) != null) {
+                this.depth.decrementAndGet();
+                count++;
+                try {
+                    slice.run();
+                } catch (RuntimeException ex) {
+                    // Keep draining, the failure is rethrown to the platform at the end of the tick.
+                    if (failure == null) {
+                        failure = ex;
+                    } else {
+                        failure.addSuppressed(ex);
+                    }
+                }
+
+                if (System.nanoTime() - deadline >= 0) {
+                    break;
+                }
+            }
+        } finally {
+            if (count > 0) {
+                this.drained.addAndGet(count);
+                double rate = this.drainRate;
+                this.drainRate = rate == 0 ? count : rate + RATE_WEIGHT * (count - rate);
+            }
+            if (this.queue.isEmpty()) {
+                stopDriver();
+            }
+        }
+
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+}
@@ -0,0 +1,227 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.scheduler;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.jetbrains.annotations.ApiStatus.Internal;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Repeating task coalescer, multiplexes repeating tasks that share a period and sync/async mode
+ * onto a single platform timer.
+ * <p>A task is first run by a one-shot platform task after its delay, and then joins the group
+ * for its period. Later runs are aligned with the group's timer, so the gap between the first
+ * and second run may be shorter than the period.</p>
+ */
+@Internal
+final class RepeatingTaskCoalescer {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final @NotNull Scheduler scheduler;
+    private final @NotNull Map<Long, Group> asyncGroups = new ConcurrentHashMap<>();
+    private final @NotNull Map<Long, Group> syncGroups = new ConcurrentHashMap<>();
+
+    RepeatingTaskCoalescer(@NotNull Scheduler scheduler) {
+        this.scheduler = scheduler;
+    }
+
+    @NotNull ScheduledTask schedule(@NotNull Runnable task, @NotNull Schedule delay, long periodMillis, boolean async) {
+        Member member = new Member(task);
+        Runnable first = () -> {
+            if (!member.cancelled) {
+                // Like a platform repeating task, a failing run does not stop later runs.
+                try {
+                    member.task.run();
+                } finally {
+                    join(member, periodMillis, async);
+                }
+            }
+        };
+        member.initial = async
+            ? this.scheduler.scheduleAsyncTask(first, delay, Schedule.none())
+            : this.scheduler.scheduleSyncTask(first, delay, Schedule.none());
+        return member;
+    }
+
+    private void join(@NotNull Member member, long periodMillis, boolean async) {
+        Map<Long, Group> groups = async ? this.asyncGroups : this.syncGroups;
+        while (true) {
+            Group group = groups.computeIfAbsent(periodMillis, p -> new Group(groups, p, async));
+            synchronized (member) {
+                if (member.cancelled || group.add(member)) {
+                    return;
+                }
+            }
+            // The group emptied and closed before the member could be added.
+            groups.remove(periodMillis, group);
+        }
+    }
+
+    /**
+     * Group, the live tasks of one platform timer.
+     * <p>Adding and cancelling a member takes constant time. Cancelled members are only marked and
+     * skipped, they are dropped from the array by the next run, so a tick never copies the array
+     * unless members were cancelled since the previous one.</p>
+     */
+    private final class Group implements Runnable {
+
+        private final @NotNull Map<Long, Group> groups;
+        private final long periodMillis;
+        private final boolean async;
+        // Guarded by the group. Slots up to size are never modified once written, a run that
+        // drops cancelled members replaces the array instead.
+        private @NotNull Member @NotNull [] members = new Member[INITIAL_CAPACITY];
+        private int size = 0;
+        private int live = 0;
+        private boolean closed = false;
+        private @Nullable ScheduledTask platformTask;
+
+        private Group(@NotNull Map<Long, Group> groups, long periodMillis, boolean async) {
+            this.groups = groups;
+            this.periodMillis = periodMillis;
+            this.async = async;
+        }
+
+        private synchronized boolean add(@NotNull Member member) {
+            if (this.closed) {
+                return false;
+            }
+            if (this.size == this.members.length) {
+                this.members = Arrays.copyOf(this.members, this.size * 2);
+            }
+            this.members[this.size++] = member;
+            this.live++;
+            member.group = this;
+
+            if (this.platformTask == null) {
+                Schedule period = Schedule.millis(this.periodMillis);
+                this.platformTask = this.async
+                    ? RepeatingTaskCoalescer.this.scheduler.scheduleAsyncTask(this, period, period)
+                    : RepeatingTaskCoalescer.this.scheduler.scheduleSyncTask(this, period, period);
+            }
+            return true;
+        }
+
+        private synchronized void remove() {
+            // The member is already marked as cancelled, the next run drops it from the array.
+            if (--this.live == 0) {
+                this.closed = true;
+                this.groups.remove(this.periodMillis, this);
+                if (this.platformTask != null) {
+                    this.platformTask.cancel();
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            Member[] current;
+            int count;
+            synchronized (this) {
+                if (this.live < this.size) {
+                    // Drop cancelled members into a new array, a previous run may still be
+                    // iterating the current one.
+                    Member[] next = new Member[this.members.length];
+                    int kept = 0;
+                    for (int i = 0; i < this.size; i++) {
+                        if (!this.members[i].cancelled) {
+                            next[kept++] = this.members[i];
+                        }
+                    }
+                    this.members = next;
+                    this.size = kept;
+                }
+                current = this.members;
+                count = this.size;
+            }
+
+            // Keep running the other tasks if one fails, the failure is rethrown to the platform.
+            RuntimeException failure = null;
+            for (int i = 0; i < count; i++) {
+                Member member = current[i];
+                if (member.cancelled) {
+                    continue;
+                }
+                try {
+                    member.task.run();
+                } catch (RuntimeException ex) {
+                    if (failure == null) {
+                        failure = ex;
+                    } else {
+                        failure.addSuppressed(ex);
+                    }
+                }
+            }
+
+            if (failure != null) {
+                throw failure;
+            }
+        }
+
+    }
+
+    /**
+     * Member, a repeating task in a group.
+     */
+    private static final class Member implements ScheduledTask {
+
+        private final @NotNull Runnable task;
+        private volatile boolean cancelled = false;
+        private @Nullable ScheduledTask initial;
+        // Guarded by the member, set once it joined a group.
+        private @Nullable Group group;
+
+        private Member(@NotNull Runnable task) {
+            this.task = task;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void cancel() {
+            Group current;
+            synchronized (this) {
+                if (this.cancelled) {
+                    return;
+                }
+                this.cancelled = true;
+                current = this.group;
+            }
+
+            if (this.initial != null) {
+                this.initial.cancel();
+            }
+            if (current != null) {
+                current.remove();
+            }
+        }
+
+    }
+
+}
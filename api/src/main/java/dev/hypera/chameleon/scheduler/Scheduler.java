@@ -23,9 +23,15 @@
  */
 package dev.hypera.chameleon.scheduler;
 
+import dev.hypera.chameleon.user.ServerUser;
 import dev.hypera.chameleon.util.Preconditions;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 import org.jetbrains.annotations.ApiStatus.NonExtendable;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Scheduler.
@@ -33,6 +39,38 @@ import org.jetbrains.annotations.NotNull;
 @NonExtendable
 public abstract class Scheduler {
 
+    // Whether the current thread is running an asynchronous (true) or synchronous (false) task.
+    private final @NotNull ThreadLocal<Boolean> context = new ThreadLocal<>();
+    private final @NotNull Executor asyncExecutor = task -> execute(task, true);
+    private final @NotNull Executor syncExecutor = task -> execute(task, false);
+    private final @NotNull RepeatingTaskCoalescer coalescer = new RepeatingTaskCoalescer(this);
+    // Scoped schedulers read their settings from, and hand asynchronous tasks to, their parent.
+    private final @Nullable Scheduler parent;
+    private volatile @Nullable TimingWheelScheduler asyncScheduler;
+    private volatile boolean coalescing = false;
+    private volatile @Nullable SchedulerInstrumentation instrumentation;
+
+    /**
+     * Scheduler constructor.
+     */
+    protected Scheduler() {
+        this.parent = null;
+    }
+
+    /**
+     * Scoped scheduler constructor, used for the schedulers returned by
+     * {@link #forUser(ServerUser)} and {@link #at(String, int, int)}.
+     * <p>A scoped scheduler shares the timing wheel, coalescing and instrumentation settings of
+     * its parent, and asynchronous tasks are scheduled by the parent. Only synchronous tasks are
+     * scheduled by the scoped scheduler itself.</p>
+     *
+     * @param parent Parent scheduler.
+     */
+    protected Scheduler(@NotNull Scheduler parent) {
+        Preconditions.checkNotNull("parent", parent);
+        this.parent = parent.parent == null ? parent : parent.parent;
+    }
+
     /**
      * Submit a task to be scheduled.
      *
@@ -42,14 +80,29 @@ public abstract class Scheduler {
      */
     public final @NotNull ScheduledTask schedule(@NotNull Task task) {
         Preconditions.checkNotNull("task", task);
+        if (task.isAsync() && this.parent != null) {
+            return this.parent.schedule(task);
+        }
+
+        Scheduler root = root();
         Schedule delay = task instanceof TaskImpl ? ((TaskImpl) task).getDelay() : Schedule.none();
         Schedule repeat = task instanceof TaskImpl ? ((TaskImpl) task).getRepeat() : Schedule.none();
 
+        SchedulerInstrumentation instrumentation = root.instrumentation;
+        Runnable runnable = instrumentation instanceof SchedulerInstrumentationImpl
+            ? ((SchedulerInstrumentationImpl) instrumentation).instrument(task::run, task.getOrigin(), delay, repeat)
+            : task::run;
+
         ScheduledTask scheduledTask;
-        if (task.isAsync()) {
-            scheduledTask = scheduleAsyncTask(task::run, delay, repeat);
+        TimingWheelScheduler wheel = root.asyncScheduler;
+        if (task.isAsync() && wheel != null && !wheel.isClosed()) {
+            scheduledTask = wheel.schedule(runnable, delay, repeat);
+        } else if (root.coalescing && repeat.toMillis() > 0) {
+            scheduledTask = this.coalescer.schedule(runnable, delay, repeat.toMillis(), task.isAsync());
+        } else if (task.isAsync()) {
+            scheduledTask = scheduleAsyncTask(runnable, delay, repeat);
         } else {
-            scheduledTask = scheduleSyncTask(task::run, delay, repeat);
+            scheduledTask = scheduleSyncTask(runnable, delay, repeat);
         }
 
         if (task instanceof TaskImpl) {
@@ -59,6 +112,221 @@ public abstract class Scheduler {
         return scheduledTask;
     }
 
+    /**
+     * Get a scheduler that runs synchronous tasks on the thread that owns a user.
+     * <p>On platforms with region threads, such as Folia, tasks that touch a user must run on the
+     * thread of the region the user is in. Spreading per-user work this way lets it run in
+     * parallel. Other platforms run synchronous tasks on the main thread, so this scheduler is
+     * returned.</p>
+     * <p>If the user leaves before a delayed synchronous task has run, the task runs once on the
+     * main thread, or the global region on Folia, instead, so futures waiting on it still
+     * complete. Repeating tasks stop when the user leaves.</p>
+     * <p>The returned scheduler shares the timing wheel, coalescing and instrumentation of this
+     * scheduler.</p>
+     *
+     * @param user User the tasks act on.
+     *
+     * @return scheduler for the user.
+     */
+    public @NotNull Scheduler forUser(@NotNull ServerUser user) {
+        Preconditions.checkNotNull("user", user);
+        return this;
+    }
+
+    /**
+     * Get a scheduler that runs synchronous tasks on the thread that owns a location.
+     * <p>On platforms with region threads, such as Folia, tasks that touch blocks or entities
+     * must run on the thread of their region. Other platforms run synchronous tasks on the main
+     * thread, so this scheduler is returned.</p>
+     * <p>The returned scheduler shares the timing wheel, coalescing and instrumentation of this
+     * scheduler.</p>
+     *
+     * @param world World name.
+     * @param x     Block x coordinate.
+     * @param z     Block z coordinate.
+     *
+     * @return scheduler for the location.
+     */
+    public @NotNull Scheduler at(@NotNull String world, int x, int z) {
+        Preconditions.checkNotNull("world", world);
+        return this;
+    }
+
+    /**
+     * Run a supplier asynchronously.
+     * <p>The supplier is run inline if the current thread is already running an asynchronous
+     * task.</p>
+     *
+     * @param supplier Supplier to run.
+     * @param <T>      Result type.
+     *
+     * @return future completed with the result of the supplier.
+     */
+    public final <T> @NotNull CompletableFuture<T> supplyAsync(@NotNull Supplier<T> supplier) {
+        Preconditions.checkNotNull("supplier", supplier);
+        return CompletableFuture.supplyAsync(supplier, this.asyncExecutor);
+    }
+
+    /**
+     * Run a supplier synchronously.
+     * <p>The supplier is run inline if the current thread is already the synchronous thread.</p>
+     *
+     * @param supplier Supplier to run.
+     * @param <T>      Result type.
+     *
+     * @return future completed with the result of the supplier.
+     */
+    public final <T> @NotNull CompletableFuture<T> supplySync(@NotNull Supplier<T> supplier) {
+        Preconditions.checkNotNull("supplier", supplier);
+        return CompletableFuture.supplyAsync(supplier, this.syncExecutor);
+    }
+
+    /**
+     * Get an executor that runs tasks asynchronously.
+     * <p>Intended for {@link CompletableFuture} continuations, such as
+     * {@code thenApplyAsync(fn, scheduler.asyncExecutor())}. Tasks submitted from a thread that is
+     * already running an asynchronous task are run inline.</p>
+     *
+     * @return asynchronous executor.
+     */
+    public final @NotNull Executor asyncExecutor() {
+        return this.asyncExecutor;
+    }
+
+    /**
+     * Get an executor that runs tasks synchronously.
+     * <p>Intended for {@link CompletableFuture} continuations, such as
+     * {@code thenAcceptAsync(fn, scheduler.syncExecutor())}. Tasks submitted from the synchronous
+     * thread are run inline.</p>
+     *
+     * @return synchronous executor.
+     */
+    public final @NotNull Executor syncExecutor() {
+        return this.syncExecutor;
+    }
+
+    /**
+     * Create a new budgeted queue, drained on the synchronous thread within a time budget per
+     * tick.
+     *
+     * @param perTick Time budget per tick.
+     *
+     * @return new budgeted queue.
+     */
+    public final @NotNull BudgetedQueue budgeted(@NotNull Duration perTick) {
+        Preconditions.checkNotNull("perTick", perTick);
+        Preconditions.checkArgument(!perTick.isNegative() && !perTick.isZero(), "perTick must be positive");
+        return new BudgetedQueueImpl(this, perTick);
+    }
+
+    /**
+     * Set the timing wheel scheduler used to run asynchronous tasks.
+     * <p>By default asynchronous tasks are handed to the platform scheduler, which usually keeps
+     * them in a priority queue. A timing wheel is cheaper when thousands of short delays are
+     * scheduled and cancelled. Tasks that have already been scheduled are not moved.</p>
+     *
+     * @param asyncScheduler Timing wheel scheduler, or {@code null} to use the platform scheduler.
+     */
+    public final void setAsyncScheduler(@Nullable TimingWheelScheduler asyncScheduler) {
+        root().asyncScheduler = asyncScheduler;
+    }
+
+    /**
+     * Get the timing wheel scheduler used to run asynchronous tasks.
+     *
+     * @return timing wheel scheduler, or {@code null} if the platform scheduler is used.
+     */
+    public final @Nullable TimingWheelScheduler getAsyncScheduler() {
+        return root().asyncScheduler;
+    }
+
+    /**
+     * Set whether repeating tasks should be coalesced.
+     * <p>When enabled, repeating tasks that share a period and sync/async mode are run by a single
+     * platform timer instead of one platform task each. A coalesced task is first run after its
+     * delay, later runs are aligned with the shared timer. Tasks that have already been scheduled
+     * are not moved.</p>
+     *
+     * @param coalescing Whether repeating tasks should be coalesced.
+     */
+    public final void setCoalescing(boolean coalescing) {
+        root().coalescing = coalescing;
+    }
+
+    /**
+     * Get whether repeating tasks are coalesced.
+     *
+     * @return {@code true} if repeating tasks are coalesced, otherwise {@code false}.
+     */
+    public final boolean isCoalescing() {
+        return root().coalescing;
+    }
+
+    /**
+     * Set the instrumentation that records the start lag and run time of scheduled tasks.
+     * <p>Only tasks scheduled while instrumentation is set are recorded. Tasks built before
+     * any instrumentation was set are recorded under {@link Task} unless they set an
+     * {@link Task.Builder#origin(Class) origin}.</p>
+     *
+     * @param instrumentation Scheduler instrumentation, or {@code null} to disable.
+     */
+    public final void setInstrumentation(@Nullable SchedulerInstrumentation instrumentation) {
+        if (instrumentation != null) {
+            TaskImpl.BuilderImpl.findOrigins();
+        }
+        root().instrumentation = instrumentation;
+    }
+
+    /**
+     * Get the instrumentation that records the start lag and run time of scheduled tasks.
+     *
+     * @return scheduler instrumentation, or {@code null} if disabled.
+     */
+    public final @Nullable SchedulerInstrumentation getInstrumentation() {
+        return root().instrumentation;
+    }
+
+    /**
+     * Get whether the current thread is the thread synchronous tasks are run on.
+     * <p>Platforms with a main thread should override this, by default only threads running a
+     * task submitted to {@link #syncExecutor()} are considered synchronous.</p>
+     *
+     * @return {@code true} if the current thread is the synchronous thread, otherwise
+     *     {@code false}.
+     */
+    protected boolean isSyncThread() {
+        return Boolean.FALSE.equals(this.context.get());
+    }
+
+    private @NotNull Scheduler root() {
+        return this.parent == null ? this : this.parent;
+    }
+
+    private void execute(@NotNull Runnable task, boolean async) {
+        Preconditions.checkNotNull("task", task);
+        if (async ? Boolean.TRUE.equals(this.context.get()) : isSyncThread()) {
+            task.run();
+            return;
+        }
+
+        Runnable wrapped = () -> {
+            Boolean previous = this.context.get();
+            this.context.set(async);
+            try {
+                task.run();
+            } finally {
+                if (previous == null) {
+                    this.context.remove();
+                } else {
+                    this.context.set(previous);
+                }
+            }
+        };
+        // The origin is set so executor hops never walk the stack.
+        Task.Builder builder = Task.builder(wrapped).origin(task.getClass());
+        schedule(async ? builder.async().build() : builder.sync().build());
+    }
+
     protected abstract @NotNull ScheduledTask scheduleAsyncTask(@NotNull Runnable task, @NotNull Schedule delay, @NotNull Schedule repeat);
 
     protected abstract @NotNull ScheduledTask scheduleSyncTask(@NotNull Runnable task, @NotNull Schedule delay, @NotNull Schedule repeat);
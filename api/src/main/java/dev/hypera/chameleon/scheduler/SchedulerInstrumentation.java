@@ -0,0 +1,109 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.scheduler;
+
+import dev.hypera.chameleon.logger.ChameleonLogger;
+import dev.hypera.chameleon.scheduler.SchedulerInstrumentationImpl.BuilderImpl;
+import java.time.Duration;
+import java.util.Collection;
+import org.jetbrains.annotations.ApiStatus.NonExtendable;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Scheduler instrumentation, records how late tasks start and how long they run.
+ * <p>Statistics are grouped by {@link Task#getOrigin() task origin}. Tasks that run for longer
+ * than the slow threshold are logged with their origin.</p>
+ *
+ * @see Scheduler#setInstrumentation(SchedulerInstrumentation)
+ */
+@NonExtendable
+public interface SchedulerInstrumentation {
+
+    /**
+     * Default slow task threshold, one tick.
+     */
+    @NotNull Duration DEFAULT_SLOW_THRESHOLD = Duration.ofMillis(50);
+
+    /**
+     * Create a new scheduler instrumentation builder.
+     *
+     * @param logger Logger used to report slow tasks.
+     *
+     * @return new builder.
+     */
+    static @NotNull Builder builder(@NotNull ChameleonLogger logger) {
+        return new BuilderImpl(logger);
+    }
+
+    /**
+     * Get the statistics of every task origin.
+     *
+     * @return task statistics.
+     */
+    @NotNull Collection<TaskStatistics> getStatistics();
+
+    /**
+     * Get the statistics of a task origin.
+     *
+     * @param origin Task origin.
+     *
+     * @return task statistics, or {@code null} if no task from this origin has run.
+     */
+    @Nullable TaskStatistics getStatistics(@NotNull Class<?> origin);
+
+    /**
+     * Discard all recorded statistics.
+     */
+    void reset();
+
+    /**
+     * Scheduler instrumentation builder.
+     */
+    @NonExtendable
+    interface Builder {
+
+        /**
+         * Set the run time above which a task is logged as slow.
+         * <p>Defaults to {@link #DEFAULT_SLOW_THRESHOLD}.</p>
+         *
+         * @param slowThreshold Slow task threshold, must be positive.
+         *
+         * @return {@code this}.
+         */
+        @Contract("_ -> this")
+        @NotNull Builder slowThreshold(@NotNull Duration slowThreshold);
+
+        /**
+         * Build scheduler instrumentation.
+         *
+         * @return new scheduler instrumentation.
+         */
+        @Contract("-> new")
+        @NotNull SchedulerInstrumentation build();
+
+    }
+
+}
@@ -0,0 +1,286 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.scheduler;
+
+import dev.hypera.chameleon.logger.ChameleonLogger;
+import dev.hypera.chameleon.util.Preconditions;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import org.jetbrains.annotations.ApiStatus.Internal;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.VisibleForTesting;
+
+/**
+ * Scheduler instrumentation implementation.
+ */
+@Internal
+final class SchedulerInstrumentationImpl implements SchedulerInstrumentation {
+
+    private final @NotNull ChameleonLogger logger;
+    private final long slowThresholdNanos;
+    private final @NotNull LongSupplier clock;
+    private final @NotNull Map<Class<?>, TaskStatisticsImpl> statistics = new ConcurrentHashMap<>();
+
+    SchedulerInstrumentationImpl(@NotNull ChameleonLogger logger, @NotNull Duration slowThreshold) {
+        this(logger, slowThreshold, System::nanoTime);
+    }
+
+    @VisibleForTesting
+    SchedulerInstrumentationImpl(@NotNull ChameleonLogger logger, @NotNull Duration slowThreshold, @NotNull LongSupplier clock) {
+        this.logger = logger;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        this.clock = clock;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull Collection<TaskStatistics> getStatistics() {
+        return Collections.unmodifiableCollection(this.statistics.values());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @Nullable TaskStatistics getStatistics(@NotNull Class<?> origin) {
+        Preconditions.checkNotNull("origin", origin);
+        return this.statistics.get(origin);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void reset() {
+        this.statistics.clear();
+    }
+
+    @NotNull Runnable instrument(@NotNull Runnable task, @NotNull Class<?> origin, @NotNull Schedule delay, @NotNull Schedule repeat) {
+        return new InstrumentedTask(task, origin, this.clock.getAsLong() + delay.toDuration().toNanos(), repeat.toDuration().toNanos());
+    }
+
+    /**
+     * Instrumented task, accounts every run of a scheduled task.
+     */
+    private final class InstrumentedTask implements Runnable {
+
+        private final @NotNull Runnable task;
+        private final @NotNull Class<?> origin;
+        private final long periodNanos;
+        private volatile long intendedStart;
+
+        private InstrumentedTask(@NotNull Runnable task, @NotNull Class<?> origin, long intendedStart, long periodNanos) {
+            this.task = task;
+            this.origin = origin;
+            this.intendedStart = intendedStart;
+            this.periodNanos = periodNanos;
+        }
+
+        @Override
+        public void run() {
+            LongSupplier clock = SchedulerInstrumentationImpl.this.clock;
+            long start = clock.getAsLong();
+            long lag = Math.max(0, start - this.intendedStart);
+            // Platforms schedule the next run of a repeating task from when this one started.
+            this.intendedStart = start + this.periodNanos;
+            try {
+                this.task.run();
+            } finally {
+                record(lag, clock.getAsLong() - start);
+            }
+        }
+
+        private void record(long lag, long runTime) {
+            // Looked up on every run so statistics reappear after a reset.
+            TaskStatisticsImpl stats = SchedulerInstrumentationImpl.this.statistics.computeIfAbsent(this.origin, TaskStatisticsImpl::new);
+            boolean overrun = this.periodNanos > 0 && runTime > this.periodNanos;
+            boolean slow = runTime > SchedulerInstrumentationImpl.this.slowThresholdNanos;
+            stats.record(lag, runTime, overrun, slow);
+
+            if (slow) {
+                SchedulerInstrumentationImpl.this.logger.warn(
+                    "Task from %s took %dms to run%s", this.origin.getName(), Duration.ofNanos(runTime).toMillis(),
+                    overrun ? ", longer than its period of " + Duration.ofNanos(this.periodNanos).toMillis() + "ms" : ""
+                );
+            }
+        }
+
+    }
+
+    /**
+     * Task statistics implementation.
+     */
+    private static final class TaskStatisticsImpl implements TaskStatistics {
+
+        private final @NotNull Class<?> origin;
+        private final @NotNull LongAdder runs = new LongAdder();
+        private final @NotNull LongAdder totalRunTime = new LongAdder();
+        private final @NotNull AtomicLong maxRunTime = new AtomicLong();
+        private final @NotNull LongAdder totalLag = new LongAdder();
+        private final @NotNull AtomicLong maxLag = new AtomicLong();
+        private final @NotNull LongAdder overruns = new LongAdder();
+        private final @NotNull LongAdder slowRuns = new LongAdder();
+
+        private TaskStatisticsImpl(@NotNull Class<?> origin) {
+            this.origin = origin;
+        }
+
+        private void record(long lag, long runTime, boolean overrun, boolean slow) {
+            this.runs.increment();
+            this.totalRunTime.add(runTime);
+            this.totalLag.add(lag);
+            if (runTime > this.maxRunTime.get()) {
+                this.maxRunTime.accumulateAndGet(runTime, Math::max);
+            }
+            if (lag > this.maxLag.get()) {
+                this.maxLag.accumulateAndGet(lag, Math::max);
+            }
+            if (overrun) {
+                this.overruns.increment();
+            }
+            if (slow) {
+                this.slowRuns.increment();
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public @NotNull Class<?> getOrigin() {
+            return this.origin;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public long getRunCount() {
+            return this.runs.sum();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public @NotNull Duration getTotalRunTime() {
+            return Duration.ofNanos(this.totalRunTime.sum());
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public @NotNull Duration getAverageRunTime() {
+            return average(this.totalRunTime);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public @NotNull Duration getMaxRunTime() {
+            return Duration.ofNanos(this.maxRunTime.get());
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public @NotNull Duration getAverageLag() {
+            return average(this.totalLag);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public @NotNull Duration getMaxLag() {
+            return Duration.ofNanos(this.maxLag.get());
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public long getOverrunCount() {
+            return this.overruns.sum();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public long getSlowCount() {
+            return this.slowRuns.sum();
+        }
+
+        private @NotNull Duration average(@NotNull LongAdder total) {
+            long count = this.runs.sum();
+            return count == 0 ? Duration.ZERO : Duration.ofNanos(total.sum() / count);
+        }
+
+    }
+
+    static final class BuilderImpl implements Builder {
+
+        private final @NotNull ChameleonLogger logger;
+        private @NotNull Duration slowThreshold = DEFAULT_SLOW_THRESHOLD;
+
+        BuilderImpl(@NotNull ChameleonLogger logger) {
+            Preconditions.checkNotNull("logger", logger);
+            this.logger = logger;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public @NotNull Builder slowThreshold(@NotNull Duration slowThreshold) {
+            Preconditions.checkNotNull("slowThreshold", slowThreshold);
+            Preconditions.checkArgument(!slowThreshold.isNegative() && !slowThreshold.isZero(), "slowThreshold must be positive");
+            this.slowThreshold = slowThreshold;
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public @NotNull SchedulerInstrumentation build() {
+            return new SchedulerInstrumentationImpl(this.logger, this.slowThreshold);
+        }
+
+    }
+
+}
@@ -83,6 +83,15 @@ public interface Task {
         return true;
     }
 
+    /**
+     * Get the class this task originates from, used to name this task in scheduler statistics.
+     *
+     * @return origin class.
+     */
+    default @NotNull Class<?> getOrigin() {
+        return getClass();
+    }
+
 
     /**
      * Task builder.
@@ -146,6 +155,19 @@ public interface Task {
         @Contract("_ -> this")
         @NotNull Builder cancelAfter(int cancelAfter);
 
+        /**
+         * Set the class this task originates from.
+         * <p>Defaults to the class that built this task, found once when the task is built. The
+         * class is only looked up once a scheduler has instrumentation, otherwise it defaults to
+         * {@link Task}.</p>
+         *
+         * @param origin Origin class.
+         *
+         * @return {@code this}.
+         */
+        @Contract("_ -> this")
+        @NotNull Builder origin(@NotNull Class<?> origin);
+
         /**
          * Build task.
          *
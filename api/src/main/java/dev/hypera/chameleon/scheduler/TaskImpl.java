@@ -24,6 +24,8 @@
 package dev.hypera.chameleon.scheduler;
 
 import dev.hypera.chameleon.util.Preconditions;
+import java.lang.StackWalker.Option;
+import java.lang.StackWalker.StackFrame;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BooleanSupplier;
 import org.jetbrains.annotations.ApiStatus.Internal;
@@ -41,6 +43,7 @@ final class TaskImpl implements Task {
     private final @NotNull Schedule delay;
     private final @NotNull Schedule repeat;
     private final boolean async;
+    private final @NotNull Class<?> origin;
 
     private final @NotNull BooleanSupplier cancelWhen;
     private final @Nullable AtomicInteger cancellationCount;
@@ -48,11 +51,12 @@ final class TaskImpl implements Task {
     private boolean cancelled = false;
     private @Nullable ScheduledTask scheduledTask;
 
-    TaskImpl(@NotNull Runnable runnable, @NotNull Schedule delay, @NotNull Schedule repeat, boolean async, @NotNull BooleanSupplier cancelWhen, int cancelAfter) {
+    TaskImpl(@NotNull Runnable runnable, @NotNull Schedule delay, @NotNull Schedule repeat, boolean async, @NotNull Class<?> origin, @NotNull BooleanSupplier cancelWhen, int cancelAfter) {
         this.runnable = runnable;
         this.delay = delay;
         this.repeat = repeat;
         this.async = async;
+        this.origin = origin;
 
         this.cancelWhen = cancelWhen;
         this.cancellationCount = cancelAfter > 0 ? new AtomicInteger(cancelAfter) : null;
@@ -98,6 +102,14 @@ final class TaskImpl implements Task {
         return this.async;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull Class<?> getOrigin() {
+        return this.origin;
+    }
+
     @NotNull Schedule getDelay() {
         return this.delay;
     }
@@ -124,10 +136,15 @@ final class TaskImpl implements Task {
 
     static final class BuilderImpl implements Builder {
 
+        private static final @NotNull StackWalker STACK_WALKER = StackWalker.getInstance(Option.RETAIN_CLASS_REFERENCE);
+        // Set once any scheduler has instrumentation, the only user of an unset origin.
+        private static volatile boolean findOrigins = false;
+
         private final @NotNull Runnable runnable;
         private @NotNull Schedule delay = Schedule.none();
         private @NotNull Schedule repeat = Schedule.none();
         private boolean async = true;
+        private @Nullable Class<?> origin;
 
         private @NotNull BooleanSupplier cancelWhen = () -> false;
         private int cancelAfter = -1;
@@ -193,17 +210,39 @@ final class TaskImpl implements Task {
             return this;
         }
 
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public @NotNull Builder origin(@NotNull Class<?> origin) {
+            Preconditions.checkNotNull("origin", origin);
+            this.origin = origin;
+            return this;
+        }
+
         /**
          * {@inheritDoc}
          */
         @Override
         public @NotNull Task build() {
             return new TaskImpl(
-                this.runnable, this.delay, this.repeat,
-                this.async, this.cancelWhen, this.cancelAfter
+                this.runnable, this.delay, this.repeat, this.async,
+                this.origin != null ? this.origin : findOrigins ? findOrigin() : Task.class,
+                this.cancelWhen, this.cancelAfter
             );
         }
 
+        static void findOrigins() {
+            findOrigins = true;
+        }
+
+        private static @NotNull Class<?> findOrigin() {
+            // Walked once per build, so runs never pay for it.
+            return STACK_WALKER.walk(frames -> frames.map(StackFrame::getDeclaringClass)
+                .filter(type -> type != BuilderImpl.class && type != Task.class && type != Scheduler.class && !type.getName().startsWith("java."))
+                .findFirst().orElse(Task.class));
+        }
+
     }
 
 }
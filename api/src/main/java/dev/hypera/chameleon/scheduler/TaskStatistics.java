@@ -0,0 +1,102 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.scheduler;
+
+import java.time.Duration;
+import org.jetbrains.annotations.ApiStatus.NonExtendable;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Task statistics, the accounting of every run of the tasks from one origin.
+ * <p>Start lag is the time between when a run was intended to start and when it started. The
+ * first run is intended to start after the task's delay, later runs one period after the
+ * previous run started.</p>
+ */
+@NonExtendable
+public interface TaskStatistics {
+
+    /**
+     * Get the class the tasks originate from.
+     *
+     * @return task origin.
+     */
+    @NotNull Class<?> getOrigin();
+
+    /**
+     * Get the amount of runs.
+     *
+     * @return run count.
+     */
+    long getRunCount();
+
+    /**
+     * Get the total run time.
+     *
+     * @return total run time.
+     */
+    @NotNull Duration getTotalRunTime();
+
+    /**
+     * Get the average run time.
+     *
+     * @return average run time.
+     */
+    @NotNull Duration getAverageRunTime();
+
+    /**
+     * Get the longest run time.
+     *
+     * @return longest run time.
+     */
+    @NotNull Duration getMaxRunTime();
+
+    /**
+     * Get the average start lag.
+     *
+     * @return average start lag.
+     */
+    @NotNull Duration getAverageLag();
+
+    /**
+     * Get the largest start lag.
+     *
+     * @return largest start lag.
+     */
+    @NotNull Duration getMaxLag();
+
+    /**
+     * Get the amount of runs of repeating tasks that took longer than the task's period.
+     *
+     * @return overrun count.
+     */
+    long getOverrunCount();
+
+    /**
+     * Get the amount of runs that took longer than the slow threshold.
+     *
+     * @return slow run count.
+     */
+    long getSlowCount();
+
+}
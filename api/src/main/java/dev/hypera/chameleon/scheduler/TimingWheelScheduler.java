@@ -0,0 +1,154 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.scheduler;
+
+import dev.hypera.chameleon.logger.ChameleonLogger;
+import dev.hypera.chameleon.scheduler.TimingWheelSchedulerImpl.BuilderImpl;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import org.jetbrains.annotations.ApiStatus.NonExtendable;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Timing wheel scheduler, a hashed timing wheel for scheduling large amounts of short-lived
+ * asynchronous tasks, such as cooldowns and expiring invites, without creating a platform task for
+ * each of them.
+ * <p>Scheduling and cancelling a task are constant time. A single ticker thread advances the
+ * wheel once per tick and hands expired tasks to the worker executor, so tasks run up to one tick
+ * late. Repeating tasks are rescheduled once they have finished running, so a slow task never
+ * runs concurrently with itself.</p>
+ * <p>Use {@link Scheduler#setAsyncScheduler(TimingWheelScheduler)} to run the asynchronous tasks
+ * of a Chameleon instance on a timing wheel.</p>
+ */
+@NonExtendable
+public interface TimingWheelScheduler extends AutoCloseable {
+
+    /**
+     * Default duration of a tick.
+     */
+    @NotNull Duration DEFAULT_TICK_DURATION = Duration.ofMillis(10);
+
+    /**
+     * Default amount of buckets in the wheel.
+     */
+    int DEFAULT_WHEEL_SIZE = 512;
+
+    /**
+     * Create a new timing wheel scheduler builder.
+     *
+     * @param logger Logger used to report task failures.
+     *
+     * @return new builder.
+     */
+    static @NotNull Builder builder(@NotNull ChameleonLogger logger) {
+        return new BuilderImpl(logger);
+    }
+
+    /**
+     * Schedule a task.
+     *
+     * @param task   Task to run.
+     * @param delay  Delay before the first run.
+     * @param repeat Delay between runs, or {@link Schedule#none()} to only run once.
+     *
+     * @return scheduled task.
+     * @throws IllegalStateException if this scheduler has been closed.
+     */
+    @NotNull ScheduledTask schedule(@NotNull Runnable task, @NotNull Schedule delay, @NotNull Schedule repeat);
+
+    /**
+     * Returns the amount of scheduled tasks that have not finished or been cancelled.
+     *
+     * @return pending task count.
+     */
+    int getPendingCount();
+
+    /**
+     * Returns whether this scheduler has been closed.
+     *
+     * @return {@code true} if this scheduler has been closed, otherwise {@code false}.
+     */
+    boolean isClosed();
+
+    /**
+     * Stop the ticker thread and cancel every pending task.
+     * <p>Tasks that are already running are not interrupted. If the worker executor was created
+     * by this scheduler, it is shut down once they have finished.</p>
+     */
+    @Override
+    void close();
+
+
+    /**
+     * Timing wheel scheduler builder.
+     */
+    @NonExtendable
+    interface Builder {
+
+        /**
+         * Set the duration of a tick, the precision of the scheduler.
+         * <p>Defaults to {@link #DEFAULT_TICK_DURATION}.</p>
+         *
+         * @param tickDuration Tick duration, at least one millisecond.
+         *
+         * @return {@code this}.
+         */
+        @Contract("_ -> this")
+        @NotNull Builder tickDuration(@NotNull Duration tickDuration);
+
+        /**
+         * Set the amount of buckets in the wheel, rounded up to a power of two.
+         * <p>Tasks further in the future than a full rotation of the wheel are kept in the wheel
+         * and skipped until their rotation comes. Defaults to {@link #DEFAULT_WHEEL_SIZE}.</p>
+         *
+         * @param wheelSize Wheel size.
+         *
+         * @return {@code this}.
+         */
+        @Contract("_ -> this")
+        @NotNull Builder wheelSize(int wheelSize);
+
+        /**
+         * Set the executor expired tasks are run on.
+         * <p>Defaults to a pool of daemon threads owned by the scheduler.</p>
+         *
+         * @param executor Worker executor.
+         *
+         * @return {@code this}.
+         */
+        @Contract("_ -> this")
+        @NotNull Builder executor(@NotNull Executor executor);
+
+        /**
+         * Build the timing wheel scheduler, starting its ticker thread.
+         *
+         * @return new timing wheel scheduler.
+         */
+        @Contract("-> new")
+        @NotNull TimingWheelScheduler build();
+
+    }
+
+}
@@ -0,0 +1,432 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.scheduler;
+
+import dev.hypera.chameleon.logger.ChameleonLogger;
+import dev.hypera.chameleon.util.Preconditions;
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.jetbrains.annotations.ApiStatus.Internal;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Timing wheel scheduler implementation.
+ * <p>Scheduling and cancelling only append to lock-free queues, the ticker thread applies them
+ * at the start of every tick. Only the ticker thread touches the buckets, so they need no
+ * synchronisation and a task can be unlinked from its bucket in constant time.</p>
+ */
+@Internal
+final class TimingWheelSchedulerImpl implements TimingWheelScheduler {
+
+    // Limits the work done by a single tick if a huge amount of tasks is scheduled at once.
+    private static final int MAX_ADDITIONS_PER_TICK = 100_000;
+
+    private static final int WAITING = 0;
+    private static final int RUNNING = 1;
+    private static final int DONE = 2;
+    private static final int CANCELLED = 3;
+
+    private final @NotNull ChameleonLogger logger;
+    private final long tickNanos;
+    private final @NotNull Bucket @NotNull [] wheel;
+    private final int mask;
+    private final @NotNull Executor executor;
+    private final @Nullable ExecutorService ownedExecutor;
+    private final long start = System.nanoTime();
+    private final @NotNull Thread ticker;
+
+    private final @NotNull Queue<WheelTask> additions = new ConcurrentLinkedQueue<>();
+    private final @NotNull Queue<WheelTask> cancellations = new ConcurrentLinkedQueue<>();
+    private final @NotNull AtomicInteger pending = new AtomicInteger();
+    private final @NotNull AtomicBoolean closed = new AtomicBoolean();
+    // Only accessed by the ticker thread.
+    private long tick = 0;
+
+    TimingWheelSchedulerImpl(@NotNull ChameleonLogger logger, @NotNull Duration tickDuration, int wheelSize, @Nullable Executor executor) {
+        this.logger = logger;
+        this.tickNanos = tickDuration.toNanos();
+        this.wheel = new Bucket[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            this.wheel[i] = new Bucket();
+        }
+        this.mask = wheelSize - 1;
+
+        if (executor == null) {
+            AtomicInteger count = new AtomicInteger();
+            this.ownedExecutor = Executors.newFixedThreadPool(Math.max(2, Runtime.getRuntime().availableProcessors()), task -> {
+                Thread thread = new Thread(task, "Chameleon Timing Wheel Worker #" + count.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.executor = this.ownedExecutor;
+        } else {
+            this.ownedExecutor = null;
+            this.executor = executor;
+        }
+
+        this.ticker = new Thread(this::runTicker, "Chameleon Timing Wheel");
+        this.ticker.setDaemon(true);
+        this.ticker.start();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull ScheduledTask schedule(@NotNull Runnable task, @NotNull Schedule delay, @NotNull Schedule repeat) {
+        Preconditions.checkNotNull("task", task);
+        Preconditions.checkNotNull("delay", delay);
+        Preconditions.checkNotNull("repeat", repeat);
+        Preconditions.checkState(!this.closed.get(), "Timing wheel scheduler has been closed");
+
+        WheelTask wheelTask = new WheelTask(task, elapsed() + Math.max(0, delay.toDuration().toNanos()), Math.max(0, repeat.toDuration().toNanos()));
+        this.pending.incrementAndGet();
+        if (wheelTask.deadline <= elapsed()) {
+            expire(wheelTask);
+        } else {
+            this.additions.add(wheelTask);
+        }
+
+        // The ticker may have already cancelled the remaining tasks.
+        if (this.closed.get()) {
+            wheelTask.cancel();
+        }
+        return wheelTask;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getPendingCount() {
+        return this.pending.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isClosed() {
+        return this.closed.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() {
+        if (this.closed.compareAndSet(false, true)) {
+            this.ticker.interrupt();
+        }
+    }
+
+    private long elapsed() {
+        return System.nanoTime() - this.start;
+    }
+
+    private void runTicker() {
+        try {
+            while (!this.closed.get()) {
+                long now = waitForNextTick();
+                if (now < 0) {
+                    break;
+                }
+
+                Bucket bucket = this.wheel[(int) (this.tick & this.mask)];
+                processCancellations();
+                processAdditions();
+                bucket.expire(now);
+                this.tick++;
+            }
+        } finally {
+            for (Bucket bucket : this.wheel) {
+                bucket.cancelAll();
+            }
+            WheelTask task;
+            while ((task = this.additions.poll()) != null) {
+                task.cancel();
+            }
+            this.cancellations.clear();
+
+            if (this.ownedExecutor != null) {
+                this.ownedExecutor.shutdown();
+            }
+        }
+    }
+
+    private long waitForNextTick() {
+        long deadline = this.tickNanos * (this.tick + 1);
+        while (true) {
+            long current = elapsed();
+            long sleepMillis = (deadline - current + 999_999) / 1_000_000;
+            if (sleepMillis <= 0) {
+                return current;
+            }
+
+            try {
+                Thread.sleep(sleepMillis);
+            } catch (InterruptedException ex) {
+                if (this.closed.get()) {
+                    return -1;
+                }
+            }
+        }
+    }
+
+    private void processCancellations() {
+        WheelTask task;
+        while ((task = this.cancellations.poll()) != null) {
+            Bucket bucket = task.bucket;
+            if (bucket != null) {
+                bucket.remove(task);
+            }
+        }
+    }
+
+    private void processAdditions() {
+        for (int i = 0; i < MAX_ADDITIONS_PER_TICK; i++) {
+            WheelTask task = this.additions.poll();
+            if (task == null) {
+                return;
+            }
+            if (task.state.get() == CANCELLED) {
+                continue;
+            }
+
+            long calculated = task.deadline / this.tickNanos;
+            task.remainingRounds = (calculated - this.tick) / this.wheel.length;
+            // Tasks that should have already run are put in the current bucket.
+            long ticks = Math.max(calculated, this.tick);
+            this.wheel[(int) (ticks & this.mask)].add(task);
+        }
+    }
+
+    private void expire(@NotNull WheelTask task) {
+        boolean repeating = task.period > 0;
+        if (!task.state.compareAndSet(WAITING, repeating ? RUNNING : DONE)) {
+            return;
+        }
+        if (!repeating) {
+            this.pending.decrementAndGet();
+        }
+
+        try {
+            this.executor.execute(task);
+        } catch (RejectedExecutionException ex) {
+            this.logger.error("Failed to run a scheduled task", ex);
+            if (repeating && task.state.compareAndSet(RUNNING, DONE)) {
+                this.pending.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Wheel task, a scheduled task and its position in the wheel.
+     */
+    private final class WheelTask implements ScheduledTask, Runnable {
+
+        private final @NotNull Runnable task;
+        private final long period;
+        private final @NotNull AtomicInteger state = new AtomicInteger(WAITING);
+        // Nanoseconds since the scheduler was started, only changed while not in the wheel.
+        private long deadline;
+
+        // Only accessed by the ticker thread.
+        private long remainingRounds;
+        private @Nullable Bucket bucket;
+        private @Nullable WheelTask next;
+        private @Nullable WheelTask prev;
+
+        private WheelTask(@NotNull Runnable task, long deadline, long period) {
+            this.task = task;
+            this.deadline = deadline;
+            this.period = period;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void cancel() {
+            int current;
+            while ((current = this.state.get()) == WAITING || current == RUNNING) {
+                if (this.state.compareAndSet(current, CANCELLED)) {
+                    TimingWheelSchedulerImpl.this.pending.decrementAndGet();
+                    if (current == WAITING) {
+                        TimingWheelSchedulerImpl.this.cancellations.add(this);
+                    }
+                    return;
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                this.task.run();
+            } catch (RuntimeException ex) {
+                TimingWheelSchedulerImpl.this.logger.error("An error occurred while running a scheduled task", ex);
+            } finally {
+                if (this.period > 0 && this.state.compareAndSet(RUNNING, WAITING)) {
+                    // Rescheduled from the previous deadline to keep a fixed rate, unless the task
+                    // took longer than its period.
+                    this.deadline = Math.max(this.deadline + this.period, elapsed());
+                    TimingWheelSchedulerImpl.this.additions.add(this);
+                }
+            }
+        }
+
+    }
+
+    /**
+     * Bucket, a doubly linked list of the tasks that expire in the same slot of the wheel.
+     * <p>Only accessed by the ticker thread.</p>
+     */
+    private final class Bucket {
+
+        private @Nullable WheelTask head;
+        private @Nullable WheelTask tail;
+
+        private void add(@NotNull WheelTask task) {
+            task.bucket = this;
+            if (this.tail == null) {
+                this.head = task;
+            } else {
+                this.tail.next = task;
+                task.prev = this.tail;
+            }
+            this.tail = task;
+        }
+
+        private void remove(@NotNull WheelTask task) {
+            WheelTask next = task.next;
+            WheelTask prev = task.prev;
+            if (prev == null) {
+                this.head = next;
+            } else {
+                prev.next = next;
+            }
+            if (next == null) {
+                this.tail = prev;
+            } else {
+                next.prev = prev;
+            }
+
+            task.bucket = null;
+            task.next = null;
+            task.prev = null;
+        }
+
+        private void expire(long now) {
+            WheelTask task = this.head;
+            while (task != null) {
+                WheelTask next = task.next;
+                if (task.remainingRounds <= 0 && task.deadline <= now) {
+                    remove(task);
+                    TimingWheelSchedulerImpl.this.expire(task);
+                } else if (task.state.get() == CANCELLED) {
+                    remove(task);
+                } else {
+                    task.remainingRounds--;
+                }
+                task = next;
+            }
+        }
+
+        private void cancelAll() {
+            WheelTask task;
+            while ((task = this.head) != null) {
+                remove(task);
+                task.cancel();
+            }
+        }
+
+    }
+
+    static final class BuilderImpl implements Builder {
+
+        private final @NotNull ChameleonLogger logger;
+        private @NotNull Duration tickDuration = DEFAULT_TICK_DURATION;
+        private int wheelSize = DEFAULT_WHEEL_SIZE;
+        private @Nullable Executor executor;
+
+        BuilderImpl(@NotNull ChameleonLogger logger) {
+            Preconditions.checkNotNull("logger", logger);
+            this.logger = logger;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public @NotNull Builder tickDuration(@NotNull Duration tickDuration) {
+            Preconditions.checkNotNull("tickDuration", tickDuration);
+            Preconditions.checkArgument(tickDuration.toMillis() >= 1, "tickDuration must be at least 1 millisecond");
+            this.tickDuration = tickDuration;
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public @NotNull Builder wheelSize(int wheelSize) {
+            Preconditions.checkArgument(wheelSize > 0 && wheelSize <= 1 << 30, "wheelSize must be between 1 and 2^30");
+            this.wheelSize = wheelSize;
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public @NotNull Builder executor(@NotNull Executor executor) {
+            Preconditions.checkNotNull("executor", executor);
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public @NotNull TimingWheelScheduler build() {
+            int size = Integer.highestOneBit(this.wheelSize);
+            if (size < this.wheelSize) {
+                size <<= 1;
+            }
+            return new TimingWheelSchedulerImpl(this.logger, this.tickDuration, size, this.executor);
+        }
+
+    }
+
+}
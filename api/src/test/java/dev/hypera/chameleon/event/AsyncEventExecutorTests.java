@@ -0,0 +1,258 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import dev.hypera.chameleon.logger.DummyChameleonLogger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+final class AsyncEventExecutorTests {
+
+    private ExecutorService executor;
+    private CountDownLatch release;
+
+    @BeforeEach
+    void setUp() {
+        this.executor = Executors.newSingleThreadExecutor();
+        this.release = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.release.countDown();
+        this.executor.shutdownNow();
+    }
+
+    @Test
+    void dispatchAsync() throws Exception {
+        EventBus eventBus = new EventBusImpl(new DummyChameleonLogger());
+        eventBus.setAsyncExecutor(AsyncEventExecutor.builder().executor(this.executor).build());
+
+        Thread caller = Thread.currentThread();
+        List<Thread> threads = new ArrayList<>();
+        eventBus.subscribe(TestEvent.class, event -> threads.add(Thread.currentThread()));
+
+        TestEvent event = new TestEvent();
+        assertSame(event, eventBus.dispatchAsync(event).get(5, TimeUnit.SECONDS));
+        assertEquals(1, threads.size());
+        assertTrue(threads.get(0) != caller);
+    }
+
+    @Test
+    void asyncSubscriber() throws Exception {
+        EventBus eventBus = new EventBusImpl(new DummyChameleonLogger());
+        eventBus.setAsyncExecutor(AsyncEventExecutor.builder().executor(this.executor).build());
+
+        CompletableFuture<Thread> asyncThread = new CompletableFuture<>();
+        eventBus.subscribe(EventSubscriber.builder(TestEvent.class)
+            .async()
+            .handler(event -> asyncThread.complete(Thread.currentThread()))
+            .build());
+
+        eventBus.dispatch(new TestEvent());
+        assertTrue(asyncThread.get(5, TimeUnit.SECONDS) != Thread.currentThread());
+    }
+
+    @Test
+    void dropOldest() throws Exception {
+        AsyncEventExecutor asyncExecutor = createBlockedExecutor(OverflowPolicy.DROP_OLDEST);
+        EventBus eventBus = new EventBusImpl(new DummyChameleonLogger());
+        eventBus.setAsyncExecutor(asyncExecutor);
+
+        CompletableFuture<TestEvent> dropped = eventBus.dispatchAsync(new TestEvent());
+        CompletableFuture<TestEvent> kept = eventBus.dispatchAsync(new TestEvent());
+        assertEquals(1, asyncExecutor.getDroppedCount());
+
+        ExecutionException ex = assertThrows(ExecutionException.class, () -> dropped.get(5, TimeUnit.SECONDS));
+        assertTrue(ex.getCause() instanceof RejectedExecutionException);
+
+        this.release.countDown();
+        kept.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void callerRuns() {
+        AsyncEventExecutor asyncExecutor = createBlockedExecutor(OverflowPolicy.CALLER_RUNS);
+        List<Thread> threads = new ArrayList<>();
+
+        asyncExecutor.execute(() -> { }); // Fills the queue
+        asyncExecutor.execute(() -> threads.add(Thread.currentThread()));
+        assertEquals(List.of(Thread.currentThread()), threads);
+        assertEquals(1, asyncExecutor.getQueueSize());
+    }
+
+    @Test
+    void orderedByKey() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            AsyncEventExecutor asyncExecutor = AsyncEventExecutor.builder()
+                .executor(pool)
+                .parallelism(4)
+                .orderedBy(event -> event instanceof KeyedEvent ? ((KeyedEvent) event).getKey() : null)
+                .build();
+
+            int keys = 8;
+            int tasksPerKey = 500;
+            Map<Integer, List<Integer>> executions = new ConcurrentHashMap<>();
+            CountDownLatch done = new CountDownLatch(keys * tasksPerKey);
+            for (int i = 0; i < tasksPerKey; i++) {
+                for (int key = 0; key < keys; key++) {
+                    int sequence = i;
+                    List<Integer> execution = executions.computeIfAbsent(key, k -> new ArrayList<>());
+                    asyncExecutor.execute(new KeyedEvent(key), () -> {
+                        // Unsynchronized on purpose, tasks for the same key must never overlap.
+                        execution.add(sequence);
+                        done.countDown();
+                    });
+                }
+            }
+
+            assertTrue(done.await(10, TimeUnit.SECONDS));
+            List<Integer> expected = IntStream.range(0, tasksPerKey).boxed().collect(Collectors.toList());
+            for (List<Integer> execution : executions.values()) {
+                assertEquals(expected, execution);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void orderedCountsAgainstCapacity() throws Exception {
+        AsyncEventExecutor asyncExecutor = createBlockedExecutor(AsyncEventExecutor.builder()
+            .queueCapacity(2)
+            .overflowPolicy(OverflowPolicy.DROP_OLDEST)
+            .orderedBy(event -> ((KeyedEvent) event).getKey()));
+
+        List<Integer> executions = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            int sequence = i;
+            asyncExecutor.execute(new KeyedEvent(1), () -> executions.add(sequence));
+        }
+
+        // Only the oldest task of the key is dropped, not its whole backlog.
+        assertEquals(2, asyncExecutor.getQueueSize());
+        assertEquals(1, asyncExecutor.getDroppedCount());
+
+        CountDownLatch done = new CountDownLatch(1);
+        asyncExecutor.execute(new KeyedEvent(1), done::countDown);
+        this.release.countDown();
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of(2), executions);
+    }
+
+    @Test
+    void orderedBlockDoesNotDeadlock() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            AsyncEventExecutor asyncExecutor = AsyncEventExecutor.builder()
+                .executor(pool)
+                .parallelism(2)
+                .queueCapacity(4)
+                .overflowPolicy(OverflowPolicy.BLOCK)
+                .orderedBy(event -> ((KeyedEvent) event).getKey())
+                .build();
+
+            // Mailboxes reschedule themselves while the queue is full.
+            int tasks = 1000;
+            CountDownLatch done = new CountDownLatch(tasks);
+            for (int i = 0; i < tasks; i++) {
+                asyncExecutor.execute(new KeyedEvent(i % 2), done::countDown);
+            }
+
+            assertTrue(done.await(10, TimeUnit.SECONDS));
+            assertEquals(0, asyncExecutor.getQueueSize());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private AsyncEventExecutor createBlockedExecutor(OverflowPolicy policy) {
+        return createBlockedExecutor(AsyncEventExecutor.builder().queueCapacity(1).overflowPolicy(policy));
+    }
+
+    private AsyncEventExecutor createBlockedExecutor(AsyncEventExecutor.Builder builder) {
+        AsyncEventExecutor asyncExecutor = builder
+            .executor(this.executor)
+            .parallelism(1)
+            .build();
+
+        // Occupy the only worker until the test releases it.
+        CountDownLatch started = new CountDownLatch(1);
+        asyncExecutor.execute(() -> {
+            started.countDown();
+            try {
+                this.release.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        try {
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException ex) {
+            throw new IllegalStateException(ex);
+        }
+        return asyncExecutor;
+    }
+
+    static final class TestEvent implements ChameleonEvent {
+
+    }
+
+    static final class KeyedEvent implements ChameleonEvent {
+
+        private final int key;
+
+        private KeyedEvent(int key) {
+            this.key = key;
+        }
+
+        public int getKey() {
+            return this.key;
+        }
+
+    }
+
+}
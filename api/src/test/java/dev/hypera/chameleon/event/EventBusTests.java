@@ -25,9 +25,20 @@ package dev.hypera.chameleon.event;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import dev.hypera.chameleon.logger.DummyChameleonLogger;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Test;
 
 final class EventBusTests {
@@ -125,6 +136,38 @@ final class EventBusTests {
         assertEquals(3, cancelledEvent.getTouches());
     }
 
+    @Test
+    void cancelledShortCircuit() {
+        EventBus eventBus = new EventBusImpl(new DummyChameleonLogger());
+        AtomicInteger checks = new AtomicInteger();
+        eventBus.subscribe(TestEvent.class, EventSubscriber.builder(TestEvent.class)
+            .priority(EventSubscriptionPriority.FIRST)
+            .handler(TestEvent::cancel)
+            .build());
+        eventBus.subscribe(TestEvent.class, new EventSubscriber<TestEvent>() {
+            @Override
+            public void on(@NotNull TestEvent event) {
+                event.touch();
+            }
+
+            @Override
+            public boolean acceptsCancelled() {
+                checks.incrementAndGet();
+                return false;
+            }
+        });
+
+        TestEvent event = new TestEvent(false);
+        eventBus.dispatch(event);
+        checks.set(0);
+
+        event.uncancel();
+        eventBus.dispatch(event);
+        assertTrue(event.isCancelled());
+        assertEquals(0, event.getTouches());
+        assertEquals(0, checks.get());
+    }
+
     @Test
     void receivesChildren() {
         EventBus eventBus = new EventBusImpl(new DummyChameleonLogger());
@@ -139,6 +182,310 @@ final class EventBusTests {
         assertEquals(1, event.getTouches());
     }
 
+    @Test
+    void mergesHierarchy() {
+        EventBus eventBus = new EventBusImpl(new DummyChameleonLogger());
+        List<String> calls = new ArrayList<>();
+
+        eventBus.subscribe(TestEvent.class, EventSubscriber.builder(TestEvent.class)
+            .priority(EventSubscriptionPriority.LOW)
+            .handler(event -> calls.add("test-low"))
+            .build());
+        eventBus.subscribe(ChameleonEvent.class, EventSubscriber.builder(ChameleonEvent.class)
+            .priority(EventSubscriptionPriority.HIGH)
+            .handler(event -> calls.add("parent-high"))
+            .build());
+        eventBus.subscribe(TestEvent.class, event -> calls.add("test-normal"));
+
+        eventBus.dispatch(new TestEvent(false));
+        assertEquals(List.of("parent-high", "test-normal", "test-low"), calls);
+
+        // Subscribing to a parent type must invalidate the cached table of the child type.
+        eventBus.subscribe(ChameleonEvent.class, EventSubscriber.builder(ChameleonEvent.class)
+            .priority(EventSubscriptionPriority.LAST)
+            .handler(event -> calls.add("parent-last"))
+            .build());
+
+        calls.clear();
+        eventBus.dispatch(new TestEvent(false));
+        assertEquals(List.of("parent-high", "test-normal", "test-low", "parent-last"), calls);
+    }
+
+    @Test
+    void subscribedFollowsHierarchy() {
+        EventBus eventBus = new EventBusImpl(new DummyChameleonLogger());
+        assertFalse(eventBus.subscribed(TestEvent.class));
+
+        // Cached results must be invalidated by subscription changes on parent types.
+        EventSubscription subscription = eventBus.subscribe(ChameleonEvent.class, event -> {});
+        assertTrue(eventBus.subscribed(TestEvent.class));
+        assertTrue(eventBus.subscribed(TestEvent.class));
+
+        subscription.unsubscribe();
+        assertFalse(eventBus.subscribed(TestEvent.class));
+        assertFalse(eventBus.subscribed(ChameleonEvent.class));
+    }
+
+    @Test
+    void watch() {
+        EventBus eventBus = new EventBusImpl(new DummyChameleonLogger());
+        List<Boolean> states = new ArrayList<>();
+        EventSubscription watch = eventBus.watch(TestEvent.class, states::add);
+        assertEquals(List.of(false), states);
+
+        EventSubscription subscription = eventBus.subscribe(TestEvent.class, TestEvent::touch);
+        EventSubscription parentSubscription = eventBus.subscribe(ChameleonEvent.class, event -> {});
+        assertEquals(List.of(false, true), states);
+
+        // Still subscribed through the parent type.
+        subscription.unsubscribe();
+        assertEquals(List.of(false, true), states);
+
+        parentSubscription.unsubscribe();
+        assertEquals(List.of(false, true, false), states);
+
+        watch.unsubscribe();
+        eventBus.subscribe(TestEvent.class, TestEvent::touch);
+        assertEquals(List.of(false, true, false), states);
+    }
+
+    @Test
+    void watchOutsideLock() {
+        EventBus eventBus = new EventBusImpl(new DummyChameleonLogger());
+        List<Boolean> states = new ArrayList<>();
+        AtomicReference<EventSubscription> inner = new AtomicReference<>();
+        eventBus.watch(TestEvent.class, subscribed -> {
+            states.add(subscribed);
+            if (!subscribed) {
+                return;
+            }
+
+            // Subscribing from another thread would deadlock if the lock was still held.
+            Thread thread = new Thread(() -> inner.set(eventBus.subscribe(ChameleonEvent.class, event -> {})));
+            thread.start();
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        EventSubscription subscription = eventBus.subscribe(TestEvent.class, TestEvent::touch);
+        EventSubscription innerSubscription = inner.get();
+        assertNotNull(innerSubscription);
+        subscription.unsubscribe();
+        assertEquals(List.of(false, true), states);
+
+        // Unsubscribing from within the callback.
+        eventBus.watch(TestEvent.class, subscribed -> {
+            if (subscribed) {
+                innerSubscription.unsubscribe();
+            }
+        });
+        assertEquals(List.of(false, true, false), states);
+    }
+
+    @Test
+    void blocking() throws InterruptedException {
+        EventBus eventBus = new EventBusImpl(new DummyChameleonLogger());
+        AtomicReference<Thread> thread = new AtomicReference<>();
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(1);
+        eventBus.subscribe(TestEvent.class, EventSubscriber.builder(TestEvent.class)
+            .blocking()
+            .handler(event -> {
+                thread.set(Thread.currentThread());
+                try {
+                    release.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                done.countDown();
+            })
+            .build());
+
+        // Dispatch returns without waiting for the blocked subscriber.
+        eventBus.dispatch(new TestEvent(false));
+        release.countDown();
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertNotEquals(Thread.currentThread(), thread.get());
+    }
+
+    @Test
+    void blockingAwaitsCancellable() {
+        EventBus eventBus = new EventBusImpl(new DummyChameleonLogger());
+        eventBus.subscribe(TestEvent.class, EventSubscriber.builder(TestEvent.class)
+            .blocking()
+            .awaitCompletion(Duration.ofSeconds(5))
+            .priority(EventSubscriptionPriority.FIRST)
+            .handler(TestEvent::cancel)
+            .build());
+        List<TestEvent> received = new ArrayList<>();
+        eventBus.subscribe(TestEvent.class, received::add);
+
+        TestEvent event = new TestEvent(false);
+        eventBus.dispatch(event);
+        assertTrue(event.isCancelled());
+        assertTrue(received.isEmpty());
+    }
+
+    @Test
+    void blockingAwaitTimeout() {
+        EventBus eventBus = new EventBusImpl(new DummyChameleonLogger());
+        CountDownLatch release = new CountDownLatch(1);
+        eventBus.subscribe(TestEvent.class, EventSubscriber.builder(TestEvent.class)
+            .blocking()
+            .awaitCompletion(Duration.ofMillis(10))
+            .handler(event -> {
+                try {
+                    release.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            })
+            .build());
+
+        TestEvent event = new TestEvent(false);
+        eventBus.dispatch(event);
+        release.countDown();
+        assertFalse(event.isCancelled());
+    }
+
+    @Test
+    void keyed() {
+        EventBus eventBus = new EventBusImpl(new DummyChameleonLogger());
+        EventKey<TestEvent, Integer> touches = TestEvent::getTouches;
+        List<String> calls = new ArrayList<>();
+
+        eventBus.subscribe(TestEvent.class, EventSubscriber.builder(TestEvent.class)
+            .key(touches, 0)
+            .priority(EventSubscriptionPriority.LOW)
+            .handler(event -> calls.add("zero-low"))
+            .build());
+        eventBus.subscribe(TestEvent.class, EventSubscriber.builder(TestEvent.class)
+            .key(touches, 1)
+            .handler(event -> calls.add("one"))
+            .build());
+        eventBus.subscribe(TestEvent.class, event -> calls.add("unkeyed"));
+        eventBus.subscribe(TestEvent.class, EventSubscriber.builder(TestEvent.class)
+            .key(touches, 0)
+            .priority(EventSubscriptionPriority.HIGH)
+            .handler(event -> calls.add("zero-high"))
+            .build());
+
+        TestEvent event = new TestEvent(false);
+        eventBus.dispatch(event);
+        assertEquals(List.of("zero-high", "unkeyed", "zero-low"), calls);
+
+        calls.clear();
+        event.touch();
+        eventBus.dispatch(event);
+        assertEquals(List.of("one", "unkeyed"), calls);
+
+        calls.clear();
+        event.touch();
+        eventBus.dispatch(event);
+        assertEquals(List.of("unkeyed"), calls);
+    }
+
+    @Test
+    void metrics() {
+        EventBus eventBus = new EventBusImpl(new DummyChameleonLogger());
+        eventBus.subscribe(TestEvent.class, EventSubscriber.builder(TestEvent.class)
+            .handler(TestEvent::touch)
+            .build());
+
+        eventBus.dispatch(new TestEvent(false));
+        assertTrue(eventBus.getMetrics().getSubscriberMetrics().isEmpty());
+
+        eventBus.getMetrics().setEnabled(true);
+        for (int i = 0; i < 3; i++) {
+            eventBus.dispatch(new TestEvent(false));
+        }
+
+        List<SubscriberMetrics> metrics = eventBus.getMetrics().getSubscriberMetrics();
+        assertEquals(1, metrics.size());
+        SubscriberMetrics subscriberMetrics = metrics.get(0);
+        assertEquals(TestEvent.class, subscriberMetrics.getEventType());
+        assertTrue(subscriberMetrics.getSubscriberType().getName().startsWith(EventBusTests.class.getName()));
+        assertEquals(3, subscriberMetrics.getInvocations());
+        assertEquals(3, Arrays.stream(subscriberMetrics.getHistogram()).sum());
+        assertFalse(subscriberMetrics.getPercentile(99).isZero());
+
+        eventBus.getMetrics().reset();
+        assertTrue(eventBus.getMetrics().getSubscriberMetrics().isEmpty());
+    }
+
+    @Test
+    void metricsReleaseUnsubscribed() {
+        EventBus eventBus = new EventBusImpl(new DummyChameleonLogger());
+        eventBus.getMetrics().setEnabled(true);
+        EventSubscription subscription = eventBus.subscribe(TestEvent.class, TestEvent::touch);
+        EventSubscription expiring = eventBus.subscribe(TestEvent.class, EventSubscriber.builder(TestEvent.class)
+            .handler(TestEvent::touch)
+            .expireAfter(1)
+            .build());
+
+        eventBus.dispatch(new TestEvent(false));
+        assertEquals(1, eventBus.getMetrics().getSubscriberMetrics().size());
+
+        subscription.unsubscribe();
+        assertTrue(eventBus.getMetrics().getSubscriberMetrics().isEmpty());
+        expiring.unsubscribe();
+    }
+
+    @Test
+    void metricsKeepResubscribed() {
+        EventBus eventBus = new EventBusImpl(new DummyChameleonLogger());
+        eventBus.getMetrics().setEnabled(true);
+        EventSubscriber<TestEvent> subscriber = TestEvent::touch;
+        EventSubscription first = eventBus.subscribe(TestEvent.class, subscriber);
+        EventSubscription second = eventBus.subscribe(TestEvent.class, subscriber);
+
+        // The subscriber is still subscribed once, so it is recorded again after a reset.
+        first.unsubscribe();
+        eventBus.getMetrics().reset();
+        eventBus.dispatch(new TestEvent(false));
+        assertEquals(1, eventBus.getMetrics().getSubscriberMetrics().size());
+
+        second.unsubscribe();
+        assertTrue(eventBus.getMetrics().getSubscriberMetrics().isEmpty());
+    }
+
+    @Test
+    void dispatchAll() {
+        EventBus eventBus = new EventBusImpl(new DummyChameleonLogger());
+        List<List<TestEvent>> batches = new ArrayList<>();
+        List<String> calls = new ArrayList<>();
+        eventBus.subscribe(TestEvent.class, EventSubscriber.builder(TestEvent.class)
+            .priority(EventSubscriptionPriority.HIGH)
+            .handler(event -> calls.add("single"))
+            .build());
+        eventBus.subscribe(TestEvent.class, EventSubscriber.builder(TestEvent.class)
+            .batchHandler(events -> {
+                calls.add("batch");
+                batches.add(events);
+            })
+            .expireAfter(3)
+            .build());
+
+        TestEvent cancelled = new TestEvent(true);
+        List<TestEvent> events = List.of(new TestEvent(false), cancelled, new TestEvent(false), new TestEvent(false), new TestEvent(false));
+        eventBus.dispatchAll(events);
+
+        assertEquals(List.of("single", "single", "single", "single", "batch"), calls);
+        assertEquals(List.of(List.of(events.get(0), events.get(2), events.get(3))), batches);
+
+        // Single dispatches are given to the batch handler as singleton lists.
+        batches.clear();
+        eventBus.subscribe(TestEvent.class, EventSubscriber.builder(TestEvent.class)
+            .batchHandler(batches::add)
+            .build());
+        TestEvent event = new TestEvent(false);
+        eventBus.dispatch(event);
+        assertEquals(List.of(List.of(event)), batches);
+    }
+
     @Test
     void expiresAfter() {
         EventBus eventBus = new EventBusImpl(new DummyChameleonLogger());
@@ -159,6 +506,49 @@ final class EventBusTests {
         assertEquals(1, event.getTouches());
     }
 
+    @Test
+    void expiresAfterConcurrently() throws InterruptedException {
+        EventBus eventBus = new EventBusImpl(new DummyChameleonLogger());
+        AtomicInteger calls = new AtomicInteger();
+        eventBus.subscribe(TestEvent.class,
+            EventSubscriber.builder(TestEvent.class)
+                .expireAfter(5)
+                .handler(event -> calls.incrementAndGet())
+                .build()
+        );
+
+        Thread[] threads = new Thread[8];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < 100; j++) {
+                    eventBus.dispatch(new TestEvent(false));
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(5, calls.get());
+        assertFalse(eventBus.subscribed(TestEvent.class));
+    }
+
+    @Test
+    void unsubscribeOnlyRemovesSubscription() {
+        EventBus eventBus = new EventBusImpl(new DummyChameleonLogger());
+        EventSubscriber<TestEvent> subscriber = TestEvent::touch;
+        EventSubscription first = eventBus.subscribe(TestEvent.class, subscriber);
+        eventBus.subscribe(TestEvent.class, subscriber);
+
+        first.unsubscribe();
+        first.unsubscribe();
+
+        TestEvent event = new TestEvent(false);
+        eventBus.dispatch(event);
+        assertEquals(1, event.getTouches());
+    }
+
     @Test
     void expiresWhen() {
         EventBus eventBus = new EventBusImpl(new DummyChameleonLogger());
@@ -205,6 +595,27 @@ final class EventBusTests {
         assertEquals(3, event.getTouches());
     }
 
+    @Test
+    void filterArities() {
+        // Every arity is compiled differently, each must require all of its filters to match.
+        for (int filters = 0; filters <= 5; filters++) {
+            EventBus eventBus = new EventBusImpl(new DummyChameleonLogger());
+            EventSubscriber.Builder<TestEvent> builder = EventSubscriber.builder(TestEvent.class).handler(TestEvent::touch);
+            for (int i = 0; i < filters; i++) {
+                int rejected = i + 1;
+                builder.filters(e -> e.getTouches() != rejected);
+            }
+            eventBus.subscribe(TestEvent.class, builder.build());
+
+            TestEvent event = new TestEvent(false);
+            for (int i = 0; i < 10; i++) {
+                eventBus.dispatch(event);
+            }
+            // Dispatch stops touching the event once its touch count is rejected by a filter.
+            assertEquals(filters == 0 ? 10 : 1, event.getTouches());
+        }
+    }
+
     static final class TestEvent extends AbstractCancellable implements ChameleonEvent {
 
         private int touches = 0;
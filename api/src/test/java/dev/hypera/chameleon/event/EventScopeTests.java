@@ -0,0 +1,102 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import dev.hypera.chameleon.logger.DummyChameleonLogger;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+final class EventScopeTests {
+
+    @Test
+    void close() {
+        EventBus eventBus = new EventBusImpl(new DummyChameleonLogger());
+        Object owner = new Object();
+        AtomicInteger scoped = new AtomicInteger();
+        AtomicInteger unscoped = new AtomicInteger();
+
+        EventScope scope = eventBus.scope(owner);
+        assertSame(scope, eventBus.scope(owner));
+        assertSame(owner, scope.getOwner());
+        scope.subscribe(TestEvent.class, event -> scoped.incrementAndGet());
+        scope.subscribe(ChameleonEvent.class, event -> scoped.incrementAndGet());
+        EventSubscription single = scope.subscribe(TestEvent.class, event -> scoped.incrementAndGet());
+        eventBus.subscribe(TestEvent.class, event -> unscoped.incrementAndGet());
+
+        single.unsubscribe();
+        assertEquals(2, scope.getSubscriptionCount());
+
+        eventBus.dispatch(new TestEvent());
+        assertEquals(2, scoped.get());
+        assertEquals(1, unscoped.get());
+
+        scope.close();
+        assertTrue(scope.isClosed());
+        assertEquals(0, scope.getSubscriptionCount());
+        assertThrows(IllegalStateException.class, () -> scope.subscribe(TestEvent.class, event -> { }));
+
+        eventBus.dispatch(new TestEvent());
+        assertEquals(2, scoped.get());
+        assertEquals(2, unscoped.get());
+        assertNotSame(scope, eventBus.scope(owner));
+    }
+
+    @Test
+    void weakScope() throws InterruptedException {
+        EventBus eventBus = new EventBusImpl(new DummyChameleonLogger());
+        AtomicInteger calls = new AtomicInteger();
+        EventScope scope = subscribeWeakly(eventBus, calls);
+
+        eventBus.dispatch(new TestEvent());
+        assertEquals(1, calls.get());
+
+        for (int i = 0; i < 100 && !scope.isClosed(); i++) {
+            System.gc();
+            Thread.sleep(10);
+            // Collected owners are expunged on the next dispatch.
+            eventBus.dispatch(new TestEvent());
+        }
+
+        assertTrue(scope.isClosed());
+        assertFalse(eventBus.subscribed(TestEvent.class));
+    }
+
+    private static EventScope subscribeWeakly(EventBus eventBus, AtomicInteger calls) {
+        EventScope scope = eventBus.weakScope(new Object());
+        scope.subscribe(TestEvent.class, event -> calls.incrementAndGet());
+        return scope;
+    }
+
+    static final class TestEvent implements ChameleonEvent {
+
+    }
+
+}
@@ -0,0 +1,239 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import dev.hypera.chameleon.event.annotations.Subscribe;
+import dev.hypera.chameleon.logger.DummyChameleonLogger;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+final class ListenerTests {
+
+    @Test
+    void register() {
+        EventBus eventBus = new EventBusImpl(new DummyChameleonLogger());
+        TestListener listener = new TestListener();
+        EventSubscription subscription = eventBus.register(listener);
+        assertTrue(eventBus.subscribed(TestEvent.class));
+
+        TestEvent event = new TestEvent(false);
+        eventBus.dispatch(event);
+        assertEquals(List.of("first", "normal", "parent"), listener.getCalls());
+
+        event.cancel();
+        listener.getCalls().clear();
+        eventBus.dispatch(event);
+        assertEquals(List.of("parent"), listener.getCalls());
+
+        subscription.unsubscribe();
+        assertFalse(eventBus.subscribed(TestEvent.class));
+    }
+
+    @Test
+    void cachesMethods() {
+        DummyChameleonLogger logger = new DummyChameleonLogger();
+        assertSame(
+            ListenerScanner.getMethods(TestListener.class, logger),
+            ListenerScanner.getMethods(TestListener.class, logger)
+        );
+        assertEquals(3, ListenerScanner.getMethods(TestListener.class, logger).size());
+        for (ListenerScanner.ListenerMethod method : ListenerScanner.getMethods(TestListener.class, logger)) {
+            assertTrue(method.isGenerated());
+        }
+        assertTrue(logger.getWarnings().isEmpty());
+    }
+
+    @Test
+    void linksWithListenerLookup() throws Exception {
+        try (IsolatingClassLoader loader = new IsolatingClassLoader(IsolatedListener.class)) {
+            Class<?> listenerClass = loader.loadClass(IsolatedListener.class.getName());
+            assertNotSame(IsolatedListener.class, listenerClass);
+
+            List<ChameleonEvent> events = new ArrayList<>();
+            Constructor<?> constructor = listenerClass.getDeclaredConstructor(Consumer.class);
+            constructor.setAccessible(true);
+            Object listener = constructor.newInstance((Consumer<ChameleonEvent>) events::add);
+            MethodHandles.Lookup lookup = (MethodHandles.Lookup) listenerClass.getMethod("lookup").invoke(null);
+
+            // Without the listener's lookup the methods fall back to method handles, once reported.
+            DummyChameleonLogger logger = new DummyChameleonLogger();
+            EventBus eventBus = new EventBusImpl(logger);
+            EventSubscription subscription = eventBus.register(listener);
+            eventBus.register(listener).unsubscribe();
+            assertFalse(ListenerScanner.getMethods(listenerClass, logger).get(0).isGenerated());
+            assertEquals(1, logger.getWarnings().size());
+
+            eventBus.dispatch(new TestEvent(false));
+            assertEquals(1, events.size());
+            subscription.unsubscribe();
+
+            eventBus.register(listener, lookup);
+            assertTrue(ListenerScanner.getMethods(listenerClass, logger).get(0).isGenerated());
+            assertEquals(1, logger.getWarnings().size());
+
+            eventBus.dispatch(new TestEvent(false));
+            assertEquals(2, events.size());
+        }
+    }
+
+    @Test
+    void rejectsInvalidMethods() {
+        EventBus eventBus = new EventBusImpl(new DummyChameleonLogger());
+        assertThrows(IllegalArgumentException.class, () -> eventBus.register(new InvalidListener()));
+    }
+
+    @Test
+    void propagatesExceptions() {
+        DummyChameleonLogger logger = new DummyChameleonLogger();
+        EventBus eventBus = new EventBusImpl(logger);
+        eventBus.register(new ThrowingListener());
+
+        eventBus.dispatch(new TestEvent(false));
+        assertEquals(1, logger.getExceptions().size());
+        assertTrue(logger.getExceptions().get(0) instanceof IllegalStateException);
+    }
+
+    public static final class IsolatedListener {
+
+        private final @NotNull Consumer<ChameleonEvent> consumer;
+
+        IsolatedListener(@NotNull Consumer<ChameleonEvent> consumer) {
+            this.consumer = consumer;
+        }
+
+        public static @NotNull MethodHandles.Lookup lookup() {
+            return MethodHandles.lookup();
+        }
+
+        @Subscribe
+        public void onEvent(ChameleonEvent event) {
+            this.consumer.accept(event);
+        }
+
+    }
+
+    /**
+     * Class loader defining the given class itself, like a plugin class loader would.
+     */
+    private static final class IsolatingClassLoader extends URLClassLoader {
+
+        private final @NotNull String name;
+
+        private IsolatingClassLoader(@NotNull Class<?> isolated) {
+            super(new URL[] {isolated.getProtectionDomain().getCodeSource().getLocation()}, isolated.getClassLoader());
+            this.name = isolated.getName();
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!this.name.equals(name)) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> type = findLoadedClass(name);
+                return type == null ? findClass(name) : type;
+            }
+        }
+
+    }
+
+    static class ParentListener {
+
+        private final List<String> calls = new ArrayList<>();
+
+        @Subscribe(priority = EventSubscriptionPriority.LAST, acceptsCancelled = true)
+        void onParent(ChameleonEvent event) {
+            this.calls.add("parent");
+        }
+
+        List<String> getCalls() {
+            return this.calls;
+        }
+
+    }
+
+    static final class TestListener extends ParentListener {
+
+        @Subscribe
+        public void onTest(TestEvent event) {
+            getCalls().add("normal");
+        }
+
+        @Subscribe(priority = EventSubscriptionPriority.FIRST)
+        @SuppressWarnings("unused")
+        private void onTestFirst(TestEvent event) {
+            getCalls().add("first");
+        }
+
+        public void notSubscribed(TestEvent event) {
+            getCalls().add("not subscribed");
+        }
+
+    }
+
+    static final class InvalidListener {
+
+        @Subscribe
+        public void onTest(TestEvent event, String extra) {
+
+        }
+
+    }
+
+    static final class ThrowingListener {
+
+        private boolean fail = true;
+
+        @Subscribe
+        public void onTest(TestEvent event) throws Exception {
+            if (this.fail) {
+                throw new IllegalStateException("expected");
+            }
+        }
+
+    }
+
+    static final class TestEvent extends AbstractCancellable implements ChameleonEvent {
+
+        private TestEvent(boolean cancelled) {
+            super(cancelled);
+        }
+
+    }
+
+}
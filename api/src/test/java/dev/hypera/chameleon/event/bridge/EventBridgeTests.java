@@ -0,0 +1,298 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.event.bridge;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import dev.hypera.chameleon.TestChameleon;
+import dev.hypera.chameleon.event.AbstractCancellable;
+import dev.hypera.chameleon.event.ChameleonEvent;
+import dev.hypera.chameleon.event.EventSubscriber;
+import dev.hypera.chameleon.event.EventSubscriptionPriority;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+final class EventBridgeTests {
+
+    @Test
+    void forward() {
+        TestChameleon proxy = new TestChameleon();
+        TestChameleon server = new TestChameleon();
+        LoopbackEventBridgeTransport proxyTransport = LoopbackEventBridgeTransport.create();
+        EventBridge proxyBridge = bridge(proxy, proxyTransport).build();
+        EventBridge serverBridge = bridge(server, proxyTransport.connect()).build();
+
+        List<StaffChatEvent> received = new ArrayList<>();
+        server.getEventBus().subscribe(StaffChatEvent.class, received::add);
+
+        proxy.getEventBus().dispatch(new StaffChatEvent("Joshua", "Hello"));
+        assertEquals(1, proxyBridge.getPendingCount());
+        assertTrue(received.isEmpty());
+
+        proxyBridge.flush();
+        assertEquals(0, proxyBridge.getPendingCount());
+        assertTrue(received.isEmpty());
+
+        serverBridge.flush();
+        assertEquals(1, received.size());
+        assertEquals("Joshua", received.get(0).getSender());
+        assertEquals("Hello", received.get(0).getMessage());
+
+        // Received events must not be sent back.
+        assertEquals(0, serverBridge.getPendingCount());
+    }
+
+    @Test
+    void cancelledEventsAreNotForwarded() {
+        TestChameleon proxy = new TestChameleon();
+        CapturingTransport transport = new CapturingTransport();
+        EventBridge bridge = bridge(proxy, transport).build();
+
+        proxy.getEventBus().subscribe(StaffChatEvent.class, EventSubscriber.builder(StaffChatEvent.class)
+            .priority(EventSubscriptionPriority.FIRST)
+            .filters(event -> event.getMessage().isEmpty())
+            .handler(StaffChatEvent::cancel)
+            .build());
+
+        proxy.getEventBus().dispatch(new StaffChatEvent("Joshua", ""));
+        proxy.getEventBus().dispatch(new StaffChatEvent("Joshua", "Hello"));
+        assertEquals(1, bridge.getPendingCount());
+    }
+
+    @Test
+    void batch() throws IOException {
+        TestChameleon proxy = new TestChameleon();
+        TestChameleon server = new TestChameleon();
+        CapturingTransport transport = new CapturingTransport();
+        EventBridge bridge = bridge(proxy, transport).maxFrameSize(128).build();
+
+        for (int i = 0; i < 50; i++) {
+            proxy.getEventBus().dispatch(new StaffChatEvent("Joshua", "Message " + i));
+        }
+        bridge.flush();
+
+        assertTrue(transport.frames.size() > 1);
+        int events = 0;
+        for (byte[] frame : transport.frames) {
+            assertTrue(frame.length <= 128);
+            events += EventFrame.read(frame).size();
+        }
+        assertEquals(50, events);
+
+        LoopbackEventBridgeTransport serverTransport = LoopbackEventBridgeTransport.create();
+        EventBridge serverBridge = bridge(server, serverTransport).build();
+        List<String> received = new ArrayList<>();
+        server.getEventBus().subscribe(StaffChatEvent.class, event -> received.add(event.getMessage()));
+        LoopbackEventBridgeTransport sender = serverTransport.connect();
+        for (byte[] frame : transport.frames) {
+            sender.send(frame);
+        }
+        serverBridge.flush();
+
+        assertEquals(50, received.size());
+        for (int i = 0; i < 50; i++) {
+            assertEquals("Message " + i, received.get(i));
+        }
+    }
+
+    @Test
+    void unknownTypesAreSkipped() {
+        TestChameleon proxy = new TestChameleon();
+        TestChameleon server = new TestChameleon();
+        LoopbackEventBridgeTransport transport = LoopbackEventBridgeTransport.create();
+        EventBridge proxyBridge = bridge(proxy, transport).register(PingEvent.class, new PingEvent.Codec()).build();
+        EventBridge serverBridge = bridge(server, transport.connect()).build();
+
+        List<ChameleonEvent> received = new ArrayList<>();
+        server.getEventBus().subscribe(ChameleonEvent.class, received::add);
+
+        proxy.getEventBus().dispatch(new PingEvent());
+        proxy.getEventBus().dispatch(new StaffChatEvent("Joshua", "Hello"));
+        proxyBridge.flush();
+        serverBridge.flush();
+
+        assertEquals(1, received.size());
+        assertTrue(received.get(0) instanceof StaffChatEvent);
+        assertEquals(0, serverBridge.getDroppedCount());
+    }
+
+    @Test
+    void queueIsBounded() {
+        TestChameleon proxy = new TestChameleon();
+        CapturingTransport transport = new CapturingTransport();
+        EventBridge bridge = bridge(proxy, transport).queueCapacity(2).build();
+
+        // Never started, events beyond the capacity are dropped instead of queued.
+        for (int i = 0; i < 5; i++) {
+            proxy.getEventBus().dispatch(new StaffChatEvent("Joshua", "Message " + i));
+        }
+        assertEquals(2, bridge.getPendingCount());
+        assertEquals(3, bridge.getDroppedCount());
+
+        bridge.flush();
+        assertEquals(1, transport.frames.size());
+        assertEquals(0, bridge.getPendingCount());
+    }
+
+    @Test
+    void oversizedLengthsAreRejected() throws IOException {
+        ByteArrayOutputStream types = new ByteArrayOutputStream();
+        DataOutputStream output = new DataOutputStream(types);
+        output.writeByte(EventFrame.VERSION);
+        EventCodecRegistry.writeVarInt(output, Integer.MAX_VALUE);
+        assertThrows(IOException.class, () -> EventFrame.read(types.toByteArray()));
+
+        ByteArrayOutputStream payload = new ByteArrayOutputStream();
+        output = new DataOutputStream(payload);
+        output.writeByte(EventFrame.VERSION);
+        EventCodecRegistry.writeVarInt(output, 1);
+        output.writeUTF(StaffChatEvent.class.getName());
+        EventCodecRegistry.writeVarInt(output, 1);
+        EventCodecRegistry.writeVarInt(output, 0);
+        EventCodecRegistry.writeVarInt(output, Integer.MAX_VALUE);
+        output.writeUTF("Joshua");
+        byte[] frame = payload.toByteArray();
+        assertThrows(IOException.class, () -> EventFrame.read(frame));
+
+        // A forged frame is logged and ignored by the receiving bridge.
+        TestChameleon server = new TestChameleon();
+        LoopbackEventBridgeTransport transport = LoopbackEventBridgeTransport.create();
+        EventBridge bridge = bridge(server, transport).build();
+        List<StaffChatEvent> received = new ArrayList<>();
+        server.getEventBus().subscribe(StaffChatEvent.class, received::add);
+        transport.connect().send(frame);
+        bridge.flush();
+        assertTrue(received.isEmpty());
+    }
+
+    @Test
+    void close() {
+        TestChameleon proxy = new TestChameleon();
+        CapturingTransport transport = new CapturingTransport();
+        EventBridge bridge = bridge(proxy, transport).build();
+
+        proxy.getEventBus().dispatch(new StaffChatEvent("Joshua", "Hello"));
+        bridge.close();
+        assertTrue(bridge.isClosed());
+        assertEquals(1, transport.frames.size());
+
+        proxy.getEventBus().dispatch(new StaffChatEvent("Joshua", "Hello"));
+        assertEquals(0, bridge.getPendingCount());
+        assertFalse(proxy.getEventBus().subscribed(StaffChatEvent.class));
+    }
+
+    private static @NotNull EventBridge.Builder bridge(@NotNull TestChameleon chameleon, @NotNull EventBridgeTransport transport) {
+        return EventBridge.builder(chameleon)
+            .transport(transport)
+            .register(StaffChatEvent.class, new StaffChatEvent.Codec());
+    }
+
+    private static final class CapturingTransport implements EventBridgeTransport {
+
+        private final @NotNull List<byte[]> frames = new ArrayList<>();
+
+        @Override
+        public boolean send(byte @NotNull [] frame) {
+            this.frames.add(frame);
+            return true;
+        }
+
+        @Override
+        public void receive(@NotNull Consumer<byte[]> receiver) {
+
+        }
+
+        @Override
+        public void close() {
+
+        }
+
+    }
+
+    private static final class StaffChatEvent extends AbstractCancellable implements ChameleonEvent {
+
+        private final @NotNull String sender;
+        private final @NotNull String message;
+
+        private StaffChatEvent(@NotNull String sender, @NotNull String message) {
+            super(false);
+            this.sender = sender;
+            this.message = message;
+        }
+
+        @NotNull String getSender() {
+            return this.sender;
+        }
+
+        @NotNull String getMessage() {
+            return this.message;
+        }
+
+        private static final class Codec implements EventCodec<StaffChatEvent> {
+
+            @Override
+            public void encode(@NotNull StaffChatEvent event, @NotNull DataOutput output) throws IOException {
+                output.writeUTF(event.sender);
+                output.writeUTF(event.message);
+            }
+
+            @Override
+            public @NotNull StaffChatEvent decode(@NotNull DataInput input) throws IOException {
+                return new StaffChatEvent(input.readUTF(), input.readUTF());
+            }
+
+        }
+
+    }
+
+    private static final class PingEvent implements ChameleonEvent {
+
+        private static final class Codec implements EventCodec<PingEvent> {
+
+            @Override
+            public void encode(@NotNull PingEvent event, @NotNull DataOutput output) {
+
+            }
+
+            @Override
+            public @NotNull PingEvent decode(@NotNull DataInput input) {
+                return new PingEvent();
+            }
+
+        }
+
+    }
+
+}
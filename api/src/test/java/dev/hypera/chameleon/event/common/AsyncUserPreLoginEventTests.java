@@ -0,0 +1,102 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.event.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import dev.hypera.chameleon.event.EventBus;
+import dev.hypera.chameleon.event.EventBusImpl;
+import dev.hypera.chameleon.logger.DummyChameleonLogger;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import net.kyori.adventure.text.Component;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+final class AsyncUserPreLoginEventTests {
+
+    private final @NotNull DummyChameleonLogger logger = new DummyChameleonLogger();
+
+    @Test
+    void waitForTasks() {
+        EventBus eventBus = new EventBusImpl(this.logger);
+        CompletableFuture<Boolean> banned = new CompletableFuture<>();
+        Component reason = Component.text("Banned");
+        eventBus.subscribe(AsyncUserPreLoginEvent.class, event -> event.waitFor(banned.thenAccept(isBanned -> {
+            if (isBanned) {
+                event.cancel(reason);
+            }
+        })));
+
+        AsyncUserPreLoginEvent event = createEvent();
+        eventBus.dispatch(event);
+        CompletableFuture<AsyncUserPreLoginEvent> completion = event.complete(this.logger);
+        assertFalse(completion.isDone());
+        assertThrows(IllegalStateException.class, () -> event.waitFor(new CompletableFuture<>()));
+
+        banned.complete(true);
+        assertSame(event, completion.join());
+        assertTrue(event.isCancelled());
+        assertSame(reason, event.getCancelReason());
+    }
+
+    @Test
+    void noTasks() {
+        AsyncUserPreLoginEvent event = createEvent();
+        assertTrue(event.complete(this.logger).isDone());
+        assertFalse(event.isCancelled());
+        assertThrows(IllegalStateException.class, () -> event.complete(this.logger));
+    }
+
+    @Test
+    void failedTask() {
+        AsyncUserPreLoginEvent event = createEvent();
+        event.waitFor(CompletableFuture.failedFuture(new IllegalStateException("Database unavailable")));
+        event.complete(this.logger).join();
+        assertTrue(event.isCancelled());
+    }
+
+    @Test
+    void timeout() {
+        AsyncUserPreLoginEvent event = createEvent();
+        event.setTimeout(Duration.ofMillis(50));
+        event.waitFor(new CompletableFuture<>());
+        event.complete(this.logger).join();
+        assertTrue(event.isCancelled());
+        assertThrows(IllegalStateException.class, () -> event.setTimeout(Duration.ofSeconds(1)));
+
+        // The timeout only applies to the event it was set on.
+        assertEquals(AsyncUserPreLoginEvent.DEFAULT_TIMEOUT, createEvent().getTimeout());
+    }
+
+    private static @NotNull AsyncUserPreLoginEvent createEvent() {
+        return new AsyncUserPreLoginEvent(UUID.randomUUID(), "Joshua", null, false);
+    }
+
+}
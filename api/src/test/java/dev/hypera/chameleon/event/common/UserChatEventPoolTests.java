@@ -0,0 +1,111 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.event.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import dev.hypera.chameleon.event.EventBusImpl;
+import dev.hypera.chameleon.logger.DummyChameleonLogger;
+import dev.hypera.chameleon.user.User;
+import java.lang.reflect.Proxy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+final class UserChatEventPoolTests {
+
+    private final User user = (User) Proxy.newProxyInstance(
+        User.class.getClassLoader(), new Class<?>[] {User.class}, (proxy, method, args) -> null
+    );
+
+    private final UserChatEventPool pool = new UserChatEventPool();
+
+    @BeforeEach
+    void setUp() {
+        this.pool.setEnabled(true);
+    }
+
+    @Test
+    void reuse() {
+        UserChatEvent first = this.pool.acquire(this.user, "first", false, true, true);
+        first.cancel();
+        this.pool.release(first);
+
+        UserChatEvent second = this.pool.acquire(this.user, "second", false, false, true);
+        assertSame(first, second);
+        assertEquals("second", second.getMessage());
+        assertFalse(second.isCancelled());
+        assertFalse(second.isCancellable());
+        this.pool.release(second);
+    }
+
+    @Test
+    void reentrant() {
+        UserChatEvent outer = this.pool.acquire(this.user, "outer", false, true, true);
+        this.pool.release(outer);
+
+        outer = this.pool.acquire(this.user, "outer", false, true, true);
+        UserChatEvent inner = this.pool.acquire(this.user, "inner", false, true, true);
+        assertNotSame(outer, inner);
+        assertEquals("outer", outer.getMessage());
+        this.pool.release(inner);
+        this.pool.release(outer);
+    }
+
+    @Test
+    void retain() {
+        UserChatEvent retained = this.pool.acquire(this.user, "retained", false, true, true);
+        UserChatEvent snapshot = retained.snapshot();
+        assertSame(retained, retained.retain());
+        this.pool.release(retained);
+
+        UserChatEvent next = this.pool.acquire(this.user, "next", true, true, true);
+        assertNotSame(retained, next);
+        assertEquals("retained", retained.getMessage());
+        assertEquals("retained", snapshot.getMessage());
+        assertTrue(next.isCancelled());
+    }
+
+    @Test
+    void disabled() {
+        this.pool.setEnabled(false);
+        UserChatEvent first = this.pool.acquire(this.user, "first", false, true, true);
+        this.pool.release(first);
+        assertNotSame(first, this.pool.acquire(this.user, "second", false, true, true));
+    }
+
+    @Test
+    void perEventBus() {
+        // Enabling pooling on one event bus does not change the events of another.
+        UserChatEventPool other = new EventBusImpl(new DummyChameleonLogger()).getUserChatEventPool();
+        assertFalse(other.isEnabled());
+        UserChatEvent first = other.acquire(this.user, "first", false, true, true);
+        other.release(first);
+        assertNotSame(first, other.acquire(this.user, "second", false, true, true));
+    }
+
+}
@@ -0,0 +1,259 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.event.recording;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import dev.hypera.chameleon.TestChameleon;
+import dev.hypera.chameleon.event.ChameleonEvent;
+import dev.hypera.chameleon.event.bridge.EventCodec;
+import dev.hypera.chameleon.event.bridge.EventCodecRegistry;
+import dev.hypera.chameleon.event.common.UserEvent;
+import dev.hypera.chameleon.user.User;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+final class EventRecordingTests {
+
+    private static final @NotNull UUID ALICE = UUID.randomUUID();
+    private static final @NotNull UUID BOB = UUID.randomUUID();
+
+    @Test
+    void recordAndReplay() throws IOException {
+        TestChameleon production = new TestChameleon();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        EventRecorder recorder = recorder(production, output).build();
+
+        production.getEventBus().dispatch(new ChatEvent(ALICE, "Hello"));
+        production.getEventBus().dispatch(new PingEvent());
+        production.getEventBus().dispatch(new ChatEvent(BOB, "Hi"));
+        recorder.close();
+        assertEquals(3, recorder.getRecordedCount());
+        assertEquals(0, recorder.getDroppedCount());
+
+        // Events dispatched after closing are not recorded.
+        production.getEventBus().dispatch(new PingEvent());
+
+        TestChameleon offline = new TestChameleon();
+        List<String> received = new ArrayList<>();
+        offline.getEventBus().subscribe(ChatEvent.class, event -> received.add(event.getMessage()));
+        offline.getEventBus().subscribe(PingEvent.class, event -> received.add("ping"));
+
+        long dispatched = replayer().build().replay(offline.getEventBus(), new ByteArrayInputStream(output.toByteArray()));
+        assertEquals(3, dispatched);
+        assertEquals(List.of("Hello", "ping", "Hi"), received);
+    }
+
+    @Test
+    void filterByUser() throws IOException {
+        TestChameleon production = new TestChameleon();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        EventRecorder recorder = recorder(production, output).build();
+        production.getEventBus().dispatch(new ChatEvent(ALICE, "Hello"));
+        production.getEventBus().dispatch(new PingEvent());
+        production.getEventBus().dispatch(new ChatEvent(BOB, "Hi"));
+        recorder.close();
+
+        List<RecordedEvent> recorded = new ArrayList<>();
+        replayer().filter(event -> recorded.add(event) && BOB.equals(event.getUserId()))
+            .build().replay(new TestChameleon().getEventBus(), new ByteArrayInputStream(output.toByteArray()));
+
+        assertEquals(3, recorded.size());
+        assertEquals(ALICE, recorded.get(0).getUserId());
+        assertNull(recorded.get(1).getUserId());
+        assertEquals(PingEvent.class.getName(), recorded.get(1).getTypeId());
+        assertTrue(recorded.get(1).getTimestamp() >= recorded.get(0).getTimestamp());
+    }
+
+    @Test
+    void dropsWhenWriterFallsBehind() throws IOException {
+        TestChameleon production = new TestChameleon();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        // The writer is never run, so records are only written when the recorder is closed.
+        EventRecorder recorder = recorder(production, output).queueCapacity(2).executor(task -> {}).build();
+
+        for (int i = 0; i < 5; i++) {
+            production.getEventBus().dispatch(new ChatEvent(ALICE, "Message " + i));
+        }
+        assertEquals(3, recorder.getDroppedCount());
+
+        recorder.close();
+        assertEquals(2, recorder.getRecordedCount());
+        assertEquals(2, replayer().build().replay(new TestChameleon().getEventBus(), new ByteArrayInputStream(output.toByteArray())));
+    }
+
+    @Test
+    void originalPacing() throws IOException, InterruptedException {
+        TestChameleon production = new TestChameleon();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        EventRecorder recorder = recorder(production, output).build();
+        production.getEventBus().dispatch(new PingEvent());
+        Thread.sleep(50);
+        production.getEventBus().dispatch(new PingEvent());
+        recorder.close();
+
+        long start = System.nanoTime();
+        replayer().pacing(ReplayPacing.ORIGINAL).build()
+            .replay(new TestChameleon().getEventBus(), new ByteArrayInputStream(output.toByteArray()));
+        assertTrue(System.nanoTime() - start >= 50_000_000L);
+    }
+
+    @Test
+    void truncatedRecording() throws IOException {
+        TestChameleon production = new TestChameleon();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        EventRecorder recorder = recorder(production, output).build();
+        production.getEventBus().dispatch(new ChatEvent(ALICE, "Hello"));
+        production.getEventBus().dispatch(new ChatEvent(BOB, "Hi"));
+        recorder.close();
+
+        byte[] recording = output.toByteArray();
+        byte[] truncated = Arrays.copyOf(recording, recording.length - 1);
+        assertEquals(1, replayer().build().replay(new TestChameleon().getEventBus(), new ByteArrayInputStream(truncated)));
+
+        assertThrows(IOException.class, () -> replayer().build()
+            .replay(new TestChameleon().getEventBus(), new ByteArrayInputStream(new byte[] {1, 2, 3, 4, 5})));
+    }
+
+    @Test
+    void oversizedLengthsAreRejected() throws IOException {
+        ByteArrayOutputStream header = new ByteArrayOutputStream();
+        DataOutputStream output = new DataOutputStream(header);
+        output.writeInt(RecordingFormat.MAGIC);
+        output.writeByte(RecordingFormat.VERSION);
+        EventCodecRegistry.writeVarInt(output, Integer.MAX_VALUE);
+        output.writeUTF(ChatEvent.class.getName());
+        assertThrows(IOException.class, () -> replayer().build()
+            .replay(new TestChameleon().getEventBus(), new ByteArrayInputStream(header.toByteArray())));
+
+        ByteArrayOutputStream record = new ByteArrayOutputStream();
+        output = new DataOutputStream(record);
+        output.writeInt(RecordingFormat.MAGIC);
+        output.writeByte(RecordingFormat.VERSION);
+        EventCodecRegistry.writeVarInt(output, 1);
+        output.writeUTF(ChatEvent.class.getName());
+        EventCodecRegistry.writeVarInt(output, 0);
+        EventCodecRegistry.writeZigZag(output, 0);
+        output.writeByte(0);
+        EventCodecRegistry.writeVarInt(output, Integer.MAX_VALUE);
+        output.writeUTF("Hello");
+        // Handled like a truncated final record.
+        assertEquals(0, replayer().build().replay(new TestChameleon().getEventBus(), new ByteArrayInputStream(record.toByteArray())));
+    }
+
+    private static @NotNull EventRecorder.Builder recorder(@NotNull TestChameleon chameleon, @NotNull ByteArrayOutputStream output) {
+        return EventRecorder.builder(chameleon)
+            .output(output)
+            .executor(Runnable::run)
+            .register(ChatEvent.class, new ChatEvent.Codec())
+            .register(PingEvent.class, new PingEvent.Codec());
+    }
+
+    private static @NotNull EventReplayer.Builder replayer() {
+        return EventReplayer.builder()
+            .pacing(ReplayPacing.AS_FAST_AS_POSSIBLE)
+            .register(ChatEvent.class, new ChatEvent.Codec())
+            .register(PingEvent.class, new PingEvent.Codec());
+    }
+
+    private static @NotNull User user(@NotNull UUID id) {
+        return (User) Proxy.newProxyInstance(User.class.getClassLoader(), new Class<?>[] {User.class}, (proxy, method, args) -> {
+            if (method.getName().equals("getId")) {
+                return id;
+            }
+            throw new UnsupportedOperationException(method.getName());
+        });
+    }
+
+    private static final class ChatEvent implements UserEvent {
+
+        private final @NotNull User user;
+        private final @NotNull String message;
+
+        private ChatEvent(@NotNull UUID userId, @NotNull String message) {
+            this.user = user(userId);
+            this.message = message;
+        }
+
+        @Override
+        public @NotNull User getUser() {
+            return this.user;
+        }
+
+        @NotNull String getMessage() {
+            return this.message;
+        }
+
+        private static final class Codec implements EventCodec<ChatEvent> {
+
+            @Override
+            public void encode(@NotNull ChatEvent event, @NotNull DataOutput output) throws IOException {
+                UUID id = event.user.getId();
+                output.writeLong(id.getMostSignificantBits());
+                output.writeLong(id.getLeastSignificantBits());
+                output.writeUTF(event.message);
+            }
+
+            @Override
+            public @NotNull ChatEvent decode(@NotNull DataInput input) throws IOException {
+                return new ChatEvent(new UUID(input.readLong(), input.readLong()), input.readUTF());
+            }
+
+        }
+
+    }
+
+    private static final class PingEvent implements ChameleonEvent {
+
+        private static final class Codec implements EventCodec<PingEvent> {
+
+            @Override
+            public void encode(@NotNull PingEvent event, @NotNull DataOutput output) {
+
+            }
+
+            @Override
+            public @NotNull PingEvent decode(@NotNull DataInput input) {
+                return new PingEvent();
+            }
+
+        }
+
+    }
+
+}
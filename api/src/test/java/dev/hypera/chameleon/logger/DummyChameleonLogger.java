@@ -33,6 +33,7 @@ import org.jetbrains.annotations.NotNull;
 public class DummyChameleonLogger implements ChameleonLogger {
 
     private final @NotNull List<Throwable> exceptions = new ArrayList<>();
+    private final @NotNull List<String> warnings = new ArrayList<>();
 
     /**
      * {@inheritDoc}
@@ -55,7 +56,7 @@ public class DummyChameleonLogger implements ChameleonLogger {
      */
     @Override
     public void warn(@NotNull String message, @NotNull Object... args) {
-
+        this.warnings.add(String.format(message, args));
     }
 
     /**
@@ -107,4 +108,13 @@ public class DummyChameleonLogger implements ChameleonLogger {
         return this.exceptions;
     }
 
+    /**
+     * Get stored warnings, formatted with their arguments.
+     *
+     * @return stored warnings.
+     */
+    public @NotNull List<String> getWarnings() {
+        return this.warnings;
+    }
+
 }
@@ -24,11 +24,20 @@
 package dev.hypera.chameleon.scheduler;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import dev.hypera.chameleon.logger.DummyChameleonLogger;
 import dev.hypera.chameleon.scheduler.objects.TestScheduler;
 import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import org.junit.jupiter.api.Test;
 
 final class SchedulerTests {
@@ -96,4 +105,256 @@ final class SchedulerTests {
         assertEquals(0, scheduler.getTaskCount());
     }
 
+    @Test
+    void supplies() {
+        TestScheduler scheduler = new TestScheduler();
+        CompletableFuture<String> future = scheduler.supplyAsync(() -> "loaded");
+        assertFalse(future.isDone());
+
+        scheduler.execute();
+        assertEquals("loaded", future.join());
+    }
+
+    @Test
+    void hopsThreads() {
+        TestScheduler scheduler = new TestScheduler();
+        AtomicInteger hops = new AtomicInteger(0);
+        CompletableFuture<Integer> future = scheduler.supplyAsync(() -> 1)
+            .thenApplyAsync(value -> value + 1, scheduler.asyncExecutor())
+            .thenApplyAsync(value -> {
+                hops.incrementAndGet();
+                return value * 10;
+            }, scheduler.syncExecutor())
+            .thenApplyAsync(value -> value + 1, scheduler.syncExecutor());
+
+        // Continuations already on the right thread run inline.
+        scheduler.execute();
+        assertFalse(future.isDone());
+        assertEquals(0, hops.get());
+
+        scheduler.execute();
+        assertEquals(21, future.join());
+        assertEquals(1, hops.get());
+    }
+
+    @Test
+    void coalesces() {
+        TestScheduler scheduler = new TestScheduler();
+        scheduler.setCoalescing(true);
+        AtomicInteger executions = new AtomicInteger(0);
+
+        for (int i = 0; i < 100; i++) {
+            scheduler.schedule(Task.builder(executions::getAndIncrement).async().repeat(Schedule.seconds(1)).build());
+            scheduler.schedule(Task.builder(executions::getAndIncrement).sync().repeat(Schedule.seconds(1)).build());
+        }
+        ScheduledTask[] other = new ScheduledTask[10];
+        for (int i = 0; i < other.length; i++) {
+            other[i] = scheduler.schedule(Task.builder(executions::getAndIncrement).repeat(Schedule.seconds(2)).build());
+        }
+        scheduler.schedule(Task.builder(executions::getAndIncrement).repeat(Schedule.seconds(2)).cancelAfter(2).build());
+
+        // First runs, then every task joins the timer for its period and mode.
+        scheduler.execute();
+        assertEquals(211, executions.get());
+        assertEquals(3, scheduler.getTaskCount());
+
+        scheduler.execute();
+        assertEquals(422, executions.get());
+
+        for (ScheduledTask task : other) {
+            task.cancel();
+        }
+        assertEquals(2, scheduler.getTaskCount());
+
+        scheduler.execute();
+        assertEquals(622, executions.get());
+    }
+
+    @Test
+    void coalescedTaskRepeatsAfterFailure() {
+        TestScheduler scheduler = new TestScheduler();
+        scheduler.setCoalescing(true);
+        AtomicInteger executions = new AtomicInteger(0);
+        scheduler.schedule(Task.builder(() -> {
+            if (executions.getAndIncrement() == 0) {
+                throw new IllegalStateException();
+            }
+        }).sync().repeat(Schedule.seconds(1)).build());
+
+        // The task still joins its group if the first run throws.
+        assertThrows(IllegalStateException.class, scheduler::execute);
+        assertEquals(1, scheduler.getTaskCount());
+
+        scheduler.execute();
+        assertEquals(2, executions.get());
+    }
+
+    @Test
+    void drainsWithinBudget() {
+        TestScheduler scheduler = new TestScheduler();
+        AtomicInteger executions = new AtomicInteger(0);
+
+        // A one nanosecond budget still runs a single slice per tick.
+        BudgetedQueue queue = scheduler.budgeted(Duration.ofNanos(1));
+        for (int i = 0; i < 5; i++) {
+            queue.submit(executions::getAndIncrement);
+        }
+        assertEquals(5, queue.getQueueDepth());
+        assertEquals(1, scheduler.getTaskCount());
+
+        scheduler.execute();
+        assertEquals(1, executions.get());
+        assertEquals(4, queue.getQueueDepth());
+        assertEquals(1, queue.getDrainRate());
+
+        for (int i = 0; i < 4; i++) {
+            scheduler.execute();
+        }
+        assertEquals(5, executions.get());
+        assertEquals(5, queue.getDrainedCount());
+        assertEquals(0, queue.getQueueDepth());
+        assertEquals(0, scheduler.getTaskCount());
+
+        queue.close();
+        assertThrows(IllegalStateException.class, () -> queue.submit(executions::getAndIncrement));
+    }
+
+    @Test
+    void drainsWithinLargeBudget() {
+        TestScheduler scheduler = new TestScheduler();
+        AtomicInteger executions = new AtomicInteger(0);
+        BudgetedQueue queue = scheduler.budgeted(Duration.ofSeconds(10));
+
+        queue.submitAll(Collections.<Runnable>nCopies(1000, executions::getAndIncrement));
+        scheduler.execute();
+        assertEquals(1000, executions.get());
+        assertEquals(0, scheduler.getTaskCount());
+
+        // The driver is started again once more slices are submitted.
+        queue.submit(executions::getAndIncrement);
+        assertEquals(1, scheduler.getTaskCount());
+        scheduler.execute();
+        assertEquals(1001, executions.get());
+    }
+
+    @Test
+    void instruments() {
+        TestScheduler scheduler = new TestScheduler();
+        SchedulerInstrumentation instrumentation = SchedulerInstrumentation.builder(new DummyChameleonLogger())
+            .slowThreshold(Duration.ofMillis(5)).build();
+        scheduler.setInstrumentation(instrumentation);
+
+        scheduler.schedule(Task.async(() -> { }));
+        scheduler.schedule(Task.builder(() -> sleep(10)).repeat(Schedule.millis(1)).build());
+        scheduler.execute();
+        scheduler.execute();
+
+        // Origin is the class that built the task.
+        TaskStatistics statistics = instrumentation.getStatistics(SchedulerTests.class);
+        assertNotNull(statistics);
+        assertEquals(3, statistics.getRunCount());
+        assertEquals(2, statistics.getOverrunCount());
+        assertEquals(2, statistics.getSlowCount());
+        assertTrue(statistics.getMaxRunTime().toMillis() >= 10);
+        assertEquals(1, instrumentation.getStatistics().size());
+
+        // Executor tasks are recorded under the submitted task instead.
+        Runnable submitted = () -> { };
+        scheduler.asyncExecutor().execute(submitted);
+        scheduler.execute();
+        assertNotNull(instrumentation.getStatistics(submitted.getClass()));
+
+        instrumentation.reset();
+        assertNull(instrumentation.getStatistics(SchedulerTests.class));
+    }
+
+    @Test
+    void measuresLagFromSchedule() {
+        AtomicLong clock = new AtomicLong();
+        TestScheduler scheduler = new TestScheduler();
+        SchedulerInstrumentation instrumentation = new SchedulerInstrumentationImpl(
+            new DummyChameleonLogger(), Duration.ofSeconds(1), clock::get
+        );
+        scheduler.setInstrumentation(instrumentation);
+
+        scheduler.schedule(Task.builder(() -> { }).repeat(Schedule.millis(50)).build());
+        clock.addAndGet(Duration.ofMillis(40).toNanos());
+        scheduler.execute();
+        clock.addAndGet(Duration.ofMillis(110).toNanos());
+        scheduler.execute();
+
+        // The second run is intended one period after the late first run started, like the
+        // platforms reschedule it.
+        TaskStatistics statistics = instrumentation.getStatistics(SchedulerTests.class);
+        assertNotNull(statistics);
+        assertEquals(Duration.ofMillis(60), statistics.getMaxLag());
+        assertEquals(Duration.ofMillis(50), statistics.getAverageLag());
+
+        assertThrows(IllegalArgumentException.class, () -> SchedulerInstrumentation.builder(new DummyChameleonLogger())
+            .slowThreshold(Duration.ZERO));
+    }
+
+    @Test
+    void warnsSlowTasks() {
+        DummyChameleonLogger logger = new DummyChameleonLogger();
+        TestScheduler scheduler = new TestScheduler();
+        scheduler.setInstrumentation(SchedulerInstrumentation.builder(logger)
+            .slowThreshold(Duration.ofMillis(5)).build());
+
+        scheduler.schedule(Task.builder(() -> sleep(10)).repeat(Schedule.millis(1)).build());
+        scheduler.execute();
+
+        assertEquals(1, logger.getWarnings().size());
+        String warning = logger.getWarnings().get(0);
+        assertTrue(warning.matches("Task from " + SchedulerTests.class.getName()
+            + " took \\d+ms to run, longer than its period of 1ms"), warning);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    void scopesToMainThread() {
+        // Platforms without region threads run scoped tasks on the main thread.
+        TestScheduler scheduler = new TestScheduler();
+        assertSame(scheduler, scheduler.at("world", 100, -100));
+    }
+
+    @Test
+    void scopedSharesPipeline() {
+        TestScheduler parent = new TestScheduler();
+        TestScheduler scoped = new TestScheduler(parent);
+        // Settings made on the parent after the scoped scheduler was created still apply.
+        SchedulerInstrumentation instrumentation = SchedulerInstrumentation.builder(new DummyChameleonLogger()).build();
+        parent.setInstrumentation(instrumentation);
+        parent.setCoalescing(true);
+        assertSame(instrumentation, scoped.getInstrumentation());
+        assertTrue(scoped.isCoalescing());
+
+        // Asynchronous tasks are scheduled by the parent.
+        scoped.schedule(Task.async(() -> { }));
+        assertEquals(1, parent.getTaskCount());
+        assertEquals(0, scoped.getTaskCount());
+        parent.execute();
+
+        // Synchronous repeating tasks are coalesced onto one timer of the scoped scheduler.
+        AtomicInteger executions = new AtomicInteger();
+        for (int i = 0; i < 3; i++) {
+            scoped.schedule(Task.builder(executions::incrementAndGet).sync().repeat(Schedule.millis(50)).build());
+        }
+        scoped.execute();
+        assertEquals(1, scoped.getTaskCount());
+        scoped.execute();
+        assertEquals(6, executions.get());
+
+        TaskStatistics statistics = instrumentation.getStatistics(SchedulerTests.class);
+        assertNotNull(statistics);
+        assertEquals(7, statistics.getRunCount());
+    }
+
 }
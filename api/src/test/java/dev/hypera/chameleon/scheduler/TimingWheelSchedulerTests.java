@@ -0,0 +1,122 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.scheduler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import dev.hypera.chameleon.logger.DummyChameleonLogger;
+import dev.hypera.chameleon.scheduler.objects.TestScheduler;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+final class TimingWheelSchedulerTests {
+
+    @Test
+    void runsAfterDelay() throws InterruptedException {
+        try (TimingWheelScheduler scheduler = TimingWheelScheduler.builder(new DummyChameleonLogger()).build()) {
+            CountDownLatch latch = new CountDownLatch(1);
+            long start = System.nanoTime();
+            scheduler.schedule(latch::countDown, Schedule.millis(50), Schedule.none());
+
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+            assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(50));
+            assertEquals(0, scheduler.getPendingCount());
+        }
+    }
+
+    @Test
+    void cancels() throws InterruptedException {
+        try (TimingWheelScheduler scheduler = TimingWheelScheduler.builder(new DummyChameleonLogger()).build()) {
+            AtomicInteger executions = new AtomicInteger();
+            ScheduledTask task = scheduler.schedule(executions::incrementAndGet, Schedule.millis(50), Schedule.none());
+            assertEquals(1, scheduler.getPendingCount());
+
+            task.cancel();
+            assertEquals(0, scheduler.getPendingCount());
+
+            Thread.sleep(150);
+            assertEquals(0, executions.get());
+        }
+    }
+
+    @Test
+    void repeats() throws InterruptedException {
+        TestScheduler scheduler = new TestScheduler();
+        try (TimingWheelScheduler wheel = TimingWheelScheduler.builder(new DummyChameleonLogger()).build()) {
+            scheduler.setAsyncScheduler(wheel);
+            assertSame(wheel, scheduler.getAsyncScheduler());
+
+            CountDownLatch latch = new CountDownLatch(3);
+            AtomicInteger executions = new AtomicInteger();
+            scheduler.schedule(Task.builder(() -> {
+                executions.incrementAndGet();
+                latch.countDown();
+            }).async().repeat(Schedule.millis(20)).cancelAfter(3).build());
+
+            // Handed to the wheel instead of the platform scheduler.
+            assertEquals(0, scheduler.getTaskCount());
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+
+            Thread.sleep(100);
+            assertEquals(3, executions.get());
+            assertEquals(0, wheel.getPendingCount());
+        }
+    }
+
+    @Test
+    void runsManyTasks() throws InterruptedException {
+        try (TimingWheelScheduler scheduler = TimingWheelScheduler.builder(new DummyChameleonLogger()).wheelSize(100).build()) {
+            int count = 10_000;
+            CountDownLatch latch = new CountDownLatch(count);
+            for (int i = 0; i < count; i++) {
+                scheduler.schedule(latch::countDown, Schedule.millis(i % 200), Schedule.none());
+            }
+
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+            assertEquals(0, scheduler.getPendingCount());
+        }
+    }
+
+    @Test
+    void cancelsOnClose() throws InterruptedException {
+        TimingWheelScheduler scheduler = TimingWheelScheduler.builder(new DummyChameleonLogger()).build();
+        AtomicInteger executions = new AtomicInteger();
+        scheduler.schedule(executions::incrementAndGet, Schedule.millis(100), Schedule.none());
+        scheduler.schedule(executions::incrementAndGet, Schedule.seconds(60), Schedule.millis(10));
+
+        scheduler.close();
+        assertTrue(scheduler.isClosed());
+        assertThrows(IllegalStateException.class, () -> scheduler.schedule(executions::incrementAndGet, Schedule.none(), Schedule.none()));
+
+        Thread.sleep(200);
+        assertEquals(0, executions.get());
+        assertEquals(0, scheduler.getPendingCount());
+    }
+
+}
@@ -26,28 +26,43 @@ package dev.hypera.chameleon.scheduler.objects;
 import dev.hypera.chameleon.scheduler.Schedule;
 import dev.hypera.chameleon.scheduler.ScheduledTask;
 import dev.hypera.chameleon.scheduler.Scheduler;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import org.jetbrains.annotations.NotNull;
 
 public class TestScheduler extends Scheduler {
 
-    private final @NotNull Set<Runnable> tasks = new HashSet<>();
+    private final @NotNull Map<Runnable, Boolean> tasks = new LinkedHashMap<>();
+
+    public TestScheduler() {
+        super();
+    }
+
+    public TestScheduler(@NotNull TestScheduler parent) {
+        super(parent);
+    }
 
     @Override
     protected @NotNull ScheduledTask scheduleAsyncTask(@NotNull Runnable task, @NotNull Schedule delay, @NotNull Schedule repeat) {
-        this.tasks.add(task);
+        this.tasks.put(task, repeat.toMillis() > 0);
         return () -> this.tasks.remove(task);
     }
 
     @Override
     protected @NotNull ScheduledTask scheduleSyncTask(@NotNull Runnable task, @NotNull Schedule delay, @NotNull Schedule repeat) {
-        this.tasks.add(task);
+        this.tasks.put(task, repeat.toMillis() > 0);
         return () -> this.tasks.remove(task);
     }
 
     public void execute() {
-        this.tasks.forEach(Runnable::run);
+        // Copied as tasks may schedule more tasks, tasks that do not repeat are removed once run.
+        for (Map.Entry<Runnable, Boolean> entry : new ArrayList<>(this.tasks.entrySet())) {
+            if (!entry.getValue()) {
+                this.tasks.remove(entry.getKey());
+            }
+            entry.getKey().run();
+        }
     }
 
     public int getTaskCount() {
@@ -0,0 +1,54 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+import net.ltgt.gradle.errorprone.errorprone
+
+plugins {
+    id("chameleon.base") // Checkstyle and error-prone, this module is not published.
+    id("java")
+    alias(libs.plugins.jmh)
+}
+
+dependencies {
+    jmh(projects.chameleonApi)
+    jmh(libs.annotations)
+}
+
+/*
+ * Run with `gradle :chameleon-benchmarks:jmh`. Allocation rates are reported by the gc
+ * profiler as `gc.alloc.rate.norm` (bytes per operation, i.e. per dispatch).
+ * A subset can be selected with `-PjmhIncludes=<regex>`.
+ */
+jmh {
+    jmhVersion.set(libs.versions.jmh.asProvider())
+    profilers.add("gc")
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+    findProperty("jmhIncludes")?.let { includes.add(it.toString()) }
+}
+
+tasks.named<JavaCompile>("jmhCompileGeneratedClasses") {
+    // Generated harness code does not follow our conventions.
+    options.errorprone.isEnabled.set(false)
+}
@@ -0,0 +1,59 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.benchmarks.event;
+
+import dev.hypera.chameleon.event.AbstractCancellable;
+import dev.hypera.chameleon.event.ChameleonEvent;
+
+/**
+ * Cancellable event used by the event bus benchmarks.
+ */
+public class BenchmarkEvent extends AbstractCancellable implements ChameleonEvent {
+
+    private long touches;
+
+    /**
+     * Benchmark event constructor.
+     */
+    public BenchmarkEvent() {
+        super(false);
+    }
+
+    /**
+     * Record that a subscriber handled this event.
+     */
+    public void touch() {
+        this.touches++;
+    }
+
+    /**
+     * Get the number of times this event has been handled.
+     *
+     * @return handle count.
+     */
+    public long getTouches() {
+        return this.touches;
+    }
+
+}
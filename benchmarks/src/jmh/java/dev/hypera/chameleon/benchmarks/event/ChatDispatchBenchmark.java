@@ -0,0 +1,88 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.benchmarks.event;
+
+import dev.hypera.chameleon.benchmarks.NoopChameleonLogger;
+import dev.hypera.chameleon.event.EventBus;
+import dev.hypera.chameleon.event.EventBusImpl;
+import dev.hypera.chameleon.event.common.UserChatEvent;
+import dev.hypera.chameleon.event.common.UserChatEventPool;
+import dev.hypera.chameleon.user.User;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Chat dispatch the way platform listeners perform it, with and without event pooling.
+ *
+ * <p>Compare {@code gc.alloc.rate.norm} between the two {@code pooled} values.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ChatDispatchBenchmark {
+
+    private static final User USER = (User) Proxy.newProxyInstance(
+        User.class.getClassLoader(), new Class<?>[]{User.class}, (proxy, method, args) -> null);
+
+    @Param({"false", "true"})
+    private boolean pooled;
+
+    private final EventBus eventBus = new EventBusImpl(new NoopChameleonLogger());
+    private final UserChatEventPool pool = this.eventBus.getUserChatEventPool();
+
+    /**
+     * Register a subscriber and configure pooling.
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        this.pool.setEnabled(this.pooled);
+        this.eventBus.subscribe(UserChatEvent.class, event -> event.setMessage(event.getMessage()));
+    }
+
+    /**
+     * Acquire, dispatch and release a chat event.
+     *
+     * @return resulting message.
+     */
+    @Benchmark
+    public String dispatch() {
+        UserChatEvent event = this.pool.acquire(USER, "Hello", false, true, true);
+        try {
+            this.eventBus.dispatch(event);
+            return event.getMessage();
+        } finally {
+            this.pool.release(event);
+        }
+    }
+
+}
@@ -0,0 +1,108 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.benchmarks.event;
+
+import dev.hypera.chameleon.benchmarks.NoopChameleonLogger;
+import dev.hypera.chameleon.event.EventBus;
+import dev.hypera.chameleon.event.EventBusImpl;
+import dev.hypera.chameleon.event.EventSubscription;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Dispatch throughput from many threads.
+ *
+ * <p>{@code churn} runs seven dispatching threads alongside one thread that continuously
+ * subscribes and unsubscribes, forcing dispatch table rebuilds. The thread split can be scaled
+ * from the command line when running it alone, e.g. {@code -tg 31,1 churn} for 32 threads.
+ * {@code steady} dispatches from eight threads with no subscription changes, as a baseline.</p>
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ConcurrentDispatchBenchmark {
+
+    private static final int SUBSCRIBERS = 10;
+
+    private final EventBus eventBus = new EventBusImpl(new NoopChameleonLogger());
+
+    /**
+     * Register the subscribers.
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        for (int i = 0; i < SUBSCRIBERS; i++) {
+            this.eventBus.subscribe(BenchmarkEvent.class, BenchmarkEvent::touch);
+        }
+    }
+
+    /**
+     * Dispatch while subscriptions change.
+     *
+     * @return dispatched event.
+     */
+    @Benchmark
+    @Group("churn")
+    @GroupThreads(7)
+    public BenchmarkEvent churnDispatch() {
+        BenchmarkEvent event = new BenchmarkEvent();
+        this.eventBus.dispatch(event);
+        return event;
+    }
+
+    /**
+     * Subscribe and immediately unsubscribe.
+     */
+    @Benchmark
+    @Group("churn")
+    @GroupThreads(1)
+    public void churnSubscribe() {
+        EventSubscription subscription = this.eventBus.subscribe(BenchmarkEvent.class, BenchmarkEvent::touch);
+        subscription.unsubscribe();
+    }
+
+    /**
+     * Dispatch with no subscription changes.
+     *
+     * @return dispatched event.
+     */
+    @Benchmark
+    @Group("steady")
+    @GroupThreads(8)
+    public BenchmarkEvent steadyDispatch() {
+        BenchmarkEvent event = new BenchmarkEvent();
+        this.eventBus.dispatch(event);
+        return event;
+    }
+
+}
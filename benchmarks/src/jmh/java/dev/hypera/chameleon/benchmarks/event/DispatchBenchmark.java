@@ -0,0 +1,143 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.benchmarks.event;
+
+import dev.hypera.chameleon.benchmarks.NoopChameleonLogger;
+import dev.hypera.chameleon.event.EventBus;
+import dev.hypera.chameleon.event.EventBusImpl;
+import dev.hypera.chameleon.event.EventSubscriber;
+import dev.hypera.chameleon.event.EventSubscriptionPriority;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Single-threaded dispatch cost with a varying number of subscribers.
+ *
+ * <p>{@code cancelledChain} cancels the event in the first subscriber while every other
+ * subscriber ignores cancelled events, which measures how cheaply the rest of the chain is
+ * skipped.</p>
+ *
+ * <p>{@code filteredDispatch} gives every subscriber two filters that always pass, run with the
+ * gc profiler it shows whether filtered subscribers allocate per dispatch.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DispatchBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int subscribers;
+
+    private final EventBus eventBus = new EventBusImpl(new NoopChameleonLogger());
+    private final EventBus cancellingEventBus = new EventBusImpl(new NoopChameleonLogger());
+    private final EventBus filteredEventBus = new EventBusImpl(new NoopChameleonLogger());
+    private final BenchmarkEvent event = new BenchmarkEvent();
+
+    /**
+     * Register the subscribers.
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        this.cancellingEventBus.subscribe(BenchmarkEvent.class, EventSubscriber.builder(BenchmarkEvent.class)
+            .priority(EventSubscriptionPriority.FIRST)
+            .handler(BenchmarkEvent::cancel)
+            .build());
+        for (int i = 0; i < this.subscribers; i++) {
+            this.eventBus.subscribe(BenchmarkEvent.class, BenchmarkEvent::touch);
+            this.cancellingEventBus.subscribe(BenchmarkEvent.class, BenchmarkEvent::touch);
+            this.filteredEventBus.subscribe(BenchmarkEvent.class, EventSubscriber.builder(BenchmarkEvent.class)
+                .filters(e -> !e.isCancelled())
+                .filters(e -> e.getTouches() >= 0)
+                .handler(BenchmarkEvent::touch)
+                .build());
+        }
+    }
+
+    /**
+     * Dispatch an event to every subscriber.
+     *
+     * @return dispatched event.
+     */
+    @Benchmark
+    public BenchmarkEvent dispatch() {
+        this.eventBus.dispatch(this.event);
+        return this.event;
+    }
+
+    /**
+     * Dispatch an event to every subscriber, through their filters.
+     *
+     * @return dispatched event.
+     */
+    @Benchmark
+    public BenchmarkEvent filteredDispatch() {
+        this.filteredEventBus.dispatch(this.event);
+        return this.event;
+    }
+
+    /**
+     * Dispatch an event that is cancelled by the first subscriber.
+     *
+     * @return dispatched event.
+     */
+    @Benchmark
+    public BenchmarkEvent cancelledChain() {
+        this.event.uncancel();
+        this.cancellingEventBus.dispatch(this.event);
+        return this.event;
+    }
+
+    /**
+     * Dispatch a freshly allocated event, as platform listeners do.
+     *
+     * <p>Run with the gc profiler, this separates the bus's own allocation from the event's.</p>
+     *
+     * @return dispatched event.
+     */
+    @Benchmark
+    public BenchmarkEvent dispatchNewEvent() {
+        BenchmarkEvent newEvent = new BenchmarkEvent();
+        this.eventBus.dispatch(newEvent);
+        return newEvent;
+    }
+
+    /**
+     * Check whether an event type has subscribers, the fast path used by platform listeners.
+     *
+     * @return {@code true} if subscribed.
+     */
+    @Benchmark
+    public boolean subscribed() {
+        return this.eventBus.subscribed(BenchmarkEvent.class);
+    }
+
+}
@@ -0,0 +1,163 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.benchmarks.event;
+
+import dev.hypera.chameleon.benchmarks.NoopChameleonLogger;
+import dev.hypera.chameleon.event.ChameleonEvent;
+import dev.hypera.chameleon.event.EventBus;
+import dev.hypera.chameleon.event.EventBusImpl;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Dispatch cost for events with deep type hierarchies.
+ *
+ * <p>{@link DeepEvent} has eight supertypes, mixing interfaces and superclasses. Subscribers
+ * listen on every level, only on the root ({@link ChameleonEvent}), or only on the concrete
+ * type.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class HierarchyDispatchBenchmark {
+
+    private final EventBus everyLevel = new EventBusImpl(new NoopChameleonLogger());
+    private final EventBus rootOnly = new EventBusImpl(new NoopChameleonLogger());
+    private final EventBus leafOnly = new EventBusImpl(new NoopChameleonLogger());
+    private final DeepEvent event = new DeepEvent();
+
+    /**
+     * Register the subscribers.
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        this.everyLevel.subscribe(ChameleonEvent.class, HierarchyDispatchBenchmark::touch);
+        this.everyLevel.subscribe(LevelOne.class, HierarchyDispatchBenchmark::touch);
+        this.everyLevel.subscribe(LevelTwo.class, HierarchyDispatchBenchmark::touch);
+        this.everyLevel.subscribe(LevelThree.class, HierarchyDispatchBenchmark::touch);
+        this.everyLevel.subscribe(LevelFour.class, HierarchyDispatchBenchmark::touch);
+        this.everyLevel.subscribe(LevelFive.class, HierarchyDispatchBenchmark::touch);
+        this.everyLevel.subscribe(LevelSix.class, HierarchyDispatchBenchmark::touch);
+        this.everyLevel.subscribe(LevelSeven.class, HierarchyDispatchBenchmark::touch);
+        this.everyLevel.subscribe(DeepEvent.class, HierarchyDispatchBenchmark::touch);
+
+        this.rootOnly.subscribe(ChameleonEvent.class, HierarchyDispatchBenchmark::touch);
+        this.leafOnly.subscribe(DeepEvent.class, HierarchyDispatchBenchmark::touch);
+    }
+
+    /**
+     * Dispatch to subscribers on every level of the hierarchy.
+     *
+     * @return dispatched event.
+     */
+    @Benchmark
+    public DeepEvent everyLevel() {
+        this.everyLevel.dispatch(this.event);
+        return this.event;
+    }
+
+    /**
+     * Dispatch to a single subscriber on the root type.
+     *
+     * @return dispatched event.
+     */
+    @Benchmark
+    public DeepEvent rootOnly() {
+        this.rootOnly.dispatch(this.event);
+        return this.event;
+    }
+
+    /**
+     * Dispatch to a single subscriber on the concrete type.
+     *
+     * @return dispatched event.
+     */
+    @Benchmark
+    public DeepEvent leafOnly() {
+        this.leafOnly.dispatch(this.event);
+        return this.event;
+    }
+
+    private static void touch(ChameleonEvent event) {
+        ((DeepEvent) event).touch();
+    }
+
+    private interface LevelOne extends ChameleonEvent {
+
+    }
+
+    private interface LevelTwo extends LevelOne {
+
+    }
+
+    private abstract static class LevelThree implements LevelTwo {
+
+    }
+
+    private interface LevelFour extends ChameleonEvent {
+
+    }
+
+    private abstract static class LevelFive extends LevelThree implements LevelFour {
+
+    }
+
+    private interface LevelSix extends LevelOne {
+
+    }
+
+    private abstract static class LevelSeven extends LevelFive implements LevelSix {
+
+    }
+
+    /**
+     * Concrete event at the bottom of the hierarchy.
+     */
+    public static final class DeepEvent extends LevelSeven {
+
+        private long touches;
+
+        private void touch() {
+            this.touches++;
+        }
+
+        /**
+         * Get the number of times this event has been handled.
+         *
+         * @return handle count.
+         */
+        public long getTouches() {
+            return this.touches;
+        }
+
+    }
+
+}
@@ -43,7 +43,6 @@ import dev.hypera.chameleon.scheduler.Scheduler;
 import dev.hypera.chameleon.user.UserManager;
 import dev.hypera.chameleon.util.Preconditions;
 import java.nio.file.Path;
-import org.bukkit.Bukkit;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.jetbrains.annotations.ApiStatus.Internal;
 import org.jetbrains.annotations.ApiStatus.NonExtendable;
@@ -61,6 +60,7 @@ public final class BukkitChameleon extends PlatformChameleon<JavaPlugin> {
     private final @NotNull BukkitCommandManager commandManager = new BukkitCommandManager(this, this.userManager);
     private final @NotNull BukkitPluginManager pluginManager = new BukkitPluginManager();
     private final @NotNull BukkitScheduler scheduler = new BukkitScheduler(this);
+    private final @NotNull BukkitListener listener = new BukkitListener(this, this.userManager);
 
     private @Nullable ChameleonAudienceProvider audienceProvider;
 
@@ -93,7 +93,7 @@ public final class BukkitChameleon extends PlatformChameleon<JavaPlugin> {
     @Override
     public void onEnable() {
         this.audienceProvider = new BukkitAudienceProvider(this.userManager, super.plugin);
-        Bukkit.getPluginManager().registerEvents(new BukkitListener(this, this.userManager), super.plugin);
+        this.listener.register(super.plugin);
         super.onEnable();
     }
 
@@ -102,6 +102,7 @@ public final class BukkitChameleon extends PlatformChameleon<JavaPlugin> {
      */
     @Override
     public void onDisable() {
+        this.listener.unregister();
         if (this.audienceProvider != null) {
             this.audienceProvider.close();
         }
@@ -24,30 +24,44 @@
 package dev.hypera.chameleon.platform.bukkit.event;
 
 import dev.hypera.chameleon.Chameleon;
+import dev.hypera.chameleon.event.ChameleonEvent;
+import dev.hypera.chameleon.event.EventSubscription;
+import dev.hypera.chameleon.event.common.AsyncUserPreLoginEvent;
 import dev.hypera.chameleon.event.common.UserChatEvent;
 import dev.hypera.chameleon.event.common.UserConnectEvent;
 import dev.hypera.chameleon.event.common.UserDisconnectEvent;
 import dev.hypera.chameleon.event.server.ServerUserKickEvent;
 import dev.hypera.chameleon.platform.bukkit.user.BukkitUserManager;
 import dev.hypera.chameleon.user.User;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
 import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
-import org.bukkit.event.EventHandler;
+import org.bukkit.Bukkit;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.AsyncPlayerChatEvent;
+import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
 import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.event.player.PlayerKickEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.plugin.Plugin;
 import org.jetbrains.annotations.ApiStatus.Internal;
 import org.jetbrains.annotations.NotNull;
 
 /**
  * Bukkit listener.
+ * <p>Platform event handlers are only registered while the Chameleon events they dispatch have
+ * subscribers, so Bukkit does not call into Chameleon for events nobody listens to.</p>
  */
 @Internal
 public final class BukkitListener implements Listener {
 
     private final @NotNull Chameleon chameleon;
     private final @NotNull BukkitUserManager userManager;
+    private final @NotNull List<EventSubscription> watches = new ArrayList<>();
 
     /**
      * Bukkit listener constructor.
@@ -61,13 +75,80 @@ public final class BukkitListener implements Listener {
         this.userManager = userManager;
     }
 
+    /**
+     * Register the platform event handlers, each handler is registered with Bukkit while the
+     * Chameleon event it dispatches has subscribers.
+     *
+     * @param plugin Plugin to register the handlers for.
+     */
+    public void register(@NotNull Plugin plugin) {
+        registerHandler(plugin, AsyncUserPreLoginEvent.class, AsyncPlayerPreLoginEvent.class, AsyncPlayerPreLoginEvent.getHandlerList(), this::onAsyncPlayerPreLoginEvent);
+        registerHandler(plugin, UserConnectEvent.class, PlayerJoinEvent.class, PlayerJoinEvent.getHandlerList(), this::onPlayerJoinEvent);
+        registerHandler(plugin, UserChatEvent.class, AsyncPlayerChatEvent.class, AsyncPlayerChatEvent.getHandlerList(), this::onAsyncPlayerChatEvent);
+        registerHandler(plugin, UserDisconnectEvent.class, PlayerQuitEvent.class, PlayerQuitEvent.getHandlerList(), this::onPlayerQuitEvent);
+        registerHandler(plugin, ServerUserKickEvent.class, PlayerKickEvent.class, PlayerKickEvent.getHandlerList(), this::onPlayerKickEvent);
+    }
+
+    /**
+     * Unregister all platform event handlers.
+     */
+    public void unregister() {
+        this.watches.forEach(EventSubscription::unsubscribe);
+        this.watches.clear();
+        HandlerList.unregisterAll(this);
+    }
+
+    private <T extends Event> void registerHandler(@NotNull Plugin plugin, @NotNull Class<? extends ChameleonEvent> chameleonEvent, @NotNull Class<T> platformEvent, @NotNull HandlerList handlers, @NotNull Consumer<T> handler) {
+        this.watches.add(this.chameleon.getEventBus().watch(chameleonEvent, subscribed -> {
+            if (subscribed) {
+                Bukkit.getPluginManager().registerEvent(platformEvent, this, EventPriority.NORMAL, (listener, event) -> {
+                    if (platformEvent.isInstance(event)) {
+                        handler.accept(platformEvent.cast(event));
+                    }
+                }, plugin);
+            } else {
+                handlers.unregister(this);
+            }
+        }));
+    }
+
+    /**
+     * Platform asynchronous user pre-login event handler.
+     * <p>Bukkit dispatches this event on a dedicated login thread and lets it block, so the
+     * subscriber tasks are waited for here.</p>
+     *
+     * @param event Platform event.
+     */
+    public void onAsyncPlayerPreLoginEvent(@NotNull AsyncPlayerPreLoginEvent event) {
+        if (!this.chameleon.getEventBus().subscribed(AsyncUserPreLoginEvent.class)) {
+            return;
+        }
+
+        AsyncUserPreLoginEvent chameleonEvent = new AsyncUserPreLoginEvent(
+            event.getUniqueId(), event.getName(), event.getAddress(),
+            event.getLoginResult() != AsyncPlayerPreLoginEvent.Result.ALLOWED
+        );
+
+        this.chameleon.getEventBus().dispatch(chameleonEvent);
+        chameleonEvent.complete(this.chameleon.getInternalLogger()).join();
+        if (chameleonEvent.isCancelled()) {
+            event.disallow(
+                AsyncPlayerPreLoginEvent.Result.KICK_OTHER,
+                LegacyComponentSerializer.legacySection().serialize(chameleonEvent.getCancelReason())
+            );
+        }
+    }
+
     /**
      * Platform user connect event handler.
      *
      * @param event Platform event.
      */
-    @EventHandler
     public void onPlayerJoinEvent(@NotNull PlayerJoinEvent event) {
+        if (!this.chameleon.getEventBus().subscribed(UserConnectEvent.class)) {
+            return;
+        }
+
         User user = this.userManager.wrap(event.getPlayer());
         UserConnectEvent chameleonEvent = new UserConnectEvent(user, false);
 
@@ -82,21 +163,28 @@ public final class BukkitListener implements Listener {
      *
      * @param event Platform event.
      */
-    @EventHandler
     public void onAsyncPlayerChatEvent(@NotNull AsyncPlayerChatEvent event) {
-        UserChatEvent chameleonEvent = new UserChatEvent(
+        if (!this.chameleon.getEventBus().subscribed(UserChatEvent.class)) {
+            return;
+        }
+
+        UserChatEvent chameleonEvent = this.chameleon.getEventBus().getUserChatEventPool().acquire(
             this.userManager.wrap(event.getPlayer()),
             event.getMessage(), event.isCancelled(),
             true, true
         );
-        this.chameleon.getEventBus().dispatch(chameleonEvent);
+        try {
+            this.chameleon.getEventBus().dispatch(chameleonEvent);
 
-        if (!event.getMessage().equals(chameleonEvent.getMessage())) {
-            event.setMessage(chameleonEvent.getMessage());
-        }
+            if (!event.getMessage().equals(chameleonEvent.getMessage())) {
+                event.setMessage(chameleonEvent.getMessage());
+            }
 
-        if (chameleonEvent.isCancelled()) {
-            event.setCancelled(true);
+            if (chameleonEvent.isCancelled()) {
+                event.setCancelled(true);
+            }
+        } finally {
+            this.chameleon.getEventBus().getUserChatEventPool().release(chameleonEvent);
         }
     }
 
@@ -105,8 +193,11 @@ public final class BukkitListener implements Listener {
      *
      * @param event Platform event.
      */
-    @EventHandler
     public void onPlayerQuitEvent(@NotNull PlayerQuitEvent event) {
+        if (!this.chameleon.getEventBus().subscribed(UserDisconnectEvent.class)) {
+            return;
+        }
+
         this.chameleon.getEventBus().dispatch(new UserDisconnectEvent(
             this.userManager.wrap(event.getPlayer())
         ));
@@ -117,8 +208,11 @@ public final class BukkitListener implements Listener {
      *
      * @param event Platform event.
      */
-    @EventHandler
     public void onPlayerKickEvent(@NotNull PlayerKickEvent event) {
+        if (!this.chameleon.getEventBus().subscribed(ServerUserKickEvent.class)) {
+            return;
+        }
+
         this.chameleon.getEventBus().dispatch(new ServerUserKickEvent(
             this.userManager.wrap(event.getPlayer()),
             LegacyComponentSerializer.legacySection().deserialize(event.getReason())
@@ -72,4 +72,9 @@ public final class BukkitScheduler extends Scheduler {
         return bukkitTask::cancel;
     }
 
+    @Override
+    protected boolean isSyncThread() {
+        return Bukkit.isPrimaryThread();
+    }
+
 }
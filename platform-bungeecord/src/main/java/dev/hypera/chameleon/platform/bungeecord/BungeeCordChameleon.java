@@ -41,7 +41,6 @@ import dev.hypera.chameleon.platform.bungeecord.scheduler.BungeeCordScheduler;
 import dev.hypera.chameleon.platform.bungeecord.user.BungeeCordUserManager;
 import dev.hypera.chameleon.scheduler.Scheduler;
 import java.nio.file.Path;
-import net.md_5.bungee.api.ProxyServer;
 import net.md_5.bungee.api.plugin.Plugin;
 import org.jetbrains.annotations.ApiStatus.Internal;
 import org.jetbrains.annotations.NotNull;
@@ -57,6 +56,7 @@ public final class BungeeCordChameleon extends PlatformChameleon<Plugin> {
     private final @NotNull BungeeCordPluginManager pluginManager = new BungeeCordPluginManager();
     private final @NotNull BungeeCordUserManager userManager = new BungeeCordUserManager(this);
     private final @NotNull BungeeCordScheduler scheduler = new BungeeCordScheduler(this);
+    private final @NotNull BungeeCordListener listener = new BungeeCordListener(this);
 
     @Internal
     BungeeCordChameleon(
@@ -68,7 +68,7 @@ public final class BungeeCordChameleon extends PlatformChameleon<Plugin> {
     ) {
         super(pluginBootstrap, bungeePlugin, eventBus, logger, extensions);
         this.audienceProvider = new BungeeCordAudienceProvider(this, bungeePlugin);
-        ProxyServer.getInstance().getPluginManager().registerListener(bungeePlugin, new BungeeCordListener(this));
+        this.listener.register(bungeePlugin);
     }
 
     /**
@@ -83,6 +83,15 @@ public final class BungeeCordChameleon extends PlatformChameleon<Plugin> {
         return new BungeeCordChameleonBootstrap(pluginBootstrap, bungeePlugin);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onDisable() {
+        this.listener.unregister();
+        super.onDisable();
+    }
+
     /**
      * {@inheritDoc}
      */
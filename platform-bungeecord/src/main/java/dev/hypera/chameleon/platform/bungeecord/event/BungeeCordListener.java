@@ -23,6 +23,9 @@
  */
 package dev.hypera.chameleon.platform.bungeecord.event;
 
+import dev.hypera.chameleon.event.ChameleonEvent;
+import dev.hypera.chameleon.event.EventSubscription;
+import dev.hypera.chameleon.event.common.AsyncUserPreLoginEvent;
 import dev.hypera.chameleon.event.common.UserChatEvent;
 import dev.hypera.chameleon.event.common.UserConnectEvent;
 import dev.hypera.chameleon.event.common.UserDisconnectEvent;
@@ -33,26 +36,39 @@ import dev.hypera.chameleon.platform.bungeecord.user.BungeeCordUser;
 import dev.hypera.chameleon.platform.proxy.Server;
 import dev.hypera.chameleon.user.ProxyUser;
 import dev.hypera.chameleon.user.User;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import net.kyori.adventure.text.serializer.bungeecord.BungeeComponentSerializer;
+import net.md_5.bungee.api.ProxyServer;
 import net.md_5.bungee.api.config.ServerInfo;
+import net.md_5.bungee.api.connection.PendingConnection;
 import net.md_5.bungee.api.connection.ProxiedPlayer;
 import net.md_5.bungee.api.event.ChatEvent;
+import net.md_5.bungee.api.event.LoginEvent;
 import net.md_5.bungee.api.event.PlayerDisconnectEvent;
 import net.md_5.bungee.api.event.PostLoginEvent;
 import net.md_5.bungee.api.event.ServerSwitchEvent;
 import net.md_5.bungee.api.plugin.Listener;
+import net.md_5.bungee.api.plugin.Plugin;
 import net.md_5.bungee.event.EventHandler;
 import org.jetbrains.annotations.ApiStatus.Internal;
 import org.jetbrains.annotations.NotNull;
 
 /**
  * BungeeCord listener.
+ * <p>Platform event handlers are only registered while the Chameleon events they dispatch have
+ * subscribers. BungeeCord can only register listener objects, so every platform event has its own
+ * listener delegating to this class. These are public as BungeeCord invokes handlers reflectively.</p>
  */
 @Internal
-@SuppressWarnings("unused")
-public final class BungeeCordListener implements Listener {
+public final class BungeeCordListener {
 
     private final @NotNull BungeeCordChameleon chameleon;
+    private final @NotNull List<EventSubscription> watches = new ArrayList<>();
+    private final @NotNull List<Listener> listeners = new ArrayList<>();
 
     /**
      * BungeeCord listener constructor.
@@ -64,13 +80,87 @@ public final class BungeeCordListener implements Listener {
         this.chameleon = chameleon;
     }
 
+    /**
+     * Register the platform event handlers, each handler is registered with BungeeCord while the
+     * Chameleon event it dispatches has subscribers.
+     *
+     * @param plugin Plugin to register the handlers for.
+     */
+    public void register(@NotNull Plugin plugin) {
+        registerHandler(plugin, AsyncUserPreLoginEvent.class, new LoginListener());
+        registerHandler(plugin, UserConnectEvent.class, new PostLoginListener());
+        registerHandler(plugin, UserChatEvent.class, new ChatListener());
+        registerHandler(plugin, UserDisconnectEvent.class, new PlayerDisconnectListener());
+        registerHandler(plugin, ProxyUserSwitchEvent.class, new ServerSwitchListener());
+    }
+
+    /**
+     * Unregister all platform event handlers.
+     * <p>Only the listeners registered by this class are unregistered, listeners registered by
+     * the plugin itself are left untouched.</p>
+     */
+    public void unregister() {
+        this.watches.forEach(EventSubscription::unsubscribe);
+        this.watches.clear();
+        this.listeners.forEach(ProxyServer.getInstance().getPluginManager()::unregisterListener);
+        this.listeners.clear();
+    }
+
+    private void registerHandler(@NotNull Plugin plugin, @NotNull Class<? extends ChameleonEvent> chameleonEvent, @NotNull Listener listener) {
+        this.listeners.add(listener);
+        this.watches.add(this.chameleon.getEventBus().watch(chameleonEvent, subscribed -> {
+            if (subscribed) {
+                ProxyServer.getInstance().getPluginManager().registerListener(plugin, listener);
+            } else {
+                ProxyServer.getInstance().getPluginManager().unregisterListener(listener);
+            }
+        }));
+    }
+
+    /**
+     * Platform asynchronous user pre-login event handler.
+     * <p>The login is held with an intent until the subscriber tasks have completed, without
+     * blocking a Netty thread.</p>
+     *
+     * @param event Platform event.
+     */
+    public void onLoginEvent(@NotNull LoginEvent event) {
+        if (!this.chameleon.getEventBus().subscribed(AsyncUserPreLoginEvent.class)) {
+            return;
+        }
+
+        PendingConnection connection = event.getConnection();
+        SocketAddress address = connection.getSocketAddress();
+        AsyncUserPreLoginEvent chameleonEvent = new AsyncUserPreLoginEvent(
+            connection.getUniqueId(), connection.getName(),
+            address instanceof InetSocketAddress ? ((InetSocketAddress) address).getAddress() : null,
+            event.isCancelled()
+        );
+
+        this.chameleon.getEventBus().dispatch(chameleonEvent);
+        event.registerIntent(this.chameleon.getPlatformPlugin());
+        chameleonEvent.complete(this.chameleon.getInternalLogger()).whenComplete((completed, ex) -> {
+            try {
+                if (chameleonEvent.isCancelled()) {
+                    event.setCancelReason(BungeeComponentSerializer.get().serialize(chameleonEvent.getCancelReason()));
+                    event.setCancelled(true);
+                }
+            } finally {
+                event.completeIntent(this.chameleon.getPlatformPlugin());
+            }
+        });
+    }
+
     /**
      * Platform user connect event handler.
      *
      * @param event Platform event.
      */
-    @EventHandler
     public void onPostLoginEvent(@NotNull PostLoginEvent event) {
+        if (!this.chameleon.getEventBus().subscribed(UserConnectEvent.class)) {
+            return;
+        }
+
         User user = wrap(event.getPlayer());
         UserConnectEvent chameleonEvent = new UserConnectEvent(user, false);
 
@@ -85,21 +175,28 @@ public final class BungeeCordListener implements Listener {
      *
      * @param event Platform event.
      */
-    @EventHandler
     public void onChatEvent(@NotNull ChatEvent event) {
-        UserChatEvent chameleonEvent = new UserChatEvent(
+        if (!this.chameleon.getEventBus().subscribed(UserChatEvent.class)) {
+            return;
+        }
+
+        UserChatEvent chameleonEvent = this.chameleon.getEventBus().getUserChatEventPool().acquire(
             wrap((ProxiedPlayer) event.getSender()),
             event.getMessage(), event.isCancelled(),
             true, true
         );
-        this.chameleon.getEventBus().dispatch(chameleonEvent);
+        try {
+            this.chameleon.getEventBus().dispatch(chameleonEvent);
 
-        if (!event.getMessage().equals(chameleonEvent.getMessage())) {
-            event.setMessage(chameleonEvent.getMessage());
-        }
+            if (!event.getMessage().equals(chameleonEvent.getMessage())) {
+                event.setMessage(chameleonEvent.getMessage());
+            }
 
-        if (chameleonEvent.isCancelled()) {
-            event.setCancelled(true);
+            if (chameleonEvent.isCancelled()) {
+                event.setCancelled(true);
+            }
+        } finally {
+            this.chameleon.getEventBus().getUserChatEventPool().release(chameleonEvent);
         }
     }
 
@@ -108,8 +205,11 @@ public final class BungeeCordListener implements Listener {
      *
      * @param event Platform event.
      */
-    @EventHandler
     public void onPlayerDisconnectEvent(@NotNull PlayerDisconnectEvent event) {
+        if (!this.chameleon.getEventBus().subscribed(UserDisconnectEvent.class)) {
+            return;
+        }
+
         this.chameleon.getEventBus().dispatch(new UserDisconnectEvent(wrap(event.getPlayer())));
     }
 
@@ -118,8 +218,11 @@ public final class BungeeCordListener implements Listener {
      *
      * @param event Platform event.
      */
-    @EventHandler
     public void onServerSwitchEvent(@NotNull ServerSwitchEvent event) {
+        if (!this.chameleon.getEventBus().subscribed(ProxyUserSwitchEvent.class)) {
+            return;
+        }
+
         this.chameleon.getEventBus()
             .dispatch(new ProxyUserSwitchEvent(wrap(event.getPlayer()),
                 Optional.ofNullable(event.getFrom()).map(this::wrap).orElse(null),
@@ -135,4 +238,109 @@ public final class BungeeCordListener implements Listener {
         return new BungeeCordServer(this.chameleon, server);
     }
 
+    /**
+     * Platform login event listener.
+     */
+    @Internal
+    public final class LoginListener implements Listener {
+
+        private LoginListener() {
+        }
+
+        /**
+         * Platform login event handler.
+         *
+         * @param event Platform event.
+         */
+        @EventHandler
+        public void on(@NotNull LoginEvent event) {
+            onLoginEvent(event);
+        }
+
+    }
+
+    /**
+     * Platform post-login event listener.
+     */
+    @Internal
+    public final class PostLoginListener implements Listener {
+
+        private PostLoginListener() {
+        }
+
+        /**
+         * Platform post-login event handler.
+         *
+         * @param event Platform event.
+         */
+        @EventHandler
+        public void on(@NotNull PostLoginEvent event) {
+            onPostLoginEvent(event);
+        }
+
+    }
+
+    /**
+     * Platform chat event listener.
+     */
+    @Internal
+    public final class ChatListener implements Listener {
+
+        private ChatListener() {
+        }
+
+        /**
+         * Platform chat event handler.
+         *
+         * @param event Platform event.
+         */
+        @EventHandler
+        public void on(@NotNull ChatEvent event) {
+            onChatEvent(event);
+        }
+
+    }
+
+    /**
+     * Platform player disconnect event listener.
+     */
+    @Internal
+    public final class PlayerDisconnectListener implements Listener {
+
+        private PlayerDisconnectListener() {
+        }
+
+        /**
+         * Platform player disconnect event handler.
+         *
+         * @param event Platform event.
+         */
+        @EventHandler
+        public void on(@NotNull PlayerDisconnectEvent event) {
+            onPlayerDisconnectEvent(event);
+        }
+
+    }
+
+    /**
+     * Platform server switch event listener.
+     */
+    @Internal
+    public final class ServerSwitchListener implements Listener {
+
+        private ServerSwitchListener() {
+        }
+
+        /**
+         * Platform server switch event handler.
+         *
+         * @param event Platform event.
+         */
+        @EventHandler
+        public void on(@NotNull ServerSwitchEvent event) {
+            onServerSwitchEvent(event);
+        }
+
+    }
+
 }
@@ -46,7 +46,6 @@ import dev.hypera.chameleon.scheduler.Scheduler;
 import dev.hypera.chameleon.user.UserManager;
 import dev.hypera.chameleon.util.Preconditions;
 import java.nio.file.Path;
-import org.bukkit.Bukkit;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.jetbrains.annotations.ApiStatus.Experimental;
 import org.jetbrains.annotations.ApiStatus.Internal;
@@ -64,6 +63,7 @@ public final class FoliaChameleon extends PlatformChameleon<JavaPlugin> {
     private final @NotNull CommandManager commandManager = new BukkitCommandManager(this, this.userManager);
     private final @NotNull PluginManager pluginManager;
     private final @NotNull Scheduler scheduler;
+    private final @NotNull BukkitListener listener = new BukkitListener(this, this.userManager);
 
     private @Nullable ChameleonAudienceProvider audienceProvider;
 
@@ -101,7 +101,7 @@ public final class FoliaChameleon extends PlatformChameleon<JavaPlugin> {
     @Override
     public void onEnable() {
         this.audienceProvider = new BukkitAudienceProvider(this.userManager, super.plugin);
-        Bukkit.getPluginManager().registerEvents(new BukkitListener(this, this.userManager), super.plugin);
+        this.listener.register(super.plugin);
         super.onEnable();
     }
 
@@ -110,6 +110,7 @@ public final class FoliaChameleon extends PlatformChameleon<JavaPlugin> {
      */
     @Override
     public void onDisable() {
+        this.listener.unregister();
         if (this.audienceProvider != null) {
             this.audienceProvider.close();
         }
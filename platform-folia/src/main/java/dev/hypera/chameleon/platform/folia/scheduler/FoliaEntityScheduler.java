@@ -0,0 +1,102 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.platform.folia.scheduler;
+
+import dev.hypera.chameleon.platform.folia.FoliaChameleon;
+import dev.hypera.chameleon.scheduler.Schedule;
+import dev.hypera.chameleon.scheduler.ScheduledTask;
+import dev.hypera.chameleon.scheduler.Scheduler;
+import io.papermc.paper.threadedregions.scheduler.EntityScheduler;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Entity;
+import org.jetbrains.annotations.ApiStatus.Internal;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Folia entity scheduler implementation, runs synchronous tasks on the region thread that owns
+ * an entity.
+ */
+@Internal
+final class FoliaEntityScheduler extends Scheduler {
+
+    private final @NotNull FoliaScheduler parent;
+    private final @NotNull FoliaChameleon chameleon;
+    private final @NotNull Entity entity;
+
+    FoliaEntityScheduler(@NotNull FoliaScheduler parent, @NotNull FoliaChameleon chameleon, @NotNull Entity entity) {
+        super(parent);
+        this.parent = parent;
+        this.chameleon = chameleon;
+        this.entity = entity;
+    }
+
+    @Override
+    protected @NotNull ScheduledTask scheduleAsyncTask(@NotNull Runnable task, @NotNull Schedule delay, @NotNull Schedule repeat) {
+        return this.parent.scheduleAsync(task, delay, repeat);
+    }
+
+    @Override
+    protected @NotNull ScheduledTask scheduleSyncTask(@NotNull Runnable task, @NotNull Schedule delay, @NotNull Schedule repeat) {
+        EntityScheduler scheduler = this.entity.getScheduler();
+        long delayTicks = FoliaScheduler.toDelayTicks(delay);
+        long period = FoliaScheduler.toPeriodTicks(repeat);
+        if (period > 0) {
+            // Repeating tasks stop once the entity is removed.
+            io.papermc.paper.threadedregions.scheduler.ScheduledTask foliaTask = scheduler.runAtFixedRate(
+                this.chameleon.getPlatformPlugin(), t -> task.run(), null, delayTicks, period
+            );
+            return foliaTask == null ? () -> { } : foliaTask::cancel;
+        }
+
+        // A one-shot task must still run if the entity is removed before it could, otherwise
+        // futures waiting on it never complete. It is handed to the global region instead.
+        AtomicBoolean cancelled = new AtomicBoolean();
+        Runnable retired = () -> this.parent.scheduleSync(() -> {
+            if (!cancelled.get()) {
+                task.run();
+            }
+        }, Schedule.none(), Schedule.none());
+        io.papermc.paper.threadedregions.scheduler.ScheduledTask foliaTask = scheduler.runDelayed(
+            this.chameleon.getPlatformPlugin(), t -> task.run(), retired, delayTicks
+        );
+        // Folia does not schedule the task if the entity has already been removed.
+        if (foliaTask == null) {
+            retired.run();
+        }
+
+        return () -> {
+            cancelled.set(true);
+            if (foliaTask != null) {
+                foliaTask.cancel();
+            }
+        };
+    }
+
+    @Override
+    protected boolean isSyncThread() {
+        return Bukkit.isOwnedByCurrentRegion(this.entity);
+    }
+
+}
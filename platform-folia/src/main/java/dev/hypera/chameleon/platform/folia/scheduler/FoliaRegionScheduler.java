@@ -0,0 +1,80 @@
+/*
+ * This file is a part of the Chameleon Framework, licensed under the MIT License.
+ *
+ * Copyright (c) 2021-2023 The Chameleon Framework Authors.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.hypera.chameleon.platform.folia.scheduler;
+
+import dev.hypera.chameleon.platform.folia.FoliaChameleon;
+import dev.hypera.chameleon.scheduler.Schedule;
+import dev.hypera.chameleon.scheduler.ScheduledTask;
+import dev.hypera.chameleon.scheduler.Scheduler;
+import io.papermc.paper.threadedregions.scheduler.RegionScheduler;
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.jetbrains.annotations.ApiStatus.Internal;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Folia region scheduler implementation, runs synchronous tasks on the region thread that owns
+ * a chunk.
+ */
+@Internal
+final class FoliaRegionScheduler extends Scheduler {
+
+    private final @NotNull FoliaScheduler parent;
+    private final @NotNull FoliaChameleon chameleon;
+    private final @NotNull World world;
+    private final int chunkX;
+    private final int chunkZ;
+
+    FoliaRegionScheduler(@NotNull FoliaScheduler parent, @NotNull FoliaChameleon chameleon, @NotNull World world, int chunkX, int chunkZ) {
+        super(parent);
+        this.parent = parent;
+        this.chameleon = chameleon;
+        this.world = world;
+        this.chunkX = chunkX;
+        this.chunkZ = chunkZ;
+    }
+
+    @Override
+    protected @NotNull ScheduledTask scheduleAsyncTask(@NotNull Runnable task, @NotNull Schedule delay, @NotNull Schedule repeat) {
+        return this.parent.scheduleAsync(task, delay, repeat);
+    }
+
+    @Override
+    protected @NotNull ScheduledTask scheduleSyncTask(@NotNull Runnable task, @NotNull Schedule delay, @NotNull Schedule repeat) {
+        RegionScheduler scheduler = Bukkit.getRegionScheduler();
+        long delayTicks = FoliaScheduler.toDelayTicks(delay);
+        long period = FoliaScheduler.toPeriodTicks(repeat);
+        io.papermc.paper.threadedregions.scheduler.ScheduledTask foliaTask = period > 0
+            ? scheduler.runAtFixedRate(this.chameleon.getPlatformPlugin(), this.world, this.chunkX, this.chunkZ, t -> task.run(), delayTicks, period)
+            : scheduler.runDelayed(this.chameleon.getPlatformPlugin(), this.world, this.chunkX, this.chunkZ, t -> task.run(), delayTicks);
+
+        return foliaTask::cancel;
+    }
+
+    @Override
+    protected boolean isSyncThread() {
+        return Bukkit.isOwnedByCurrentRegion(this.world, this.chunkX, this.chunkZ);
+    }
+
+}
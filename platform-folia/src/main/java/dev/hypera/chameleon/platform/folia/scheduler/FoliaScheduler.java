@@ -23,14 +23,18 @@
  */
 package dev.hypera.chameleon.platform.folia.scheduler;
 
+import dev.hypera.chameleon.platform.bukkit.user.BukkitUser;
 import dev.hypera.chameleon.platform.folia.FoliaChameleon;
 import dev.hypera.chameleon.scheduler.Schedule;
 import dev.hypera.chameleon.scheduler.ScheduledTask;
 import dev.hypera.chameleon.scheduler.Scheduler;
+import dev.hypera.chameleon.user.ServerUser;
+import dev.hypera.chameleon.util.Preconditions;
 import io.papermc.paper.threadedregions.scheduler.AsyncScheduler;
 import io.papermc.paper.threadedregions.scheduler.GlobalRegionScheduler;
 import java.util.concurrent.TimeUnit;
 import org.bukkit.Bukkit;
+import org.bukkit.World;
 import org.jetbrains.annotations.ApiStatus.Internal;
 import org.jetbrains.annotations.NotNull;
 
@@ -52,6 +56,35 @@ public final class FoliaScheduler extends Scheduler {
         this.chameleon = chameleon;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull Scheduler forUser(@NotNull ServerUser user) {
+        Preconditions.checkNotNull("user", user);
+        Preconditions.checkArgument(user instanceof BukkitUser, "User %s is not a Bukkit user", user.getName());
+        return new FoliaEntityScheduler(this, this.chameleon, ((BukkitUser) user).getPlayer());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull Scheduler at(@NotNull String world, int x, int z) {
+        Preconditions.checkNotNull("world", world);
+        World bukkitWorld = Bukkit.getWorld(world);
+        Preconditions.checkArgument(bukkitWorld != null, "World %s does not exist", world);
+        return new FoliaRegionScheduler(this, this.chameleon, bukkitWorld, x >> 4, z >> 4);
+    }
+
+    @NotNull ScheduledTask scheduleAsync(@NotNull Runnable task, @NotNull Schedule delay, @NotNull Schedule repeat) {
+        return scheduleAsyncTask(task, delay, repeat);
+    }
+
+    @NotNull ScheduledTask scheduleSync(@NotNull Runnable task, @NotNull Schedule delay, @NotNull Schedule repeat) {
+        return scheduleSyncTask(task, delay, repeat);
+    }
+
     @Override
     protected @NotNull ScheduledTask scheduleAsyncTask(@NotNull Runnable task, @NotNull Schedule delay, @NotNull Schedule repeat) {
         AsyncScheduler scheduler = Bukkit.getAsyncScheduler();
@@ -66,12 +99,29 @@ public final class FoliaScheduler extends Scheduler {
     @Override
     protected @NotNull ScheduledTask scheduleSyncTask(@NotNull Runnable task, @NotNull Schedule delay, @NotNull Schedule repeat) {
         GlobalRegionScheduler scheduler = Bukkit.getGlobalRegionScheduler();
-        long period = repeat.toTicks();
+        long delayTicks = toDelayTicks(delay);
+        long period = toPeriodTicks(repeat);
         io.papermc.paper.threadedregions.scheduler.ScheduledTask foliaTask = period > 0
-            ? scheduler.runAtFixedRate(this.chameleon.getPlatformPlugin(), t -> task.run(), delay.toTicks(), period)
-            : scheduler.runDelayed(this.chameleon.getPlatformPlugin(), t -> task.run(), delay.toTicks());
+            ? scheduler.runAtFixedRate(this.chameleon.getPlatformPlugin(), t -> task.run(), delayTicks, period)
+            : scheduler.runDelayed(this.chameleon.getPlatformPlugin(), t -> task.run(), delayTicks);
 
         return foliaTask::cancel;
     }
 
+    @Override
+    protected boolean isSyncThread() {
+        return Bukkit.isGlobalTickThread();
+    }
+
+    // Folia rejects delays shorter than one tick.
+    static long toDelayTicks(@NotNull Schedule delay) {
+        return Math.max(1, delay.toTicks());
+    }
+
+    // Folia rejects periods shorter than one tick, a shorter repeat is rounded up instead of
+    // turning the task into a one-shot.
+    static long toPeriodTicks(@NotNull Schedule repeat) {
+        return repeat.toMillis() > 0 ? Math.max(1, repeat.toTicks()) : 0;
+    }
+
 }
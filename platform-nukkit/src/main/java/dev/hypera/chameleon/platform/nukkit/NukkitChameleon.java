@@ -23,7 +23,6 @@
  */
 package dev.hypera.chameleon.platform.nukkit;
 
-import cn.nukkit.Server;
 import cn.nukkit.plugin.PluginBase;
 import dev.hypera.chameleon.ChameleonPluginBootstrap;
 import dev.hypera.chameleon.adventure.ChameleonAudienceProvider;
@@ -57,6 +56,7 @@ public final class NukkitChameleon extends PlatformChameleon<PluginBase> {
     private final @NotNull NukkitPluginManager pluginManager = new NukkitPluginManager();
     private final @NotNull NukkitUserManager userManager = new NukkitUserManager();
     private final @NotNull NukkitScheduler scheduler = new NukkitScheduler(this);
+    private final @NotNull NukkitListener listener = new NukkitListener(this);
 
     @Internal
     NukkitChameleon(
@@ -86,10 +86,19 @@ public final class NukkitChameleon extends PlatformChameleon<PluginBase> {
      */
     @Override
     public void onEnable() {
-        Server.getInstance().getPluginManager().registerEvents(new NukkitListener(this), this.plugin);
+        this.listener.register(this.plugin);
         super.onEnable();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onDisable() {
+        this.listener.unregister();
+        super.onDisable();
+    }
+
     /**
      * {@inheritDoc}
      */
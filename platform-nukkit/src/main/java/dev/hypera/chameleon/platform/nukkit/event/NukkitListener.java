@@ -23,29 +23,46 @@
  */
 package dev.hypera.chameleon.platform.nukkit.event;
 
-import cn.nukkit.event.EventHandler;
+import cn.nukkit.Server;
+import cn.nukkit.event.Event;
+import cn.nukkit.event.EventPriority;
+import cn.nukkit.event.HandlerList;
 import cn.nukkit.event.Listener;
+import cn.nukkit.event.player.PlayerAsyncPreLoginEvent;
 import cn.nukkit.event.player.PlayerChatEvent;
 import cn.nukkit.event.player.PlayerJoinEvent;
 import cn.nukkit.event.player.PlayerKickEvent;
 import cn.nukkit.event.player.PlayerQuitEvent;
+import cn.nukkit.plugin.Plugin;
+import dev.hypera.chameleon.event.ChameleonEvent;
+import dev.hypera.chameleon.event.EventSubscription;
+import dev.hypera.chameleon.event.common.AsyncUserPreLoginEvent;
 import dev.hypera.chameleon.event.common.UserChatEvent;
 import dev.hypera.chameleon.event.common.UserConnectEvent;
 import dev.hypera.chameleon.event.common.UserDisconnectEvent;
 import dev.hypera.chameleon.event.server.ServerUserKickEvent;
 import dev.hypera.chameleon.platform.nukkit.NukkitChameleon;
 import dev.hypera.chameleon.user.ServerUser;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
 import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
 import org.jetbrains.annotations.ApiStatus.Internal;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Nukkit event listener.
+ * <p>Platform event handlers are only registered while the Chameleon events they dispatch have
+ * subscribers.</p>
  */
 @Internal
 public final class NukkitListener implements Listener {
 
     private final @NotNull NukkitChameleon chameleon;
+    private final @NotNull List<EventSubscription> watches = new ArrayList<>();
 
     /**
      * Nukkit listener constructor.
@@ -57,13 +74,77 @@ public final class NukkitListener implements Listener {
         this.chameleon = chameleon;
     }
 
+    /**
+     * Register the platform event handlers, each handler is registered with Nukkit while the
+     * Chameleon event it dispatches has subscribers.
+     *
+     * @param plugin Plugin to register the handlers for.
+     */
+    public void register(@NotNull Plugin plugin) {
+        registerHandler(plugin, AsyncUserPreLoginEvent.class, PlayerAsyncPreLoginEvent.class, PlayerAsyncPreLoginEvent.getHandlers(), this::onPlayerAsyncPreLoginEvent);
+        registerHandler(plugin, UserConnectEvent.class, PlayerJoinEvent.class, PlayerJoinEvent.getHandlers(), this::onPlayerJoinEvent);
+        registerHandler(plugin, UserChatEvent.class, PlayerChatEvent.class, PlayerChatEvent.getHandlers(), this::onPlayerChatEvent);
+        registerHandler(plugin, UserDisconnectEvent.class, PlayerQuitEvent.class, PlayerQuitEvent.getHandlers(), this::onPlayerQuitEvent);
+        registerHandler(plugin, ServerUserKickEvent.class, PlayerKickEvent.class, PlayerKickEvent.getHandlers(), this::onPlayerKickEvent);
+    }
+
+    /**
+     * Unregister all platform event handlers.
+     */
+    public void unregister() {
+        this.watches.forEach(EventSubscription::unsubscribe);
+        this.watches.clear();
+        HandlerList.unregisterAll(this);
+    }
+
+    private <T extends Event> void registerHandler(@NotNull Plugin plugin, @NotNull Class<? extends ChameleonEvent> chameleonEvent, @NotNull Class<T> platformEvent, @NotNull HandlerList handlers, @NotNull Consumer<T> handler) {
+        this.watches.add(this.chameleon.getEventBus().watch(chameleonEvent, subscribed -> {
+            if (subscribed) {
+                Server.getInstance().getPluginManager().registerEvent(platformEvent, this, EventPriority.NORMAL, (listener, event) -> {
+                    if (platformEvent.isInstance(event)) {
+                        handler.accept(platformEvent.cast(event));
+                    }
+                }, plugin);
+            } else {
+                handlers.unregister(this);
+            }
+        }));
+    }
+
+    /**
+     * Platform asynchronous user pre-login event handler.
+     * <p>Nukkit dispatches this event from an asynchronous task and lets it block, so the
+     * subscriber tasks are waited for here.</p>
+     *
+     * @param event Platform event.
+     */
+    public void onPlayerAsyncPreLoginEvent(@NotNull PlayerAsyncPreLoginEvent event) {
+        if (!this.chameleon.getEventBus().subscribed(AsyncUserPreLoginEvent.class)) {
+            return;
+        }
+
+        AsyncUserPreLoginEvent chameleonEvent = new AsyncUserPreLoginEvent(
+            event.getUuid(), event.getName(), parseAddress(event.getAddress()),
+            event.getLoginResult() != PlayerAsyncPreLoginEvent.LoginResult.SUCCESS
+        );
+
+        this.chameleon.getEventBus().dispatch(chameleonEvent);
+        chameleonEvent.complete(this.chameleon.getInternalLogger()).join();
+        if (chameleonEvent.isCancelled()) {
+            event.disAllow(LegacyComponentSerializer.legacySection().serialize(chameleonEvent.getCancelReason()));
+        }
+    }
+
     /**
      * Platform user connect event handler.
      *
      * @param event Platform event.
      */
-    @EventHandler
     public void onPlayerJoinEvent(@NotNull PlayerJoinEvent event) {
+        if (!this.chameleon.getEventBus().subscribed(UserConnectEvent.class)) {
+            return;
+        }
+
         ServerUser user = this.chameleon.getUserManager().wrap(event.getPlayer());
         UserConnectEvent chameleonEvent = new UserConnectEvent(user, false);
 
@@ -78,21 +159,28 @@ public final class NukkitListener implements Listener {
      *
      * @param event Platform event.
      */
-    @EventHandler
     public void onPlayerChatEvent(@NotNull PlayerChatEvent event) {
-        UserChatEvent chameleonEvent = new UserChatEvent(
+        if (!this.chameleon.getEventBus().subscribed(UserChatEvent.class)) {
+            return;
+        }
+
+        UserChatEvent chameleonEvent = this.chameleon.getEventBus().getUserChatEventPool().acquire(
             this.chameleon.getUserManager().wrap(event.getPlayer()),
             event.getMessage(), event.isCancelled(),
             true, true
         );
-        this.chameleon.getEventBus().dispatch(chameleonEvent);
+        try {
+            this.chameleon.getEventBus().dispatch(chameleonEvent);
 
-        if (!event.getMessage().equals(chameleonEvent.getMessage())) {
-            event.setMessage(chameleonEvent.getMessage());
-        }
+            if (!event.getMessage().equals(chameleonEvent.getMessage())) {
+                event.setMessage(chameleonEvent.getMessage());
+            }
 
-        if (chameleonEvent.isCancelled()) {
-            event.setCancelled(true);
+            if (chameleonEvent.isCancelled()) {
+                event.setCancelled(true);
+            }
+        } finally {
+            this.chameleon.getEventBus().getUserChatEventPool().release(chameleonEvent);
         }
     }
 
@@ -101,8 +189,11 @@ public final class NukkitListener implements Listener {
      *
      * @param event Platform event.
      */
-    @EventHandler
     public void onPlayerQuitEvent(@NotNull PlayerQuitEvent event) {
+        if (!this.chameleon.getEventBus().subscribed(UserDisconnectEvent.class)) {
+            return;
+        }
+
         this.chameleon.getEventBus().dispatch(new UserDisconnectEvent(
             this.chameleon.getUserManager().wrap(event.getPlayer())
         ));
@@ -113,12 +204,24 @@ public final class NukkitListener implements Listener {
      *
      * @param event Platform event.
      */
-    @EventHandler
     public void onPlayerKickEvent(@NotNull PlayerKickEvent event) {
+        if (!this.chameleon.getEventBus().subscribed(ServerUserKickEvent.class)) {
+            return;
+        }
+
         this.chameleon.getEventBus().dispatch(new ServerUserKickEvent(
             this.chameleon.getUserManager().wrap(event.getPlayer()),
             LegacyComponentSerializer.legacySection().deserialize(event.getReason())
         ));
     }
 
+    private static @Nullable InetAddress parseAddress(@NotNull String address) {
+        try {
+            // Nukkit provides the IP address literal, so this never performs a lookup.
+            return InetAddress.getByName(address);
+        } catch (UnknownHostException ex) {
+            return null;
+        }
+    }
+
 }
@@ -68,4 +68,9 @@ public final class NukkitScheduler extends Scheduler {
         return handler::cancel;
     }
 
+    @Override
+    protected boolean isSyncThread() {
+        return Server.getInstance().isPrimaryThread();
+    }
+
 }
@@ -45,7 +45,6 @@ import dev.hypera.chameleon.scheduler.Scheduler;
 import java.nio.file.Path;
 import org.jetbrains.annotations.ApiStatus.Internal;
 import org.jetbrains.annotations.NotNull;
-import org.spongepowered.api.Sponge;
 
 /**
  * Sponge Chameleon implementation.
@@ -96,10 +95,19 @@ public final class SpongeChameleon extends PlatformChameleon<SpongePlugin> {
         } catch (ReflectiveOperationException ex) {
             throw new ChameleonReflectiveException(ex);
         }
-        Sponge.eventManager().registerListeners(this.plugin.getPluginContainer(), this.listener);
+        this.listener.register(this.plugin.getPluginContainer());
         super.onLoad();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onDisable() {
+        this.listener.unregister();
+        super.onDisable();
+    }
+
     /**
      * Get stored Adventure mapper instance.
      *
@@ -34,12 +34,14 @@ import org.jetbrains.annotations.ApiStatus.Internal;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.spongepowered.api.event.message.PlayerChatEvent;
+import org.spongepowered.api.event.network.ServerSideConnectionEvent;
 
 @Internal
 final class EventReflection {
 
     private final @NotNull ComponentMapper componentMapper;
     private @Nullable Method playerChatEventSetMessageMethod;
+    private @Nullable Method authEventSetMessageMethod;
 
     EventReflection(@NotNull ComponentMapper componentMapper) {
         this.componentMapper = componentMapper;
@@ -48,9 +50,9 @@ final class EventReflection {
     void load() {
         Preconditions.checkState(!isLoaded(), "EventReflection has already been loaded");
         try {
-            this.playerChatEventSetMessageMethod = PlayerChatEvent.class.getMethod(
-                "setMessage", Class.forName(AdventureMapper.ORIGINAL_COMPONENT_CLASS_NAME)
-            );
+            Class<?> componentClass = Class.forName(AdventureMapper.ORIGINAL_COMPONENT_CLASS_NAME);
+            this.playerChatEventSetMessageMethod = PlayerChatEvent.class.getMethod("setMessage", componentClass);
+            this.authEventSetMessageMethod = ServerSideConnectionEvent.Auth.class.getMethod("setMessage", componentClass);
         } catch (ReflectiveOperationException ex) {
             throw new ChameleonReflectiveException(ex);
         }
@@ -58,7 +60,8 @@ final class EventReflection {
 
     boolean isLoaded() {
         return this.componentMapper.isLoaded() &&
-            this.playerChatEventSetMessageMethod != null;
+            this.playerChatEventSetMessageMethod != null &&
+            this.authEventSetMessageMethod != null;
     }
 
     void setPlayerChatEventMessage(@NotNull PlayerChatEvent event, @NotNull Component component) {
@@ -73,4 +76,16 @@ final class EventReflection {
         }
     }
 
+    void setAuthEventMessage(@NotNull ServerSideConnectionEvent.Auth event, @NotNull Component component) {
+        Preconditions.checkState(isLoaded(), "EventReflection has not been loaded");
+        try {
+            Objects.requireNonNull(this.authEventSetMessageMethod)
+                .invoke(event, this.componentMapper.map(component));
+        } catch (ReflectiveOperationException ex) {
+            throw ChameleonReflectiveException.createMethodInvocationFailure(
+                Objects.requireNonNull(this.authEventSetMessageMethod), event, ex
+            );
+        }
+    }
+
 }
@@ -23,6 +23,9 @@
  */
 package dev.hypera.chameleon.platform.sponge.event;
 
+import dev.hypera.chameleon.event.ChameleonEvent;
+import dev.hypera.chameleon.event.EventSubscription;
+import dev.hypera.chameleon.event.common.AsyncUserPreLoginEvent;
 import dev.hypera.chameleon.event.common.UserChatEvent;
 import dev.hypera.chameleon.event.common.UserConnectEvent;
 import dev.hypera.chameleon.event.common.UserDisconnectEvent;
@@ -31,24 +34,35 @@ import dev.hypera.chameleon.exception.reflection.ChameleonReflectiveException;
 import dev.hypera.chameleon.platform.sponge.SpongeChameleon;
 import dev.hypera.chameleon.user.ServerUser;
 import dev.hypera.chameleon.util.PlatformEventUtil;
+import java.util.ArrayList;
+import java.util.List;
 import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
 import org.jetbrains.annotations.ApiStatus.Internal;
 import org.jetbrains.annotations.NotNull;
+import org.spongepowered.api.Sponge;
 import org.spongepowered.api.entity.living.player.Player;
 import org.spongepowered.api.entity.living.player.server.ServerPlayer;
-import org.spongepowered.api.event.Listener;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.EventListener;
+import org.spongepowered.api.event.EventListenerRegistration;
+import org.spongepowered.api.event.Order;
 import org.spongepowered.api.event.entity.living.player.KickPlayerEvent;
 import org.spongepowered.api.event.message.PlayerChatEvent;
 import org.spongepowered.api.event.network.ServerSideConnectionEvent;
+import org.spongepowered.plugin.PluginContainer;
 
 /**
  * Sponge listener.
+ * <p>Platform event handlers are only registered while the Chameleon events they dispatch have
+ * subscribers.</p>
  */
 @Internal
 public final class SpongeListener {
 
     private final @NotNull SpongeChameleon chameleon;
     private final @NotNull EventReflection eventReflection;
+    private final @NotNull List<EventSubscription> watches = new ArrayList<>();
+    private final @NotNull List<EventListener<?>> handlers = new ArrayList<>();
 
     /**
      * Sponge listener constructor.
@@ -69,13 +83,82 @@ public final class SpongeListener {
         this.eventReflection.load();
     }
 
+    /**
+     * Register the platform event handlers, each handler is registered with Sponge while the
+     * Chameleon event it dispatches has subscribers.
+     *
+     * @param plugin Plugin container to register the handlers for.
+     */
+    public void register(@NotNull PluginContainer plugin) {
+        registerHandler(plugin, AsyncUserPreLoginEvent.class, ServerSideConnectionEvent.Auth.class, this::onAuthEvent);
+        registerHandler(plugin, UserConnectEvent.class, ServerSideConnectionEvent.Join.class, this::onJoinEvent);
+        registerHandler(plugin, UserChatEvent.class, PlayerChatEvent.class, this::onChatEvent);
+        registerHandler(plugin, UserDisconnectEvent.class, ServerSideConnectionEvent.Disconnect.class, this::onDisconnectEvent);
+        registerHandler(plugin, ServerUserKickEvent.class, KickPlayerEvent.class, this::onKickEvent);
+    }
+
+    /**
+     * Unregister all platform event handlers.
+     */
+    public void unregister() {
+        this.watches.forEach(EventSubscription::unsubscribe);
+        this.watches.clear();
+        this.handlers.forEach(Sponge.eventManager()::unregisterListeners);
+        this.handlers.clear();
+    }
+
+    private <T extends Event> void registerHandler(@NotNull PluginContainer plugin, @NotNull Class<? extends ChameleonEvent> chameleonEvent, @NotNull Class<T> platformEvent, @NotNull EventListener<T> handler) {
+        this.handlers.add(handler);
+        this.watches.add(this.chameleon.getEventBus().watch(chameleonEvent, subscribed -> {
+            if (subscribed) {
+                Sponge.eventManager().registerListener(EventListenerRegistration.builder(platformEvent)
+                    .plugin(plugin)
+                    .listener(handler)
+                    .order(Order.DEFAULT)
+                    .build());
+            } else {
+                Sponge.eventManager().unregisterListeners(handler);
+            }
+        }));
+    }
+
+    /**
+     * Platform asynchronous user pre-login event handler.
+     * <p>Sponge dispatches this event asynchronously and lets it block, so the subscriber tasks
+     * are waited for here.</p>
+     *
+     * @param event Platform event.
+     */
+    public void onAuthEvent(@NotNull ServerSideConnectionEvent.Auth event) {
+        if (!this.chameleon.getEventBus().subscribed(AsyncUserPreLoginEvent.class)) {
+            return;
+        }
+
+        AsyncUserPreLoginEvent chameleonEvent = new AsyncUserPreLoginEvent(
+            event.profile().uniqueId(),
+            event.profile().name().orElse(""),
+            event.connection().address().getAddress(),
+            event.isCancelled()
+        );
+
+        this.chameleon.getEventBus().dispatch(chameleonEvent);
+        chameleonEvent.complete(this.chameleon.getInternalLogger()).join();
+        if (chameleonEvent.isCancelled()) {
+            this.eventReflection.setAuthEventMessage(event, chameleonEvent.getCancelReason());
+            event.setCancelled(true);
+        }
+    }
+
     /**
      * Platform user connect event handler.
      *
      * @param event Platform event.
      */
-    @Listener
     public void onJoinEvent(@NotNull ServerSideConnectionEvent.Join event) {
+        if (!this.chameleon.getEventBus().subscribed(UserConnectEvent.class)) {
+            return;
+        }
+
         ServerUser user = this.chameleon.getUserManager().wrap(event.player());
         UserConnectEvent chameleonEvent = new UserConnectEvent(user, false);
 
@@ -90,8 +173,11 @@ public final class SpongeListener {
      *
      * @param event Platform event.
      */
-    @Listener
     public void onChatEvent(@NotNull PlayerChatEvent event) {
+        if (!this.chameleon.getEventBus().subscribed(UserChatEvent.class)) {
+            return;
+        }
+
         ServerPlayer sender = (ServerPlayer) event.cause().first(Player.class).orElse(null);
         if (sender != null) {
             String serialized;
@@ -104,22 +190,26 @@ public final class SpongeListener {
                 throw new ChameleonReflectiveException(ex);
             }
 
-            UserChatEvent chameleonEvent = new UserChatEvent(
+            UserChatEvent chameleonEvent = this.chameleon.getEventBus().getUserChatEventPool().acquire(
                 this.chameleon.getUserManager().wrap(sender),
                 serialized, false,
                 false, true
             );
-            this.chameleon.getEventBus().dispatch(chameleonEvent);
+            try {
+                this.chameleon.getEventBus().dispatch(chameleonEvent);
 
-            if (!serialized.equals(chameleonEvent.getMessage())) {
-                this.eventReflection.setPlayerChatEventMessage(
-                    event, LegacyComponentSerializer.legacySection()
-                        .deserialize(chameleonEvent.getMessage())
-                );
-            }
+                if (!serialized.equals(chameleonEvent.getMessage())) {
+                    this.eventReflection.setPlayerChatEventMessage(
+                        event, LegacyComponentSerializer.legacySection()
+                            .deserialize(chameleonEvent.getMessage())
+                    );
+                }
 
-            if (chameleonEvent.isCancelled()) {
-                PlatformEventUtil.logChatCancellationFailure(this.chameleon.getInternalLogger());
+                if (chameleonEvent.isCancelled()) {
+                    PlatformEventUtil.logChatCancellationFailure(this.chameleon.getInternalLogger());
+                }
+            } finally {
+                this.chameleon.getEventBus().getUserChatEventPool().release(chameleonEvent);
             }
         }
     }
@@ -129,8 +219,11 @@ public final class SpongeListener {
      *
      * @param event Platform event.
      */
-    @Listener
     public void onDisconnectEvent(@NotNull ServerSideConnectionEvent.Disconnect event) {
+        if (!this.chameleon.getEventBus().subscribed(UserDisconnectEvent.class)) {
+            return;
+        }
+
         this.chameleon.getEventBus().dispatch(new UserDisconnectEvent(
             this.chameleon.getUserManager().wrap(event.player())));
     }
@@ -140,8 +233,11 @@ public final class SpongeListener {
      *
      * @param event Platform event.
      */
-    @Listener
     public void onKickEvent(@NotNull KickPlayerEvent event) {
+        if (!this.chameleon.getEventBus().subscribed(ServerUserKickEvent.class)) {
+            return;
+        }
+
         try {
             this.chameleon.getEventBus().dispatch(new ServerUserKickEvent(
                 this.chameleon.getUserManager().wrap(event.player()), event.message() == null ? null :
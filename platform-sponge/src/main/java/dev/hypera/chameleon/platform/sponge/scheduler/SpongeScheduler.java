@@ -69,4 +69,10 @@ public final class SpongeScheduler extends Scheduler {
         return scheduleAsyncTask(task, delay, repeat);
     }
 
+    @Override
+    protected boolean isSyncThread() {
+        // The server is not available until it has started.
+        return Sponge.isServerAvailable() && Sponge.server().onMainThread();
+    }
+
 }
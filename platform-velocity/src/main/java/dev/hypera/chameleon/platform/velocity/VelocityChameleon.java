@@ -58,6 +58,7 @@ public final class VelocityChameleon extends PlatformChameleon<VelocityPlugin> {
     private final @NotNull VelocityPluginManager pluginManager = new VelocityPluginManager(this);
     private final @NotNull VelocityScheduler scheduler = new VelocityScheduler(this);
     private final @NotNull VelocityUserManager userManager = new VelocityUserManager(this);
+    private final @NotNull VelocityListener listener = new VelocityListener(this);
 
     @Internal
     VelocityChameleon(
@@ -107,10 +108,20 @@ public final class VelocityChameleon extends PlatformChameleon<VelocityPlugin> {
      */
     @Override
     public void onEnable() {
-        this.plugin.getServer().getEventManager().register(this.plugin, new VelocityListener(this));
+        this.listener.load();
+        this.listener.register(this.plugin, this.plugin.getServer().getEventManager());
         super.onEnable();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onDisable() {
+        this.listener.unregister(this.plugin, this.plugin.getServer().getEventManager());
+        super.onDisable();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -23,14 +23,22 @@
  */
 package dev.hypera.chameleon.platform.velocity.event;
 
-import com.velocitypowered.api.event.Subscribe;
+import com.velocitypowered.api.event.AwaitingEventExecutor;
+import com.velocitypowered.api.event.EventHandler;
+import com.velocitypowered.api.event.EventManager;
+import com.velocitypowered.api.event.EventTask;
 import com.velocitypowered.api.event.connection.DisconnectEvent;
+import com.velocitypowered.api.event.connection.LoginEvent;
 import com.velocitypowered.api.event.connection.PostLoginEvent;
 import com.velocitypowered.api.event.player.PlayerChatEvent;
 import com.velocitypowered.api.event.player.PlayerChatEvent.ChatResult;
 import com.velocitypowered.api.event.player.ServerConnectedEvent;
 import com.velocitypowered.api.network.ProtocolVersion;
+import com.velocitypowered.api.proxy.Player;
 import com.velocitypowered.api.proxy.server.RegisteredServer;
+import dev.hypera.chameleon.event.ChameleonEvent;
+import dev.hypera.chameleon.event.EventSubscription;
+import dev.hypera.chameleon.event.common.AsyncUserPreLoginEvent;
 import dev.hypera.chameleon.event.common.UserChatEvent;
 import dev.hypera.chameleon.event.common.UserConnectEvent;
 import dev.hypera.chameleon.event.common.UserDisconnectEvent;
@@ -40,16 +48,24 @@ import dev.hypera.chameleon.platform.velocity.VelocityChameleon;
 import dev.hypera.chameleon.platform.velocity.platform.objects.VelocityServer;
 import dev.hypera.chameleon.user.User;
 import dev.hypera.chameleon.util.PlatformEventUtil;
+import java.util.ArrayList;
+import java.util.List;
 import org.jetbrains.annotations.ApiStatus.Internal;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Velocity listener.
+ * <p>Platform event handlers are only registered while the Chameleon events they dispatch have
+ * subscribers.</p>
  */
 @Internal
 public final class VelocityListener {
 
     private final @NotNull VelocityChameleon chameleon;
+    private final @NotNull EventReflection eventReflection;
+    private final @NotNull List<EventSubscription> watches = new ArrayList<>();
+    private final @NotNull List<EventHandler<?>> handlers = new ArrayList<>();
 
     /**
      * Velocity constructor.
@@ -59,6 +75,86 @@ public final class VelocityListener {
     @Internal
     public VelocityListener(@NotNull VelocityChameleon chameleon) {
         this.chameleon = chameleon;
+        this.eventReflection = new EventReflection(chameleon.getAdventureMapper()
+            .getComponentMapper());
+    }
+
+    /**
+     * Load reflection utilities.
+     */
+    public void load() {
+        this.eventReflection.load();
+    }
+
+    /**
+     * Register the platform event handlers, each handler is registered with Velocity while the
+     * Chameleon event it dispatches has subscribers.
+     *
+     * @param plugin       Plugin to register the handlers for.
+     * @param eventManager Velocity event manager.
+     */
+    public void register(@NotNull Object plugin, @NotNull EventManager eventManager) {
+        registerHandler(plugin, eventManager, AsyncUserPreLoginEvent.class, LoginEvent.class, (AwaitingEventExecutor<LoginEvent>) this::onLoginEvent);
+        registerHandler(plugin, eventManager, UserConnectEvent.class, PostLoginEvent.class, this::onPostLoginEvent);
+        registerHandler(plugin, eventManager, UserChatEvent.class, PlayerChatEvent.class, this::onChatEvent);
+        registerHandler(plugin, eventManager, UserDisconnectEvent.class, DisconnectEvent.class, this::onPlayerDisconnectEvent);
+        registerHandler(plugin, eventManager, ProxyUserSwitchEvent.class, ServerConnectedEvent.class, this::onServerSwitchEvent);
+    }
+
+    /**
+     * Unregister all platform event handlers.
+     * <p>Only the handlers registered by this class are unregistered, listeners registered by the
+     * plugin itself are left untouched.</p>
+     *
+     * @param plugin       Plugin the handlers were registered for.
+     * @param eventManager Velocity event manager.
+     */
+    public void unregister(@NotNull Object plugin, @NotNull EventManager eventManager) {
+        this.watches.forEach(EventSubscription::unsubscribe);
+        this.watches.clear();
+        this.handlers.forEach(handler -> eventManager.unregister(plugin, handler));
+        this.handlers.clear();
+    }
+
+    private <T> void registerHandler(@NotNull Object plugin, @NotNull EventManager eventManager, @NotNull Class<? extends ChameleonEvent> chameleonEvent, @NotNull Class<T> platformEvent, @NotNull EventHandler<T> handler) {
+        this.handlers.add(handler);
+        this.watches.add(this.chameleon.getEventBus().watch(chameleonEvent, subscribed -> {
+            if (subscribed) {
+                eventManager.register(plugin, platformEvent, handler);
+            } else {
+                eventManager.unregister(plugin, handler);
+            }
+        }));
+    }
+
+    /**
+     * Platform asynchronous user pre-login event handler.
+     * <p>The login is resumed by Velocity once the subscriber tasks have completed, without
+     * blocking an event thread.</p>
+     *
+     * @param event Platform event.
+     *
+     * @return event task, or {@code null} if there are no subscribers.
+     */
+    public @Nullable EventTask onLoginEvent(@NotNull LoginEvent event) {
+        if (!this.chameleon.getEventBus().subscribed(AsyncUserPreLoginEvent.class)) {
+            return null;
+        }
+
+        Player player = event.getPlayer();
+        AsyncUserPreLoginEvent chameleonEvent = new AsyncUserPreLoginEvent(
+            player.getUniqueId(), player.getUsername(),
+            player.getRemoteAddress().getAddress(),
+            !event.getResult().isAllowed()
+        );
+
+        this.chameleon.getEventBus().dispatch(chameleonEvent);
+        return EventTask.resumeWhenComplete(chameleonEvent.complete(this.chameleon.getInternalLogger())
+            .thenAccept(completed -> {
+                if (completed.isCancelled()) {
+                    event.setResult(this.eventReflection.createDeniedComponentResult(completed.getCancelReason()));
+                }
+            }));
     }
 
     /**
@@ -66,8 +162,11 @@ public final class VelocityListener {
      *
      * @param event Platform event.
      */
-    @Subscribe
     public void onPostLoginEvent(@NotNull PostLoginEvent event) {
+        if (!this.chameleon.getEventBus().subscribed(UserConnectEvent.class)) {
+            return;
+        }
+
         User user = this.chameleon.getUserManager().wrap(event.getPlayer());
         UserConnectEvent chameleonEvent = new UserConnectEvent(user, false);
 
@@ -82,34 +181,41 @@ public final class VelocityListener {
      *
      * @param event Platform event.
      */
-    @Subscribe
     public void onChatEvent(@NotNull PlayerChatEvent event) {
+        if (!this.chameleon.getEventBus().subscribed(UserChatEvent.class)) {
+            return;
+        }
+
         boolean immutable = event.getPlayer().getProtocolVersion()
             .compareTo(ProtocolVersion.MINECRAFT_1_19_1) >= 0;
-        UserChatEvent chameleonEvent = new UserChatEvent(
+        UserChatEvent chameleonEvent = this.chameleon.getEventBus().getUserChatEventPool().acquire(
             this.chameleon.getUserManager().wrap(event.getPlayer()),
             event.getMessage(),
             !event.getResult().isAllowed(),
             immutable, immutable
         );
-        this.chameleon.getEventBus().dispatch(chameleonEvent);
+        try {
+            this.chameleon.getEventBus().dispatch(chameleonEvent);
 
-        // Event message modification
-        if (!event.getMessage().equals(chameleonEvent.getMessage())) {
-            if (immutable) {
-                PlatformEventUtil.logChatModificationFailure(this.chameleon.getInternalLogger());
-                return;
+            // Event message modification
+            if (!event.getMessage().equals(chameleonEvent.getMessage())) {
+                if (immutable) {
+                    PlatformEventUtil.logChatModificationFailure(this.chameleon.getInternalLogger());
+                    return;
+                }
+                event.setResult(ChatResult.message(chameleonEvent.getMessage()));
             }
-            event.setResult(ChatResult.message(chameleonEvent.getMessage()));
-        }
 
-        // Event cancellation
-        if (chameleonEvent.isCancelled() && event.getResult().isAllowed()) {
-            if (immutable) {
-                PlatformEventUtil.logChatCancellationFailure(this.chameleon.getInternalLogger());
-                return;
+            // Event cancellation
+            if (chameleonEvent.isCancelled() && event.getResult().isAllowed()) {
+                if (immutable) {
+                    PlatformEventUtil.logChatCancellationFailure(this.chameleon.getInternalLogger());
+                    return;
+                }
+                event.setResult(ChatResult.denied());
             }
-            event.setResult(ChatResult.denied());
+        } finally {
+            this.chameleon.getEventBus().getUserChatEventPool().release(chameleonEvent);
         }
     }
 
@@ -118,8 +224,11 @@ public final class VelocityListener {
      *
      * @param event Platform event.
      */
-    @Subscribe
     public void onPlayerDisconnectEvent(@NotNull DisconnectEvent event) {
+        if (!this.chameleon.getEventBus().subscribed(UserDisconnectEvent.class)) {
+            return;
+        }
+
         this.chameleon.getEventBus().dispatch(new UserDisconnectEvent(
             this.chameleon.getUserManager().wrap(event.getPlayer())));
     }
@@ -129,8 +238,11 @@ public final class VelocityListener {
      *
      * @param event Platform event.
      */
-    @Subscribe
     public void onServerSwitchEvent(@NotNull ServerConnectedEvent event) {
+        if (!this.chameleon.getEventBus().subscribed(ProxyUserSwitchEvent.class)) {
+            return;
+        }
+
         this.chameleon.getEventBus().dispatch(new ProxyUserSwitchEvent(
             this.chameleon.getUserManager().wrap(event.getPlayer()),
             event.getPreviousServer().map(this::wrap).orElse(null),
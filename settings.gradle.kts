@@ -38,6 +38,7 @@ rootProject.name = "chameleon-parent"
 
 sequenceOf(
     "api",
+    "benchmarks",
     "bom",
     "annotations",
     "example",